@@ -7,14 +7,19 @@ NAOS AI Server
 - GET  /health
 - POST /api/whisper/transcribe        (기본 전사)
 - POST /api/whisper/transcribe-save   (전사 + Spring 저장)
+- POST /api/whisper/transcribe-stream (청크 단위 NDJSON 스트리밍 전사)
 - POST /api/gpt/cost-analysis
+- POST /api/gpt/cost-analysis/batch   (여러 레시피 한 번에)
 """
 
-from flask import Flask, request, jsonify
+from flask import Flask, request, jsonify, Response, stream_with_context
 from flask_cors import CORS
 from dotenv import load_dotenv
 import os
+import json
 import time
+import traceback
+from concurrent.futures import ThreadPoolExecutor
 import requests as http_requests
 
 # 환경변수 로드
@@ -34,6 +39,14 @@ gpt_service = GptService()
 # Spring 서버 URL (환경변수 또는 기본값)
 SPRING_BASE_URL = os.getenv('SPRING_BASE_URL', 'http://localhost:8090')
 
+# 배치 분석 설정 (요청당 최대 건수, 동시 GPT 호출 수)
+GPT_BATCH_MAX_ITEMS = int(os.getenv('GPT_BATCH_MAX_ITEMS', 32))
+GPT_BATCH_WORKERS = int(os.getenv('GPT_BATCH_WORKERS', 4))
+
+# 스트리밍 전사 청크 길이 (초)
+WHISPER_STREAM_CHUNK_SECONDS = int(os.getenv('WHISPER_STREAM_CHUNK_SECONDS', 60))
+gpt_batch_executor = ThreadPoolExecutor(max_workers=GPT_BATCH_WORKERS)
+
 
 @app.route('/health', methods=['GET'])
 def health_check():
@@ -99,6 +112,45 @@ def transcribe():
         return jsonify({"error": str(e)}), 500
 
 
+@app.route('/api/whisper/transcribe-stream', methods=['POST'])
+def transcribe_stream():
+    """
+    Whisper STT (스트리밍) - 청크 단위로 전사하며 세그먼트를 NDJSON으로 바로 전송
+    
+    Request:
+        {
+            "videoUrl": "https://s3.../video.mp4",
+            "language": "ko"
+        }
+    
+    Response (application/x-ndjson, 한 줄에 이벤트 1개):
+        {"type": "meta", "duration": 120.5}
+        {"type": "segment", "index": 0, "start": 0.0, "end": 5.2, "text": "안녕하세요"}
+        ...
+        {"type": "end", "segmentCount": 30, "duration": 120.5, "language": "ko", "noSpeech": false}
+        
+        처리 중 오류 → {"type": "error", "message": "..."} 후 종료
+    """
+    data = request.get_json() or {}
+    video_url = data.get('videoUrl')
+    language = data.get('language', 'ko')
+    
+    if not video_url:
+        return jsonify({"error": "videoUrl이 필요합니다."}), 400
+    
+    def generate():
+        try:
+            for event in whisper_service.transcribe_url_stream(video_url, WHISPER_STREAM_CHUNK_SECONDS):
+                if event.get('type') == 'end':
+                    event['language'] = language
+                yield json.dumps(event, ensure_ascii=False) + "\n"
+        except Exception as e:
+            traceback.print_exc()
+            yield json.dumps({"type": "error", "message": str(e)}, ensure_ascii=False) + "\n"
+    
+    return Response(stream_with_context(generate()), mimetype='application/x-ndjson')
+
+
 @app.route('/api/whisper/transcribe-save', methods=['POST'])
 def transcribe_and_save():
     """
@@ -276,62 +328,7 @@ def analyze_cost():
         if not data:
             return jsonify({"error": "레시피 데이터가 필요합니다."}), 400
         
-        # Spring 형식 → 내부 형식 변환
-        ingredients = []
-        total_price = 0
-        
-        for ing in data.get('ingredients', []) or []:
-            price = ing.get('estimatedPrice', 0) or 0
-            total_price += price
-            ingredients.append({
-                "name": ing.get('name', ''),
-                "amount": f"{ing.get('quantity', '')} {ing.get('unit', '')}".strip(),
-                "price": price
-            })
-        
-        internal_request = {
-            "recipe_id": data.get('recipeId'),
-            "title": data.get('title', '레시피'),
-            "ingredients": ingredients,
-            "cook_time_min": data.get('cookingTimeMinutes', 0),
-            "servings": 1,
-            "kcal_estimate": data.get('caloriesPerServing', 0),
-            "difficulty": data.get('difficulty')
-        }
-        
-        # ⭐ 변경: analyze_cost_efficiency → analyze_recipe_full
-        # 가성비 + 영양 정보를 한 번에 분석
-        result = gpt_service.analyze_recipe_full(internal_request)
-        
-        # cost_efficiency 추출
-        cost_efficiency = result.get('cost_efficiency', {})
-        breakdown = cost_efficiency.get('breakdown', {})
-        
-        # nutrition 추출 (snake_case → camelCase 변환)
-        nutrition_raw = result.get('nutrition', {})
-        
-        # Spring CostAnalysisResult 형식으로 변환
-        response = {
-            "recipeId": data.get('recipeId'),
-            "overallScore": cost_efficiency.get('score', 0),
-            "breakdown": {
-                "priceEfficiency": breakdown.get('price_efficiency', 0),
-                "timeEfficiency": breakdown.get('time_efficiency', 0),
-                "nutritionBalance": breakdown.get('nutrition_balance', 0),
-                "ingredientAccessibility": breakdown.get('accessibility', 0)
-            },
-            "estimatedTotalCost": cost_efficiency.get('estimated_total_price', total_price),
-            "comment": cost_efficiency.get('summary', ''),
-            # ⭐ 추가: 영양 정보 (camelCase로 변환)
-            "nutrition": {
-                "kcalEstimate": nutrition_raw.get('kcal_estimate', 0),
-                "proteinG": nutrition_raw.get('protein_g', 0),
-                "carbsG": nutrition_raw.get('carbs_g', 0),
-                "fatG": nutrition_raw.get('fat_g', 0),
-                "fiberG": nutrition_raw.get('fiber_g', 0),
-                "sodiumMg": nutrition_raw.get('sodium_mg', 0)
-            }
-        }
+        response = _analyze_cost_item(data)
         
         # 디버깅 로그
         print(f"[DEBUG] Flask 응답: overallScore={response['overallScore']}")
@@ -341,11 +338,125 @@ def analyze_cost():
         return jsonify(response)
         
     except Exception as e:
-        import traceback
         traceback.print_exc()
         return jsonify({"error": str(e)}), 500
 
 
+@app.route('/api/gpt/cost-analysis/batch', methods=['POST'])
+def analyze_cost_batch():
+    """
+    GPT 가성비 + 영양 분석 (배치) - Spring CostAnalysisBatcher가 모아서 호출
+    
+    - 항목별로 GPT를 호출하되 GPT_BATCH_WORKERS개씩 병렬 처리
+    - 결과는 요청 순서와 동일, 실패한 항목은 error 필드로 표시 (다른 항목에 영향 없음)
+    
+    Request:
+        {
+            "items": [ {CostAnalysisRequest}, ... ]
+        }
+    
+    Response:
+        {
+            "results": [
+                {CostAnalysisResult},
+                {"recipeId": 2, "error": "..."}
+            ]
+        }
+    """
+    try:
+        data = request.get_json() or {}
+        items = data.get('items') or []
+        
+        if not items:
+            return jsonify({"error": "items가 필요합니다."}), 400
+        if len(items) > GPT_BATCH_MAX_ITEMS:
+            return jsonify({"error": f"한 번에 최대 {GPT_BATCH_MAX_ITEMS}건까지 요청할 수 있습니다."}), 400
+        
+        start_time = time.time()
+        results = list(gpt_batch_executor.map(_analyze_cost_item_safe, items))
+        
+        print(f"[DEBUG] 배치 분석 완료: {len(items)}건, {round(time.time() - start_time, 2)}s")
+        
+        return jsonify({"results": results})
+        
+    except Exception as e:
+        traceback.print_exc()
+        return jsonify({"error": str(e)}), 500
+
+
+def _analyze_cost_item_safe(data: dict) -> dict:
+    """배치 항목 분석 - 예외를 항목별 error로 변환"""
+    try:
+        if not data:
+            raise ValueError("레시피 데이터가 필요합니다.")
+        return _analyze_cost_item(data)
+    except Exception as e:
+        traceback.print_exc()
+        return {"recipeId": (data or {}).get('recipeId'), "error": str(e)}
+
+
+def _analyze_cost_item(data: dict) -> dict:
+    """Spring CostAnalysisRequest 1건 → Spring CostAnalysisResult 형식"""
+    # Spring 형식 → 내부 형식 변환
+    ingredients = []
+    total_price = 0
+    
+    for ing in data.get('ingredients', []) or []:
+        price = ing.get('estimatedPrice', 0) or 0
+        total_price += price
+        ingredients.append({
+            "name": ing.get('name', ''),
+            "amount": f"{ing.get('quantity', '')} {ing.get('unit', '')}".strip(),
+            "price": price
+        })
+    
+    internal_request = {
+        "recipe_id": data.get('recipeId'),
+        "title": data.get('title', '레시피'),
+        "ingredients": ingredients,
+        "cook_time_min": data.get('cookingTimeMinutes', 0),
+        "servings": 1,
+        "kcal_estimate": data.get('caloriesPerServing', 0),
+        "difficulty": data.get('difficulty')
+    }
+    
+    # ⭐ 변경: analyze_cost_efficiency → analyze_recipe_full
+    # 가성비 + 영양 정보를 한 번에 분석
+    result = gpt_service.analyze_recipe_full(internal_request)
+    
+    # cost_efficiency 추출
+    cost_efficiency = result.get('cost_efficiency', {})
+    breakdown = cost_efficiency.get('breakdown', {})
+    
+    # nutrition 추출 (snake_case → camelCase 변환)
+    nutrition_raw = result.get('nutrition', {})
+    
+    # Spring CostAnalysisResult 형식으로 변환
+    response = {
+        "recipeId": data.get('recipeId'),
+        "overallScore": cost_efficiency.get('score', 0),
+        "breakdown": {
+            "priceEfficiency": breakdown.get('price_efficiency', 0),
+            "timeEfficiency": breakdown.get('time_efficiency', 0),
+            "nutritionBalance": breakdown.get('nutrition_balance', 0),
+            "ingredientAccessibility": breakdown.get('accessibility', 0)
+        },
+        "estimatedTotalCost": cost_efficiency.get('estimated_total_price', total_price),
+        "comment": cost_efficiency.get('summary', ''),
+        # ⭐ 추가: 영양 정보 (camelCase로 변환)
+        "nutrition": {
+            "kcalEstimate": nutrition_raw.get('kcal_estimate', 0),
+            "proteinG": nutrition_raw.get('protein_g', 0),
+            "carbsG": nutrition_raw.get('carbs_g', 0),
+            "fatG": nutrition_raw.get('fat_g', 0),
+            "fiberG": nutrition_raw.get('fiber_g', 0),
+            "sodiumMg": nutrition_raw.get('sodium_mg', 0)
+        }
+    }
+    
+    return response
+
+
 # ==================== 기존 엔드포인트 (하위 호환) ====================
 
 @app.route('/api/stt', methods=['POST'])
@@ -414,7 +525,9 @@ if __name__ == '__main__':
     ║   - GET  /health                                              ║
     ║   - POST /api/whisper/transcribe        (전사만)              ║
     ║   - POST /api/whisper/transcribe-save   (전사 + Spring 저장)  ║
+    ║   - POST /api/whisper/transcribe-stream (NDJSON 스트리밍 전사) ║
     ║   - POST /api/gpt/cost-analysis         (가성비 + 영양 분석)  ║
+    ║   - POST /api/gpt/cost-analysis/batch   (배치 분석)           ║
     ║                                                               ║
     ║   Demucs: {'✅ 활성화' if whisper_service.use_demucs else '❌ 비활성화'}                                        ║
     ║   Spring URL: {SPRING_BASE_URL}                     ║
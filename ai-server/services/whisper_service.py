@@ -93,6 +93,113 @@ class WhisperService:
             if os.path.exists(tmp_path):
                 os.remove(tmp_path)
     
+    def transcribe_url_stream(self, url: str, chunk_seconds: int = 60):
+        """
+        URL에서 파일 다운로드 후 청크 단위로 전사 (제너레이터)
+        
+        오디오를 chunk_seconds 길이로 나눠 순서대로 Whisper를 호출하고,
+        청크가 끝날 때마다 해당 세그먼트를 바로 내보냄 (시간은 영상 기준으로 보정)
+        
+        Yields:
+            {"type": "meta", "duration": 120.5}
+            {"type": "segment", "index": 0, "start": 0.0, "end": 5.2, "text": "..."}
+            {"type": "end", "segmentCount": 30, "duration": 120.5, "noSpeech": false}
+        """
+        response = requests.get(url, stream=True, timeout=300)
+        response.raise_for_status()
+        
+        suffix = self._get_suffix_from_url(url)
+        
+        with tempfile.NamedTemporaryFile(delete=False, suffix=suffix) as tmp:
+            for chunk in response.iter_content(chunk_size=8192):
+                tmp.write(chunk)
+            tmp_path = tmp.name
+        
+        audio_path = None
+        demucs_output_dir = None
+        chunk_dir = None
+        
+        try:
+            duration = self._get_duration(tmp_path)
+            yield {"type": "meta", "duration": duration}
+            
+            # Step 1: 오디오 추출
+            audio_path = self._extract_audio(tmp_path)
+            if not audio_path:
+                raise Exception("오디오 추출 실패")
+            transcribe_path = audio_path
+            
+            # Step 2: Demucs 보컬 분리 + 보컬 에너지 체크 (전체 기준)
+            if self.use_demucs:
+                vocals_path, demucs_output_dir = self._separate_vocals_cli(audio_path)
+                if vocals_path:
+                    vocal_energy = self._check_vocal_energy(vocals_path)
+                    if vocal_energy < self.vocal_energy_threshold:
+                        print(f"    🔇 음성 없음 감지 - BGM only 영상")
+                        yield {"type": "end", "segmentCount": 0, "duration": duration, "noSpeech": True}
+                        return
+                    transcribe_path = vocals_path
+            
+            # Step 3: 청크 분할 후 순서대로 전사
+            chunk_dir = tempfile.mkdtemp(prefix='naos_chunks_')
+            chunks = self._split_audio(transcribe_path, chunk_dir, chunk_seconds)
+            
+            index = 0
+            for chunk_no, chunk_path in enumerate(chunks):
+                offset = chunk_no * chunk_seconds
+                result = self._transcribe(chunk_path)
+                
+                # 청크 단위 환각 감지 - 해당 청크만 버림
+                chunk_duration = min(chunk_seconds, duration - offset) if duration else None
+                is_hallucination, reason = self._is_likely_hallucination(result, chunk_duration)
+                if is_hallucination:
+                    print(f"    🚨 청크 {chunk_no} 환각 감지됨 - {reason}")
+                    continue
+                
+                for seg in result.get('segments', []):
+                    yield {
+                        "type": "segment",
+                        "index": index,
+                        "start": round(seg['start'] + offset, 2),
+                        "end": round(seg['end'] + offset, 2),
+                        "text": seg['text']
+                    }
+                    index += 1
+            
+            yield {"type": "end", "segmentCount": index, "duration": duration, "noSpeech": index == 0}
+            
+        finally:
+            if os.path.exists(tmp_path):
+                os.remove(tmp_path)
+            if audio_path and os.path.exists(audio_path):
+                os.remove(audio_path)
+            if demucs_output_dir and os.path.exists(demucs_output_dir):
+                shutil.rmtree(demucs_output_dir, ignore_errors=True)
+            if chunk_dir and os.path.exists(chunk_dir):
+                shutil.rmtree(chunk_dir, ignore_errors=True)
+    
+    def _split_audio(self, audio_path: str, output_dir: str, chunk_seconds: int) -> list:
+        """ffmpeg segment로 오디오를 chunk_seconds 단위로 분할 (실패 시 원본 1개)"""
+        pattern = os.path.join(output_dir, 'chunk_%04d.mp3')
+        try:
+            cmd = [
+                'ffmpeg', '-i', audio_path,
+                '-f', 'segment', '-segment_time', str(chunk_seconds),
+                '-acodec', 'libmp3lame', '-ab', '64k', '-ar', '16000', '-ac', '1',
+                '-y', pattern
+            ]
+            result = subprocess.run(cmd, capture_output=True, timeout=120)
+            chunks = sorted(
+                os.path.join(output_dir, name)
+                for name in os.listdir(output_dir)
+                if name.startswith('chunk_')
+            )
+            if result.returncode == 0 and chunks:
+                return chunks
+        except Exception as e:
+            print(f"    ⚠️ 오디오 분할 실패, 원본 사용: {e}")
+        return [audio_path]
+    
     def _process_and_transcribe(self, file_path: str) -> dict:
         """
         전체 처리 파이프라인:
@@ -14,10 +14,28 @@ java {
 	}
 }
 
+// ==================== JMH (성능 측정, src/jmh) ====================
+// me.champeau.jmh 플러그인은 의존성 jar를 풀어 단일 jar(jmhJar)로 합쳐 실행하는데,
+// Spring jar마다 있는 META-INF/spring.factories, AutoConfiguration.imports 가 겹쳐
+// 중복 파일로 jar 생성이 실패하거나 하나만 남아 컨텍스트가 뜨지 않음
+// → 소스셋만 직접 구성하고 클래스패스 그대로 org.openjdk.jmh.Main 실행 (fork JVM도 같은 클래스패스 사용)
+val jmhVersion = "1.37"
+
+val jmh by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
 configurations {
 	compileOnly {
 		extendsFrom(configurations.annotationProcessor.get())
 	}
+	named("jmhImplementation") {
+		extendsFrom(configurations.implementation.get())
+	}
+	named("jmhRuntimeOnly") {
+		extendsFrom(configurations.runtimeOnly.get())
+	}
 }
 
 repositories {
@@ -40,6 +58,9 @@ dependencies {
 	// ==================== Redis (실시간 Pub/Sub) ====================
 	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+	// ==================== Cache (로컬 L1) ====================
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	// ==================== WebSocket (실시간 통신) ====================
 	implementation("org.springframework.boot:spring-boot-starter-websocket")
 
@@ -72,8 +93,37 @@ dependencies {
 	// ==================== OAuth2 Client (소셜 로그인) ====================
 	implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
 
+	// ==================== JMH (성능 측정, src/jmh) ====================
+	"jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+	"jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+	"jmhRuntimeOnly"("com.h2database:h2")
+
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// ./gradlew jmh                                  → 전체 실행
+// ./gradlew jmh -Pjmh.includes=FeedPageBenchmark → 일부만 실행
+// 결과: build/results/jmh/results.json
+tasks.register<JavaExec>("jmh") {
+	group = "benchmark"
+	description = "JMH 벤치마크 실행 (src/jmh, bench 프로필)"
+	classpath = jmh.runtimeClasspath
+	mainClass = "org.openjdk.jmh.Main"
+
+	val resultFile = layout.buildDirectory.file("results/jmh/results.json").get().asFile
+	doFirst { resultFile.parentFile.mkdirs() }
+	args(
+		"-prof", "gc",          // 할당률 (gc.alloc.rate.norm = B/op)
+		"-bm", "avgt",
+		"-tu", "ms",
+		"-f", "1",
+		"-wi", "3",
+		"-i", "5",
+		"-rf", "json",
+		"-rff", resultFile.absolutePath,
+	)
+	providers.gradleProperty("jmh.includes").orNull?.let { args(it) }
+}
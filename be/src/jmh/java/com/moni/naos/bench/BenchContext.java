@@ -0,0 +1,124 @@
+package com.moni.naos.bench;
+
+import com.moni.naos.NaosApplication;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.user.entity.User;
+import com.moni.naos.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.function.IntConsumer;
+
+/**
+ * BenchContext - JMH 트라이얼마다 띄우는 Spring 컨텍스트 (bench 프로필, H2)
+ * - 시드 유저(seed@naos.com)는 DataInitializer가 생성
+ * - 대량 데이터는 chunk 단위 트랜잭션 + flush/clear 로 적재
+ * - Redis 필수 (application-bench.yml 참고) → 기동 전 연결 확인, 기동 후 bench DB 비움
+ */
+public class BenchContext implements AutoCloseable {
+
+    private static final String SEED_EMAIL = "seed@naos.com";
+    private static final int CHUNK_SIZE = 1000;
+
+    /** application-bench.yml의 spring.data.redis와 동일 */
+    private static final String REDIS_HOST = "localhost";
+    private static final int REDIS_PORT = 6379;
+    private static final int REDIS_CONNECT_TIMEOUT_MS = 1000;
+
+    private final ConfigurableApplicationContext context;
+    private final TransactionTemplate tx;
+    private final EntityManager em;
+
+    private BenchContext(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+    }
+
+    public static BenchContext start() {
+        checkRedis();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(NaosApplication.class)
+                .run("--spring.profiles.active=bench");
+
+        // 이전 트라이얼의 캐시/타임라인 제거 (H2는 매번 ID 1부터 → 다른 데이터가 캐시 적중으로 측정됨)
+        context.getBean(StringRedisTemplate.class).execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        return new BenchContext(context);
+    }
+
+    /**
+     * Redis 없이 기동하면 측정 경로마다 연결 타임아웃이 측정되므로 미리 실패
+     */
+    private static void checkRedis() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), REDIS_CONNECT_TIMEOUT_MS);
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "벤치마크에는 Redis가 필요합니다 (docker compose up redis): " + REDIS_HOST + ":" + REDIS_PORT, e);
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public User seedUser() {
+        return bean(UserRepository.class).findByEmail(SEED_EMAIL)
+                .orElseThrow(() -> new IllegalStateException("시드 유저가 없습니다: " + SEED_EMAIL));
+    }
+
+    /**
+     * count개를 chunk 트랜잭션으로 나눠 적재
+     * @param writer index → persist (EntityManager는 em()으로 접근)
+     */
+    public void load(int count, IntConsumer writer) {
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, count);
+            tx.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    writer.accept(i);
+                }
+                em.flush();
+                em.clear();
+            });
+        }
+    }
+
+    /** 현재 트랜잭션에 바인딩되는 공유 EntityManager */
+    public EntityManager em() {
+        return em;
+    }
+
+    public Recipe newRecipe(User author, int i) {
+        return Recipe.builder()
+                .author(author)
+                .title("벤치 레시피 " + i)
+                .caption("벤치마크용 레시피 설명 " + i)
+                .category(i % 2 == 0 ? "한식" : "양식")
+                .servings(1 + i % 4)
+                .cookTimeMin(5 + i % 60)
+                .priceEstimate(1000 + (i * 37) % 20000)
+                .kcalEstimate(200 + i % 600)
+                .difficulty(Recipe.Difficulty.values()[i % 3])
+                .costEfficiencyScore((i * 7919 % 1000) / 10.0)
+                .build();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,85 @@
+package com.moni.naos.bench;
+
+import com.moni.naos.domain.interaction.comment.dto.CommentResponse;
+import com.moni.naos.domain.interaction.comment.entity.Comment;
+import com.moni.naos.domain.interaction.comment.service.CommentService;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * CommentThreadBenchmark - 레시피 댓글 트리 조회 (CommentService.getByRecipe)
+ * - 루트 댓글 rootCount개, 각 루트마다 대댓글 repliesPerRoot개
+ */
+@State(Scope.Benchmark)
+public class CommentThreadBenchmark {
+
+    @Param({"50", "500"})
+    public int rootCount;
+
+    @Param({"5", "50"})
+    public int repliesPerRoot;
+
+    private BenchContext ctx;
+    private CommentService commentService;
+    private Long recipeId;
+    private Long viewerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchContext.start();
+        commentService = ctx.bean(CommentService.class);
+
+        viewerId = ctx.seedUser().getId();
+        EntityManager em = ctx.em();
+
+        ctx.load(1, i -> {
+            Recipe recipe = ctx.newRecipe(em.getReference(User.class, viewerId), i);
+            em.persist(recipe);
+            recipeId = recipe.getId();
+        });
+
+        ctx.load(rootCount, i -> {
+            User user = em.getReference(User.class, viewerId);
+            Recipe recipe = em.getReference(Recipe.class, recipeId);
+            Comment root = Comment.builder()
+                    .recipe(recipe)
+                    .user(user)
+                    .text("루트 댓글 " + i)
+                    .build();
+            em.persist(root);
+            for (int r = 0; r < repliesPerRoot; r++) {
+                em.persist(Comment.builder()
+                        .recipe(recipe)
+                        .user(user)
+                        .parent(root)
+                        .text("대댓글 " + i + "-" + r)
+                        .build());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public List<CommentResponse> anonymous(SqlCounters counters) {
+        counters.begin();
+        List<CommentResponse> comments = commentService.getByRecipe(recipeId);
+        counters.end();
+        return comments;
+    }
+
+    @Benchmark
+    public List<CommentResponse> withViewer(SqlCounters counters) {
+        counters.begin();
+        List<CommentResponse> comments = commentService.getByRecipe(recipeId, viewerId);
+        counters.end();
+        return comments;
+    }
+}
@@ -0,0 +1,94 @@
+package com.moni.naos.bench;
+
+import com.moni.naos.domain.feed.dto.FeedFilterRequest;
+import com.moni.naos.domain.feed.dto.FeedItemDto;
+import com.moni.naos.domain.feed.service.FeedService;
+import com.moni.naos.domain.interaction.like.entity.Like;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.entity.RecipeAsset;
+import com.moni.naos.domain.user.entity.User;
+import com.moni.naos.global.rsdata.CursorPage;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * FeedPageBenchmark - 홈 피드 한 페이지 구성 (조회 + 작성자/미디어/카운트/뷰어 플래그 보강)
+ * - 첫 페이지와 깊은 페이지(커서로 pageDepth번 이동한 위치)를 각각 측정
+ */
+@State(Scope.Benchmark)
+public class FeedPageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int recipeCount;
+
+    @Param({"RECENT", "COST_EFFICIENCY"})
+    public FeedFilterRequest.SortBy sortBy;
+
+    private static final int PAGE_DEPTH = 10;
+
+    private BenchContext ctx;
+    private FeedService feedService;
+    private Long viewerId;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchContext.start();
+        feedService = ctx.bean(FeedService.class);
+
+        User author = ctx.seedUser();
+        viewerId = author.getId();
+        EntityManager em = ctx.em();
+
+        ctx.load(recipeCount, i -> {
+            Recipe recipe = ctx.newRecipe(em.getReference(User.class, viewerId), i);
+            em.persist(recipe);
+            em.persist(RecipeAsset.builder()
+                    .recipe(recipe)
+                    .type(RecipeAsset.Type.THUMB)
+                    .url("https://bench.naos/thumb/" + i + ".jpg")
+                    .build());
+            // 뷰어 플래그 보강용 - 10개 중 1개 좋아요
+            if (i % 10 == 0) {
+                Like like = new Like();
+                like.setUser(em.getReference(User.class, viewerId));
+                like.setRecipe(recipe);
+                em.persist(like);
+            }
+        });
+
+        String cursor = null;
+        for (int page = 0; page < PAGE_DEPTH; page++) {
+            cursor = feedService.getHomeFeed(viewerId, filter(cursor)).getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public CursorPage<FeedItemDto> firstPage(SqlCounters counters) {
+        counters.begin();
+        CursorPage<FeedItemDto> page = feedService.getHomeFeed(viewerId, filter(null));
+        counters.end();
+        return page;
+    }
+
+    @Benchmark
+    public CursorPage<FeedItemDto> deepPage(SqlCounters counters) {
+        counters.begin();
+        CursorPage<FeedItemDto> page = feedService.getHomeFeed(viewerId, filter(deepCursor));
+        counters.end();
+        return page;
+    }
+
+    private FeedFilterRequest filter(String cursor) {
+        return FeedFilterRequest.builder()
+                .sortBy(sortBy)
+                .cursor(cursor)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.moni.naos.bench;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * SqlCounters - 반복(iteration)별 SQL 문 수 / 호출 수 보조 지표
+ * - 결과의 sqlStatements / calls = 호출당 SQL 수
+ * - 벤치마크는 단일 스레드 기준 (다중 스레드면 다른 스레드의 SQL도 섞임)
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class SqlCounters {
+
+    public long sqlStatements;
+    public long calls;
+
+    private long mark;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        sqlStatements = 0;
+        calls = 0;
+    }
+
+    void begin() {
+        mark = SqlStatementCounter.get();
+    }
+
+    void end() {
+        sqlStatements += SqlStatementCounter.get() - mark;
+        calls++;
+    }
+}
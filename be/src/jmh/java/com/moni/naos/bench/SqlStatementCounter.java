@@ -0,0 +1,25 @@
+package com.moni.naos.bench;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SqlStatementCounter - Hibernate가 준비한 SQL 문 수 집계
+ * - hibernate.session_factory.statement_inspector 로 등록 (application-bench.yml)
+ * - JdbcTemplate 직접 실행분은 포함되지 않음
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicLong COUNT = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.incrementAndGet();
+        return sql;
+    }
+
+    public static long get() {
+        return COUNT.get();
+    }
+}
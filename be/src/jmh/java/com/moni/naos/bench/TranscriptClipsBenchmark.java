@@ -0,0 +1,78 @@
+package com.moni.naos.bench;
+
+import com.moni.naos.domain.recipe.dto.ClipWithTextResponse;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.entity.RecipeClip;
+import com.moni.naos.domain.recipe.entity.RecipeClipSegment;
+import com.moni.naos.domain.recipe.service.TranscriptService;
+import com.moni.naos.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * TranscriptClipsBenchmark - 레시피 전체 클립 + 구간 텍스트 매핑 (TranscriptService.getClipsWithText)
+ * - 세그먼트 1개 = 2초, 클립은 전체 길이를 clipCount개로 균등 분할
+ */
+@State(Scope.Benchmark)
+public class TranscriptClipsBenchmark {
+
+    @Param({"500", "5000", "50000"})
+    public int segmentCount;
+
+    @Param({"10", "50"})
+    public int clipCount;
+
+    private static final double SEGMENT_SEC = 2.0;
+
+    private BenchContext ctx;
+    private TranscriptService transcriptService;
+    private Long recipeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchContext.start();
+        transcriptService = ctx.bean(TranscriptService.class);
+
+        User author = ctx.seedUser();
+        EntityManager em = ctx.em();
+
+        ctx.load(1, i -> {
+            Recipe recipe = ctx.newRecipe(em.getReference(User.class, author.getId()), i);
+            em.persist(recipe);
+            recipeId = recipe.getId();
+
+            double clipSec = segmentCount * SEGMENT_SEC / clipCount;
+            for (int c = 0; c < clipCount; c++) {
+                em.persist(RecipeClip.builder()
+                        .recipe(recipe)
+                        .indexOrd(c)
+                        .startSec(c * clipSec)
+                        .endSec((c + 1) * clipSec)
+                        .build());
+            }
+        });
+
+        ctx.load(segmentCount, i -> em.persist(RecipeClipSegment.builder()
+                .recipe(em.getReference(Recipe.class, recipeId))
+                .indexOrd(i)
+                .text("세그먼트 " + i + " - 재료를 넣고 중불에서 천천히 볶아주세요")
+                .startSec(i * SEGMENT_SEC)
+                .endSec((i + 1) * SEGMENT_SEC)
+                .build()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public List<ClipWithTextResponse> clipsWithText(SqlCounters counters) {
+        counters.begin();
+        List<ClipWithTextResponse> clips = transcriptService.getClipsWithText(recipeId);
+        counters.end();
+        return clips;
+    }
+}
@@ -0,0 +1,24 @@
+package com.moni.naos.domain.ai.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AiHealthProbe - 주기적 AI 서버 헬스 체크 → AiResilience 회로 상태 반영
+ * - 서버 다운 시 실제 요청이 타임아웃될 때까지 기다리지 않고 회로를 엶
+ * - 복구되면 OPEN 대기 시간과 관계없이 시험 호출 허용
+ */
+@Component
+@RequiredArgsConstructor
+public class AiHealthProbe {
+
+    private final LlmClient llmClient;
+    private final AiResilience aiResilience;
+
+    @Scheduled(fixedDelayString = "${ai.server.resilience.health-interval-ms:10000}")
+    public void probe() {
+        llmClient.healthCheckAsync()
+                .subscribe(aiResilience::onHealthCheck);
+    }
+}
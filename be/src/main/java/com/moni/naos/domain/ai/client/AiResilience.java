@@ -0,0 +1,323 @@
+package com.moni.naos.domain.ai.client;
+
+import com.moni.naos.global.exception.ApiException;
+import com.moni.naos.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * AiResilience - Flask AI 서버 호출 보호 (엔드포인트별)
+ *
+ * 1. Circuit breaker
+ *    - 연속 실패 failure-threshold회 → OPEN (open-seconds 동안 즉시 실패)
+ *    - 이후 HALF_OPEN: 시험 호출 1건만 허용 → 성공 시 CLOSED, 실패 시 다시 OPEN
+ *    - AiHealthProbe의 헬스 체크 결과도 반영 (비정상 → OPEN, 정상 → OPEN이면 HALF_OPEN)
+ * 2. Bulkhead - 동시 호출 수 제한 (초과 시 대기 없이 즉시 실패)
+ * 3. 적응형 타임아웃 - 최근 성공 지연의 백분위 × 배수 (min ~ max 범위)
+ *    - ⭐ WHISPER는 고정 타임아웃(ai.server.timeout) - 지연이 영상 길이에 비례해 짧은 영상 표본으로
+ *      줄인 타임아웃이 긴 영상을 실패 처리하고 회로까지 열게 됨 (adaptive-timeout으로 변경 가능)
+ *
+ * ⭐ LLM 배치(CostAnalysisBatcher, 최대 max-size건)는 LLM_BATCH로 분리
+ * - 단건과 지연 분포가 달라 같은 표본/타임아웃을 쓰면 배치는 타임아웃, 단건은 과도한 여유
+ * - 동시 호출 한도도 배치 수 기준 (1건 배치는 단건과 같으므로 LLM 사용)
+ *
+ * 즉시 실패는 ApiException(AI_SERVER_BUSY / AI_SERVER_UNAVAILABLE, 503)
+ * - 호출자는 재시도 가능한 실패로 처리 (작업 큐 백오프, 전사 메타 retryable)
+ * - 4xx 응답은 요청 문제이므로 실패로 세지 않음
+ */
+@Slf4j
+@Component
+public class AiResilience {
+
+    public enum Endpoint {
+        WHISPER("whisper"),
+        LLM("llm"),
+        LLM_BATCH("llm-batch");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+    }
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final Map<Endpoint, Guard> guards = new EnumMap<>(Endpoint.class);
+
+    public AiResilience(Environment env, MeterRegistry meterRegistry) {
+        int failureThreshold = env.getProperty("ai.server.resilience.failure-threshold", Integer.class, 5);
+        long openMillis = env.getProperty("ai.server.resilience.open-seconds", Long.class, 30L) * 1000;
+        int window = env.getProperty("ai.server.resilience.latency-window", Integer.class, 100);
+        double percentile = env.getProperty("ai.server.resilience.timeout-percentile", Double.class, 0.99);
+        double multiplier = env.getProperty("ai.server.resilience.timeout-multiplier", Double.class, 2.0);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            String prefix = "ai.server.resilience." + endpoint.key + ".";
+            int maxConcurrent = env.getProperty(prefix + "max-concurrent", Integer.class, switch (endpoint) {
+                case WHISPER, LLM_BATCH -> 4;
+                case LLM -> 16;
+            });
+            long minTimeout = env.getProperty(prefix + "min-timeout-ms", Long.class, switch (endpoint) {
+                case WHISPER -> 60000L;
+                case LLM -> 15000L;
+                case LLM_BATCH -> 30000L;
+            });
+            long maxTimeout = env.getProperty(prefix + "max-timeout-ms", Long.class, switch (endpoint) {
+                case WHISPER, LLM_BATCH -> 300000L;
+                case LLM -> 120000L;
+            });
+            boolean adaptive = env.getProperty(prefix + "adaptive-timeout", Boolean.class, endpoint != Endpoint.WHISPER);
+            if (!adaptive) {
+                long fixed = env.getProperty("ai.server.timeout", Long.class, maxTimeout);
+                minTimeout = fixed;
+                maxTimeout = fixed;
+            }
+
+            Guard guard = new Guard(endpoint, maxConcurrent, failureThreshold, openMillis,
+                    window, percentile, multiplier, minTimeout, maxTimeout);
+            guards.put(endpoint, guard);
+
+            Gauge.builder("naos.ai.circuit.open", guard, g -> g.state() == State.CLOSED ? 0 : 1)
+                    .tag("endpoint", endpoint.key)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 보호된 호출
+     * - 회로가 열려 있거나 동시 호출 한도 초과 시 즉시 실패
+     * - 적응형 타임아웃 적용
+     */
+    public <T> Mono<T> guard(Endpoint endpoint, Supplier<Mono<T>> call) {
+        Guard guard = guards.get(endpoint);
+        return Mono.defer(() -> {
+            ApiException rejected = guard.tryEnter();
+            if (rejected != null) {
+                return Mono.error(rejected);
+            }
+
+            long startNanos = System.nanoTime();
+            return call.get()
+                    .timeout(guard.timeout())
+                    .doOnSuccess(v -> guard.onSuccess(System.nanoTime() - startNanos))
+                    .doOnError(guard::onError)
+                    .doOnCancel(guard::releasePermission)
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    /**
+     * 보호된 스트리밍 호출
+     * - 타임아웃은 항목 간 간격에 적용, 지연 표본은 스트림 전체 소요 시간
+     */
+    public <T> Flux<T> guardMany(Endpoint endpoint, Supplier<Flux<T>> call) {
+        Guard guard = guards.get(endpoint);
+        return Flux.defer(() -> {
+            ApiException rejected = guard.tryEnter();
+            if (rejected != null) {
+                return Flux.error(rejected);
+            }
+
+            long startNanos = System.nanoTime();
+            return call.get()
+                    .timeout(guard.timeout())
+                    .doOnComplete(() -> guard.onSuccess(System.nanoTime() - startNanos))
+                    .doOnError(guard::onError)
+                    .doOnCancel(guard::releasePermission)
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    /**
+     * 호출 가능 여부 (회로 OPEN이 아니면 true)
+     */
+    public boolean isAvailable(Endpoint endpoint) {
+        return guards.get(endpoint).state() != State.OPEN;
+    }
+
+    /**
+     * 헬스 체크 결과 반영 (AiHealthProbe)
+     */
+    public void onHealthCheck(boolean healthy) {
+        guards.values().forEach(guard -> guard.onHealthCheck(healthy));
+    }
+
+    /**
+     * 즉시 실패(회로 OPEN / 동시 호출 초과) 여부 - 재시도 가능
+     */
+    public static boolean isFastFail(Throwable e) {
+        return e instanceof ApiException ae
+                && (ae.getErrorCode() == ErrorCode.AI_SERVER_UNAVAILABLE
+                || ae.getErrorCode() == ErrorCode.AI_SERVER_BUSY);
+    }
+
+    private static boolean isClientError(Throwable e) {
+        return e instanceof WebClientResponseException we && we.getStatusCode().is4xxClientError();
+    }
+
+    // ==================== 엔드포인트별 상태 ====================
+
+    private static final class Guard {
+
+        private final Endpoint endpoint;
+        private final Semaphore bulkhead;
+        private final int failureThreshold;
+        private final long openMillis;
+
+        private final long[] latencies;
+        private final double percentile;
+        private final double multiplier;
+        private final long minTimeoutMs;
+        private final long maxTimeoutMs;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        private int latencyCount;
+        private int latencyPos;
+        private volatile long timeoutMs;
+
+        Guard(Endpoint endpoint, int maxConcurrent, int failureThreshold, long openMillis,
+              int window, double percentile, double multiplier, long minTimeoutMs, long maxTimeoutMs) {
+            this.endpoint = endpoint;
+            this.bulkhead = new Semaphore(maxConcurrent);
+            this.failureThreshold = failureThreshold;
+            this.openMillis = openMillis;
+            this.latencies = new long[window];
+            this.percentile = percentile;
+            this.multiplier = multiplier;
+            this.minTimeoutMs = minTimeoutMs;
+            this.maxTimeoutMs = maxTimeoutMs;
+            this.timeoutMs = maxTimeoutMs;   // 표본이 쌓이기 전에는 최대값
+        }
+
+        synchronized State state() {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+                state = State.HALF_OPEN;
+            }
+            return state;
+        }
+
+        /**
+         * HALF_OPEN에서는 시험 호출 1건만 통과
+         */
+        synchronized boolean tryAcquirePermission() {
+            return switch (state()) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (trialInFlight) {
+                        yield false;
+                    }
+                    trialInFlight = true;
+                    yield true;
+                }
+            };
+        }
+
+        /**
+         * 회로 + bulkhead 통과 시 null, 거절 시 즉시 실패 예외
+         */
+        ApiException tryEnter() {
+            if (!tryAcquirePermission()) {
+                return new ApiException(ErrorCode.AI_SERVER_UNAVAILABLE);
+            }
+            if (!bulkhead.tryAcquire()) {
+                releasePermission();
+                return new ApiException(ErrorCode.AI_SERVER_BUSY);
+            }
+            return null;
+        }
+
+        void onError(Throwable e) {
+            if (isClientError(e)) {
+                onSuccess(-1);
+            } else {
+                onFailure(e);
+            }
+        }
+
+        synchronized void releasePermission() {
+            trialInFlight = false;
+        }
+
+        /**
+         * @param elapsedNanos 성공 지연 (4xx 등 지연 표본에서 제외할 때는 음수)
+         */
+        synchronized void onSuccess(long elapsedNanos) {
+            trialInFlight = false;
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                log.info("AI 서버 회로 닫힘: endpoint={}", endpoint);
+                state = State.CLOSED;
+            }
+            if (elapsedNanos >= 0) {
+                recordLatency(Duration.ofNanos(elapsedNanos).toMillis());
+            }
+        }
+
+        synchronized void onFailure(Throwable e) {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                open("연속 실패 " + consecutiveFailures + "회: " + e.getClass().getSimpleName());
+            }
+        }
+
+        synchronized void onHealthCheck(boolean healthy) {
+            if (!healthy) {
+                if (state != State.OPEN) {
+                    open("헬스 체크 실패");
+                } else {
+                    openedAt = System.currentTimeMillis();
+                }
+            } else if (state == State.OPEN) {
+                // 서버가 살아났으면 대기 시간과 관계없이 시험 호출 허용
+                state = State.HALF_OPEN;
+            }
+        }
+
+        private void open(String reason) {
+            if (state != State.OPEN) {
+                log.warn("AI 서버 회로 열림: endpoint={}, reason={}", endpoint, reason);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+
+        private void recordLatency(long millis) {
+            latencies[latencyPos] = millis;
+            latencyPos = (latencyPos + 1) % latencies.length;
+            latencyCount = Math.min(latencyCount + 1, latencies.length);
+
+            // 표본이 충분히 쌓인 뒤부터 타임아웃 조정
+            if (latencyCount >= Math.min(20, latencies.length)) {
+                long[] sorted = Arrays.copyOf(latencies, latencyCount);
+                Arrays.sort(sorted);
+                int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+                long adaptive = (long) (sorted[Math.max(index, 0)] * multiplier);
+                timeoutMs = Math.max(minTimeoutMs, Math.min(maxTimeoutMs, adaptive));
+            }
+        }
+
+        Duration timeout() {
+            return Duration.ofMillis(timeoutMs);
+        }
+    }
+}
@@ -2,27 +2,34 @@ package com.moni.naos.domain.ai.client;
 
 import com.moni.naos.domain.ai.dto.AsrRequest;
 import com.moni.naos.domain.ai.dto.AsrResult;
-import com.moni.naos.global.config.ExternalEndpointProperties;
-import lombok.RequiredArgsConstructor;
+import com.moni.naos.domain.ai.dto.AsrStreamEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-
 /**
  * Whisper STT 클라이언트
  * - Flask AI 서버의 /api/whisper/transcribe 호출
+ * - ⭐ transcribeAsync가 기본 경로 (스레드 점유 없음), transcribe는 워커 스레드용 블로킹 래퍼
+ * - ⭐ AiResilience(WHISPER)로 보호: 회로 OPEN/동시 전사 초과 시 즉시 ApiException(503), 적응형 타임아웃
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AsrClient {
 
-    private final WebClient aiWebClient;
-    private final ExternalEndpointProperties aiProperties;
+    private final WebClient aiWhisperWebClient;
+    private final AiResilience aiResilience;
+
+    public AsrClient(@Qualifier("aiWhisperWebClient") WebClient aiWhisperWebClient,
+                     AiResilience aiResilience) {
+        this.aiWhisperWebClient = aiWhisperWebClient;
+        this.aiResilience = aiResilience;
+    }
 
     /**
      * 영상 URL로 STT 수행
@@ -34,61 +41,90 @@ public class AsrClient {
     }
 
     /**
-     * 영상 URL로 STT 수행 (언어 지정)
+     * 영상 URL로 STT 수행 (언어 지정, 블로킹)
+     * - 요청 스레드에서 호출하지 말 것 (AiJobWorker 등 전용 스레드에서만)
      * @param videoUrl S3 영상 URL
      * @param language 언어 코드 (ko, en 등)
      * @return STT 결과
      */
     public AsrResult transcribe(String videoUrl, String language) {
+        return transcribeAsync(videoUrl, language).block();
+    }
+
+    /**
+     * 비동기 STT 수행
+     * @param videoUrl S3 영상 URL
+     * @return Mono<AsrResult>
+     */
+    public Mono<AsrResult> transcribeAsync(String videoUrl) {
+        return transcribeAsync(videoUrl, "ko");
+    }
+
+    /**
+     * 비동기 STT 수행 (언어 지정)
+     */
+    public Mono<AsrResult> transcribeAsync(String videoUrl, String language) {
         AsrRequest request = AsrRequest.builder()
                 .videoUrl(videoUrl)
                 .language(language)
                 .build();
 
-        log.info("Whisper STT 요청: videoUrl={}, language={}", videoUrl, language);
-
-        try {
-            AsrResult result = aiWebClient.post()
-                    .uri("/api/whisper/transcribe")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(AsrResult.class)
-                    .timeout(Duration.ofMillis(aiProperties.getTimeout()))
-                    .block();
-
-            log.info("Whisper STT 완료: segments={}, processingTime={}s",
-                    result != null && result.getSegments() != null ? result.getSegments().size() : 0,
-                    result != null ? result.getProcessingTime() : null);
-
-            return result;
-
-        } catch (WebClientResponseException e) {
-            log.error("Whisper STT 실패: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("STT 처리 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Whisper STT 오류", e);
-            throw new RuntimeException("STT 처리 중 오류 발생", e);
-        }
+        return aiResilience.guard(AiResilience.Endpoint.WHISPER, () -> {
+                    log.info("Whisper STT 요청: videoUrl={}, language={}", videoUrl, language);
+                    return aiWhisperWebClient.post()
+                            .uri("/api/whisper/transcribe")
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(AsrResult.class);
+                })
+                .doOnSuccess(result -> log.info("Whisper STT 완료: segments={}, processingTime={}s",
+                        result != null && result.getSegments() != null ? result.getSegments().size() : 0,
+                        result != null ? result.getProcessingTime() : null))
+                .onErrorMap(AsrClient::toClientError);
     }
 
     /**
-     * 비동기 STT 수행
-     * @param videoUrl S3 영상 URL
-     * @return Mono<AsrResult>
+     * ⭐ 스트리밍 STT (NDJSON)
+     * - Flask가 청크 단위로 전사하며 세그먼트를 한 줄씩 전송
+     * - Jackson NDJSON 디코더가 줄 단위로 파싱 (전체 응답을 메모리에 올리지 않음)
+     * - error 이벤트는 예외로 변환
+     * @return 이벤트 스트림 (meta → segment* → end)
      */
-    public Mono<AsrResult> transcribeAsync(String videoUrl) {
+    public Flux<AsrStreamEvent> transcribeStream(String videoUrl, String language) {
         AsrRequest request = AsrRequest.builder()
                 .videoUrl(videoUrl)
-                .language("ko")
+                .language(language)
                 .build();
 
-        return aiWebClient.post()
-                .uri("/api/whisper/transcribe")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(AsrResult.class)
-                .timeout(Duration.ofMillis(aiProperties.getTimeout()))
-                .doOnSuccess(result -> log.info("Whisper STT 비동기 완료"))
-                .doOnError(e -> log.error("Whisper STT 비동기 실패", e));
+        return aiResilience.guardMany(AiResilience.Endpoint.WHISPER, () -> {
+                    log.info("Whisper 스트리밍 STT 요청: videoUrl={}, language={}", videoUrl, language);
+                    return aiWhisperWebClient.post()
+                            .uri("/api/whisper/transcribe-stream")
+                            .accept(MediaType.APPLICATION_NDJSON)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToFlux(AsrStreamEvent.class);
+                })
+                .<AsrStreamEvent>handle((event, sink) -> {
+                    if (AsrStreamEvent.ERROR.equals(event.getType())) {
+                        sink.error(new IllegalStateException("STT 처리 실패: " + event.getMessage()));
+                    } else {
+                        sink.next(event);
+                    }
+                })
+                .onErrorMap(AsrClient::toClientError);
+    }
+
+    private static Throwable toClientError(Throwable e) {
+        if (AiResilience.isFastFail(e)) {
+            log.warn("Whisper STT 즉시 실패: {}", e.getMessage());
+            return e;
+        }
+        if (e instanceof WebClientResponseException we) {
+            log.error("Whisper STT 실패: status={}, body={}", we.getStatusCode(), we.getResponseBodyAsString());
+            return new RuntimeException("STT 처리 실패: " + we.getMessage(), we);
+        }
+        log.error("Whisper STT 오류", e);
+        return new RuntimeException("STT 처리 중 오류 발생", e);
     }
 }
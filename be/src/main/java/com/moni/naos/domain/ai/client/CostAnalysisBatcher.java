@@ -0,0 +1,229 @@
+package com.moni.naos.domain.ai.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.dto.CostAnalysisRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CostAnalysisBatcher - 가성비 분석 요청 마이크로 배칭
+ *
+ * - 들어온 요청을 최대 max-size건 또는 max-wait-ms 동안 모아 한 번에 전송
+ *   → /api/gpt/cost-analysis/batch (1건이면 기존 단건 엔드포인트)
+ * - 응답은 요청 순서대로 각 호출자에게 분배 (항목별 실패는 해당 호출자만 실패)
+ * - 동시 배치 수는 concurrency로 제한 (LLM 커넥션 풀보다 작게)
+ * - 배치 1건 = AiResilience(LLM_BATCH, 1건이면 LLM) 호출 1건 (회로 OPEN 시 배치 전체가 즉시 실패)
+ * - ⭐ bufferTimeout fair 모드: 동시 배치가 가득 차면 요청 수(demand)만큼만 배치를 만들고
+ *   나머지는 큐에 남겨 둠 (배치 크기 초과/Overflow 오류 없음)
+ * - ⭐ 파이프라인이 종료되면(예상 못한 오류, 서버 종료) 대기 중인 호출자를 모두 실패시키고 새 파이프라인으로 재시작
+ *
+ * 반환값은 항목별 raw JSON - 파싱/로그는 LlmClient에서 단건과 동일하게 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CostAnalysisBatcher {
+
+    private static final String SINGLE_URI = "/api/gpt/cost-analysis";
+    private static final String BATCH_URI = "/api/gpt/cost-analysis/batch";
+
+    private record Pending(CostAnalysisRequest request, Sinks.One<String> result) {}
+
+    private final WebClient aiWebClient;
+    private final ObjectMapper objectMapper;
+    private final AiResilience aiResilience;
+
+    /**
+     * 큐 + 구독 (unicast는 재구독이 안 되므로 재시작 시 통째로 교체)
+     * - outstanding: 결과를 아직 받지 못한 요청 (종료 시 실패 처리 대상)
+     */
+    private static final class Pipeline {
+        private final Sinks.Many<Pending> queue = Sinks.many().unicast().onBackpressureBuffer();
+        private final Set<Pending> outstanding = ConcurrentHashMap.newKeySet();
+        private volatile Disposable subscription;
+    }
+
+    private volatile Pipeline pipeline;
+    private volatile boolean stopped;
+
+    @Value("${ai.server.batch.max-size:16}")
+    private int maxSize;
+
+    @Value("${ai.server.batch.max-wait-ms:20}")
+    private long maxWaitMs;
+
+    @Value("${ai.server.batch.concurrency:4}")
+    private int concurrency;
+
+    @PostConstruct
+    public void start() {
+        stopped = false;
+        pipeline = newPipeline();
+        log.info("가성비 분석 배처 시작: maxSize={}, maxWaitMs={}, concurrency={}", maxSize, maxWaitMs, concurrency);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        Pipeline current = pipeline;
+        if (current != null) {
+            if (current.subscription != null) {
+                current.subscription.dispose();
+            }
+            failOutstanding(current, new IllegalStateException("가성비 분석 배처가 종료되었습니다."));
+        }
+    }
+
+    private Pipeline newPipeline() {
+        Pipeline created = new Pipeline();
+        created.subscription = created.queue.asFlux()
+                .bufferTimeout(maxSize, Duration.ofMillis(maxWaitMs), true)
+                .flatMap(batch -> dispatch(created, batch), concurrency)
+                .subscribe(
+                        v -> {},
+                        e -> onTerminated(created, e),
+                        () -> onTerminated(created, null));
+        return created;
+    }
+
+    /**
+     * 파이프라인 종료 → 대기 중인 호출자 실패 + 재시작 (종료 중이 아니면)
+     */
+    private void onTerminated(Pipeline terminated, Throwable error) {
+        log.error("가성비 분석 배처 파이프라인 종료, 재시작: error={}", error != null ? error.getMessage() : "completed", error);
+        failOutstanding(terminated, new IllegalStateException("가성비 분석 배처 파이프라인이 중단되었습니다.", error));
+        if (!stopped && pipeline == terminated) {
+            pipeline = newPipeline();
+        }
+    }
+
+    private static void failOutstanding(Pipeline target, Throwable error) {
+        for (Pending pending : target.outstanding) {
+            fail(target, pending, error);
+        }
+    }
+
+    /**
+     * 분석 요청 등록
+     * @return 해당 레시피의 분석 결과 JSON (배치 전송 후 완료)
+     */
+    public Mono<String> submit(CostAnalysisRequest request) {
+        return Mono.defer(() -> {
+            Pipeline current = pipeline;
+            Pending pending = new Pending(request, Sinks.one());
+            current.outstanding.add(pending);
+            try {
+                // 여러 스레드에서 동시에 등록될 수 있으므로 실패 시 잠시 재시도
+                current.queue.emitNext(pending, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            } catch (Sinks.EmissionException e) {
+                current.outstanding.remove(pending);
+                return Mono.error(new IllegalStateException("가성비 분석 요청을 등록할 수 없습니다.", e));
+            }
+            return pending.result().asMono();
+        });
+    }
+
+    // ==================== 전송 ====================
+
+    private Mono<Void> dispatch(Pipeline owner, List<Pending> batch) {
+        // 여러 건 배치는 단건과 지연 분포가 다르므로 별도 타임아웃/동시 호출 한도
+        Mono<List<String>> call = batch.size() == 1
+                ? aiResilience.guard(AiResilience.Endpoint.LLM, () -> single(batch.get(0).request()).map(List::of))
+                : aiResilience.guard(AiResilience.Endpoint.LLM_BATCH, () -> multi(batch));
+
+        return call
+                .doOnNext(results -> distribute(owner, batch, results))
+                .doOnError(e -> {
+                    log.warn("가성비 분석 배치 실패: size={}, error={}", batch.size(), e.getMessage());
+                    batch.forEach(p -> fail(owner, p, e));
+                })
+                .onErrorResume(e -> Mono.empty())
+                // 빈 응답/취소(파이프라인 종료) 등 결과를 받지 못한 호출자 (이미 완료된 호출자는 영향 없음)
+                .doFinally(signal -> batch.forEach(p -> fail(owner, p,
+                        new IllegalStateException("가성비 분석 배치 응답이 없습니다: " + signal))))
+                .then();
+    }
+
+    private Mono<String> single(CostAnalysisRequest request) {
+        return aiWebClient.post()
+                .uri(SINGLE_URI)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private Mono<List<String>> multi(List<Pending> batch) {
+        List<CostAnalysisRequest> items = batch.stream().map(Pending::request).toList();
+        log.info("가성비 분석 배치 요청: size={}", items.size());
+
+        return aiWebClient.post()
+                .uri(BATCH_URI)
+                .bodyValue(Map.of("items", items))
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(this::splitResults);
+    }
+
+    private List<String> splitResults(String rawJson) {
+        try {
+            JsonNode results = objectMapper.readTree(rawJson).path("results");
+            List<String> items = new ArrayList<>(results.size());
+            results.forEach(node -> items.add(node.toString()));
+            return items;
+        } catch (Exception e) {
+            throw new IllegalStateException("가성비 분석 배치 응답 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 요청 순서대로 결과 분배 - error 항목/누락 항목은 해당 호출자만 실패
+     */
+    private void distribute(Pipeline owner, List<Pending> batch, List<String> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            if (i >= results.size()) {
+                fail(owner, pending, new IllegalStateException("가성비 분석 배치 응답 누락"));
+                continue;
+            }
+
+            String item = results.get(i);
+            String error = itemError(item);
+            if (error != null) {
+                fail(owner, pending, new IllegalStateException("가성비 분석 실패: " + error));
+            } else {
+                owner.outstanding.remove(pending);
+                pending.result().tryEmitValue(item);
+            }
+        }
+    }
+
+    private static void fail(Pipeline owner, Pending pending, Throwable error) {
+        owner.outstanding.remove(pending);
+        pending.result().tryEmitError(error);
+    }
+
+    private String itemError(String item) {
+        try {
+            JsonNode error = objectMapper.readTree(item).get("error");
+            return error != null && !error.isNull() ? error.asText() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
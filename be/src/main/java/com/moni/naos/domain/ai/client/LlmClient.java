@@ -6,6 +6,7 @@ import com.moni.naos.domain.ai.dto.CostAnalysisResult;
 import com.moni.naos.global.config.ExternalEndpointProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -16,6 +17,9 @@ import java.time.Duration;
 /**
  * GPT LLM 클라이언트
  * - Flask AI 서버의 /api/gpt/cost-analysis 호출
+ * - ⭐ analyzeCostAsync가 기본 경로 (스레드 점유 없음), analyzeCost는 블로킹 래퍼
+ * - ⭐ 요청은 CostAnalysisBatcher가 모아서 배치 전송 (ai.server.batch.enabled=false면 단건 호출)
+ * - ⭐ AI 서버 호출은 AiResilience(LLM)로 보호 - 즉시 실패(503)는 그대로 전달
  */
 @Slf4j
 @Component
@@ -25,67 +29,20 @@ public class LlmClient {
     private final WebClient aiWebClient;
     private final ExternalEndpointProperties aiProperties;
     private final ObjectMapper objectMapper;
+    private final CostAnalysisBatcher costAnalysisBatcher;
+    private final AiResilience aiResilience;
+
+    @Value("${ai.server.batch.enabled:true}")
+    private boolean batchEnabled;
 
     /**
-     * 가성비 분석 요청
+     * 가성비 분석 요청 (블로킹)
+     * - 요청 스레드에서 호출하지 말 것 (AiJobWorker 등 전용 스레드에서만)
      * @param request 레시피 정보 (재료, 시간, 난이도 등)
      * @return 가성비 분석 결과 (점수 + breakdown + nutrition)
      */
     public CostAnalysisResult analyzeCost(CostAnalysisRequest request) {
-        log.info("가성비 분석 요청: recipeId={}, ingredients={}",
-                request.getRecipeId(),
-                request.getIngredients() != null ? request.getIngredients().size() : 0);
-
-        try {
-            // ⭐ 먼저 raw JSON으로 받아서 로그 찍기
-            String rawJson = aiWebClient.post()
-                    .uri("/api/gpt/cost-analysis")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofMillis(aiProperties.getTimeout()))
-                    .block();
-
-            log.info("Flask 응답 (raw): {}", rawJson);
-
-            // ⭐ 수동으로 파싱
-            CostAnalysisResult result = objectMapper.readValue(rawJson, CostAnalysisResult.class);
-
-            log.info("가성비 분석 완료: recipeId={}, score={}",
-                    request.getRecipeId(),
-                    result != null ? result.getOverallScore() : null);
-
-            // ⭐ 디버깅: breakdown 확인
-            if (result != null && result.getBreakdown() != null) {
-                log.info("Breakdown 파싱 성공: priceEfficiency={}, timeEfficiency={}, nutritionBalance={}, ingredientAccessibility={}",
-                        result.getBreakdown().getPriceEfficiency(),
-                        result.getBreakdown().getTimeEfficiency(),
-                        result.getBreakdown().getNutritionBalance(),
-                        result.getBreakdown().getIngredientAccessibility());
-            } else {
-                log.warn("Breakdown이 null입니다!");
-            }
-
-            // ⭐ 디버깅: nutrition 확인
-            if (result != null && result.getNutrition() != null) {
-                log.info("Nutrition 파싱 성공: kcal={}, protein={}g, carbs={}g, fat={}g",
-                        result.getNutrition().getKcalEstimate(),
-                        result.getNutrition().getProteinG(),
-                        result.getNutrition().getCarbsG(),
-                        result.getNutrition().getFatG());
-            } else {
-                log.warn("Nutrition이 null입니다!");
-            }
-
-            return result;
-
-        } catch (WebClientResponseException e) {
-            log.error("가성비 분석 실패: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("가성비 분석 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("가성비 분석 오류", e);
-            throw new RuntimeException("가성비 분석 중 오류 발생", e);
-        }
+        return analyzeCostAsync(request).block();
     }
 
     /**
@@ -94,14 +51,78 @@ public class LlmClient {
      * @return Mono<CostAnalysisResult>
      */
     public Mono<CostAnalysisResult> analyzeCostAsync(CostAnalysisRequest request) {
-        return aiWebClient.post()
-                .uri("/api/gpt/cost-analysis")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(CostAnalysisResult.class)
+        return Mono.defer(() -> {
+                    log.info("가성비 분석 요청: recipeId={}, ingredients={}",
+                            request.getRecipeId(),
+                            request.getIngredients() != null ? request.getIngredients().size() : 0);
+
+                    if (batchEnabled) {
+                        return costAnalysisBatcher.submit(request);
+                    }
+
+                    // ⭐ 먼저 raw JSON으로 받아서 로그 찍기
+                    return aiResilience.guard(AiResilience.Endpoint.LLM, () -> aiWebClient.post()
+                            .uri("/api/gpt/cost-analysis")
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(String.class));
+                })
                 .timeout(Duration.ofMillis(aiProperties.getTimeout()))
-                .doOnSuccess(result -> log.info("가성비 분석 비동기 완료: score={}", result.getOverallScore()))
-                .doOnError(e -> log.error("가성비 분석 비동기 실패", e));
+                .flatMap(rawJson -> Mono.justOrEmpty(parse(request, rawJson)))
+                .onErrorMap(LlmClient::toClientError);
+    }
+
+    private CostAnalysisResult parse(CostAnalysisRequest request, String rawJson) {
+        log.info("Flask 응답 (raw): {}", rawJson);
+
+        // ⭐ 수동으로 파싱
+        CostAnalysisResult result;
+        try {
+            result = objectMapper.readValue(rawJson, CostAnalysisResult.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("가성비 분석 응답 파싱 실패", e);
+        }
+
+        log.info("가성비 분석 완료: recipeId={}, score={}",
+                request.getRecipeId(),
+                result != null ? result.getOverallScore() : null);
+
+        // ⭐ 디버깅: breakdown 확인
+        if (result != null && result.getBreakdown() != null) {
+            log.info("Breakdown 파싱 성공: priceEfficiency={}, timeEfficiency={}, nutritionBalance={}, ingredientAccessibility={}",
+                    result.getBreakdown().getPriceEfficiency(),
+                    result.getBreakdown().getTimeEfficiency(),
+                    result.getBreakdown().getNutritionBalance(),
+                    result.getBreakdown().getIngredientAccessibility());
+        } else {
+            log.warn("Breakdown이 null입니다!");
+        }
+
+        // ⭐ 디버깅: nutrition 확인
+        if (result != null && result.getNutrition() != null) {
+            log.info("Nutrition 파싱 성공: kcal={}, protein={}g, carbs={}g, fat={}g",
+                    result.getNutrition().getKcalEstimate(),
+                    result.getNutrition().getProteinG(),
+                    result.getNutrition().getCarbsG(),
+                    result.getNutrition().getFatG());
+        } else {
+            log.warn("Nutrition이 null입니다!");
+        }
+
+        return result;
+    }
+
+    private static Throwable toClientError(Throwable e) {
+        if (AiResilience.isFastFail(e)) {
+            log.warn("가성비 분석 즉시 실패: {}", e.getMessage());
+            return e;
+        }
+        if (e instanceof WebClientResponseException we) {
+            log.error("가성비 분석 실패: status={}, body={}", we.getStatusCode(), we.getResponseBodyAsString());
+            return new RuntimeException("가성비 분석 실패: " + we.getMessage(), we);
+        }
+        log.error("가성비 분석 오류", e);
+        return new RuntimeException("가성비 분석 중 오류 발생", e);
     }
 
     /**
@@ -109,20 +130,26 @@ public class LlmClient {
      * @return true: 정상, false: 비정상
      */
     public boolean healthCheck() {
-        try {
-            String response = aiWebClient.get()
-                    .uri("/health")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-
-            log.debug("AI 서버 헬스 체크: {}", response);
-            return true;
+        return Boolean.TRUE.equals(healthCheckAsync().block());
+    }
 
-        } catch (Exception e) {
-            log.warn("AI 서버 헬스 체크 실패: {}", e.getMessage());
-            return false;
-        }
+    /**
+     * 비동기 헬스 체크 (실패 시 false)
+     */
+    public Mono<Boolean> healthCheckAsync() {
+        return aiWebClient.get()
+                .uri("/health")
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(5))
+                .map(response -> {
+                    log.debug("AI 서버 헬스 체크: {}", response);
+                    return true;
+                })
+                .defaultIfEmpty(true)
+                .onErrorResume(e -> {
+                    log.warn("AI 서버 헬스 체크 실패: {}", e.getMessage());
+                    return Mono.just(false);
+                });
     }
 }
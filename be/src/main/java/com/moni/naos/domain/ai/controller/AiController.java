@@ -1,25 +1,32 @@
 package com.moni.naos.domain.ai.controller;
 
+import com.moni.naos.domain.ai.dto.AiJobRequest;
+import com.moni.naos.domain.ai.dto.AiJobResponse;
 import com.moni.naos.domain.ai.dto.AsrRequest;
 import com.moni.naos.domain.ai.dto.AsrResult;
 import com.moni.naos.domain.ai.dto.CostAnalysisRequest;
 import com.moni.naos.domain.ai.dto.CostAnalysisResult;
 import com.moni.naos.domain.ai.service.AiAnalysisService;
+import com.moni.naos.domain.ai.service.AiJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * AiController - AI 분석 API
  * - Flask AI 서버 연동
  * - Whisper STT
  * - GPT 가성비 분석
+ * - ⭐ AI 서버 호출 API는 CompletableFuture 반환 (대기 중 서블릿 스레드 점유 없음)
+ * - ⭐ 비동기 작업 큐 (/jobs) - 등록 즉시 jobId 반환, 폴링/알림으로 완료 확인
  */
 @Tag(name = "AI", description = "AI 분석 API (STT, 가성비)")
 @RestController
@@ -28,32 +35,32 @@ import java.util.Map;
 public class AiController {
 
     private final AiAnalysisService aiAnalysisService;
+    private final AiJobService aiJobService;
 
     @Operation(summary = "AI 서버 상태 확인", description = "Flask AI 서버 연결 상태를 확인합니다.")
     @GetMapping("/health")
-    public ResponseEntity<Map<String, Object>> checkHealth() {
-        boolean healthy = aiAnalysisService.isAiServerHealthy();
-        
-        return ResponseEntity.ok(Map.of(
-                "aiServerHealthy", healthy,
-                "message", healthy ? "AI 서버 정상" : "AI 서버 연결 실패"
-        ));
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> checkHealth() {
+        return aiAnalysisService.isAiServerHealthyAsync()
+                .thenApply(healthy -> ResponseEntity.ok(Map.<String, Object>of(
+                        "aiServerHealthy", healthy,
+                        "message", healthy ? "AI 서버 정상" : "AI 서버 연결 실패"
+                )));
     }
 
     @Operation(summary = "레시피 가성비 분석", description = "레시피의 가성비 점수를 AI로 분석합니다.")
     @PostMapping("/analyze/cost/{recipeId}")
-    public ResponseEntity<CostAnalysisResult> analyzeCost(
+    public CompletableFuture<ResponseEntity<CostAnalysisResult>> analyzeCost(
             @AuthenticationPrincipal Long userId,
             @PathVariable Long recipeId,
             @RequestBody(required = false) List<CostAnalysisRequest.Ingredient> ingredients
     ) {
-        CostAnalysisResult result = aiAnalysisService.analyzeAndSaveCostScore(recipeId, ingredients);
-        return ResponseEntity.ok(result);
+        return aiAnalysisService.analyzeAndSaveCostScoreAsync(recipeId, ingredients)
+                .thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "영상 STT", description = "영상의 음성을 텍스트로 전사합니다.")
     @PostMapping("/stt")
-    public ResponseEntity<AsrResult> transcribeVideo(
+    public CompletableFuture<ResponseEntity<AsrResult>> transcribeVideo(
             @AuthenticationPrincipal Long userId,
             @RequestBody AsrRequest request
     ) {
@@ -63,7 +70,27 @@ public class AiController {
             throw new IllegalArgumentException("videoUrl이 필요합니다.");
         }
 
-        AsrResult result = aiAnalysisService.transcribeVideo(videoUrl);
-        return ResponseEntity.ok(result);
+        return aiAnalysisService.transcribeVideoAsync(videoUrl)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    // ==================== ⭐ 작업 큐 ====================
+
+    @Operation(summary = "AI 작업 등록", description = "SCRIPT(전사) / NUTRITION(가성비·영양 분석) 작업을 큐에 등록합니다. 결과는 작업 조회 또는 알림으로 확인합니다.")
+    @PostMapping("/jobs")
+    public ResponseEntity<AiJobResponse> enqueueJob(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody AiJobRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(aiJobService.enqueue(userId, request));
+    }
+
+    @Operation(summary = "AI 작업 조회", description = "작업 상태와 (완료 시) 결과 JSON을 조회합니다.")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<AiJobResponse> getJob(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long jobId
+    ) {
+        return ResponseEntity.ok(aiJobService.getJob(userId, jobId));
     }
 }
@@ -4,11 +4,15 @@ import lombok.*;
 
 /**
  * AI 작업 생성 요청 DTO
- * - kind: "RECIPE_SUMMARY" | "SCRIPT_GENERATE" | ...
- * - payload: 프롬프트/파라미터 JSON 문자열
+ * - kind: "SCRIPT" (영상 전사) | "NUTRITION" (가성비/영양 분석)
+ * - targetId: 대상 레시피 ID (본인 레시피만)
+ * - payload: 작업 파라미터 JSON 문자열
+ *   - SCRIPT: {"language": "ko"} (생략 가능, 영상은 레시피에 등록된 VIDEO 자산 사용)
+ *   - NUTRITION: [{"name": "...", "quantity": "...", "unit": "..."}] (재료 목록, 생략 가능)
  */
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class AiJobRequest {
     private String kind;
+    private Long targetId;
     private String payload; // JSON string
 }
@@ -1,11 +1,30 @@
 package com.moni.naos.domain.ai.dto;
 
+import com.moni.naos.domain.ai.entity.AiJob;
 import lombok.*;
 
 /** AI 작업 상태/결과 응답 DTO */
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class AiJobResponse {
     private Long jobId;
-    private String status;     // QUEUED/RUNNING/DONE/FAILED
-    private String resultRef;  // 결과 레퍼런스(파일/레코드 키 등)
+    private String kind;
+    private Long targetId;
+    private String status;     // PENDING/RUNNING/DONE/FAIL
+    private Integer attempts;
+    private String resultRef;  // 결과 레퍼런스(ai_results ID)
+    private String result;     // 결과 JSON (DONE인 경우)
+    private String error;      // 마지막 오류 메시지
+
+    public static AiJobResponse fromEntity(AiJob job, String result) {
+        return AiJobResponse.builder()
+                .jobId(job.getId())
+                .kind(job.getKind().name())
+                .targetId(job.getTargetId())
+                .status(job.getStatus().name())
+                .attempts(job.getAttempts())
+                .resultRef(job.getResultRef())
+                .result(result)
+                .error(job.getLastError())
+                .build();
+    }
 }
@@ -0,0 +1,56 @@
+package com.moni.naos.domain.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Whisper 스트리밍 전사 이벤트 (NDJSON 한 줄)
+ * - /api/whisper/transcribe-stream 응답
+ *
+ * type:
+ * - meta    : 전사 시작 (duration)
+ * - segment : 세그먼트 1개 (index, start, end, text)
+ * - end     : 전사 종료 (segmentCount, duration, language, noSpeech)
+ * - error   : 처리 중 오류 (message)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsrStreamEvent {
+
+    public static final String META = "meta";
+    public static final String SEGMENT = "segment";
+    public static final String END = "end";
+    public static final String ERROR = "error";
+
+    private String type;
+
+    // ==================== segment ====================
+
+    private Integer index;
+    private Double start;
+    private Double end;
+    private String text;
+
+    // ==================== meta / end ====================
+
+    /** 영상 길이 (초) */
+    private Double duration;
+
+    private Integer segmentCount;
+    private String language;
+
+    /** 음성 없음 여부 */
+    private Boolean noSpeech;
+
+    // ==================== error ====================
+
+    private String message;
+
+    public boolean isSegment() {
+        return SEGMENT.equals(type);
+    }
+}
@@ -5,10 +5,16 @@ import com.moni.naos.global.jpa.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Entity
 @Table(name="ai_jobs",
-        indexes=@Index(name="idx_aijob_status_created", columnList="status, createdAt"))
+        indexes={
+                @Index(name="idx_aijob_status_created", columnList="status, createdAt"),
+                @Index(name="idx_aijob_status_next", columnList="status, nextRunAt"),  // ⭐ 워커 claim용
+                @Index(name="idx_aijob_kind_target", columnList="kind, targetId, status")  // ⭐ 중복 등록 확인용
+        })
 public class AiJob extends BaseEntity {
     @Id @GeneratedValue(strategy=GenerationType.IDENTITY)
     private Long id;
@@ -17,6 +23,7 @@ public class AiJob extends BaseEntity {
     private Kind kind; // SCRIPT / NUTRITION / GENERATE
 
     @Enumerated(EnumType.STRING) @Column(nullable=false, length=10)
+    @Builder.Default
     private Status status = Status.PENDING; // PENDING/RUNNING/DONE/FAIL
 
     @Lob @Column(nullable=false) private String payloadJson;
@@ -25,6 +32,27 @@ public class AiJob extends BaseEntity {
     @ManyToOne(fetch=FetchType.LAZY, optional=false) @JoinColumn(name="requested_by")
     private User requestedBy;
 
+    // ==================== ⭐ 큐 처리 상태 ====================
+
+    /** 대상 ID (SCRIPT/NUTRITION → recipeId) */
+    private Long targetId;
+
+    /** 실행 시도 횟수 (claim 시 증가) */
+    @Column(nullable=false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /** 다음 실행 가능 시각 (재시도 백오프) */
+    @Column(nullable=false)
+    @Builder.Default
+    private Instant nextRunAt = Instant.now();
+
+    /** RUNNING 전환 시각 (워커 장애로 멈춘 작업 회수용) */
+    private Instant lockedAt;
+
+    @Column(length=1000)
+    private String lastError;
+
     public enum Kind { SCRIPT, NUTRITION, GENERATE }
     public enum Status { PENDING, RUNNING, DONE, FAIL }
 }
@@ -2,9 +2,55 @@ package com.moni.naos.domain.ai.repository;
 
 import com.moni.naos.domain.ai.entity.AiJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * AiJobRepository
  * - AI 요청(스크립트 생성 등) 작업 관리
+ * - 워커는 FOR UPDATE SKIP LOCKED로 서로 다른 작업을 가져감 (인스턴스 간 중복 실행 없음)
  */
-public interface AiJobRepository extends JpaRepository<AiJob, Long> {}
+public interface AiJobRepository extends JpaRepository<AiJob, Long> {
+
+    /** 실행 가능한 대기 작업 ID (잠금, 다른 워커가 잠근 행은 건너뜀) */
+    @Query(value = "SELECT id FROM ai_jobs " +
+            "WHERE status = 'PENDING' AND next_run_at <= :now " +
+            "ORDER BY next_run_at, id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockRunnableIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    /** 잠근 작업을 RUNNING으로 전환 (같은 트랜잭션에서 호출) */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AiJob j SET j.status = 'RUNNING', j.lockedAt = :now, j.attempts = j.attempts + 1 " +
+            "WHERE j.id IN :ids")
+    int markRunning(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /** 실행하지 못한 작업을 즉시 대기로 되돌림 (시도 횟수 원복) */
+    @Modifying
+    @Query("UPDATE AiJob j SET j.status = 'PENDING', j.nextRunAt = :now, j.lockedAt = null, " +
+            "j.attempts = j.attempts - 1 " +
+            "WHERE j.status = 'RUNNING' AND j.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /** 실행 중인 작업의 lockedAt 갱신 (긴 작업이 stale로 회수되지 않도록) */
+    @Modifying
+    @Query("UPDATE AiJob j SET j.lockedAt = :now WHERE j.status = 'RUNNING' AND j.id IN :ids")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /** 같은 대상의 진행 중(PENDING/RUNNING) 작업 (중복 등록 방지) */
+    Optional<AiJob> findFirstByKindAndTargetIdAndStatusInOrderByIdAsc(AiJob.Kind kind, Long targetId,
+                                                                     Collection<AiJob.Status> statuses);
+
+    /** 일정 시간 이상 RUNNING인 작업을 대기로 되돌림 (워커 종료/장애 대비) */
+    @Modifying
+    @Query("UPDATE AiJob j SET j.status = 'PENDING', j.nextRunAt = :now, j.lockedAt = null " +
+            "WHERE j.status = 'RUNNING' AND j.lockedAt < :threshold")
+    int releaseStale(@Param("threshold") Instant threshold, @Param("now") Instant now);
+}
@@ -3,8 +3,13 @@ package com.moni.naos.domain.ai.repository;
 import com.moni.naos.domain.ai.entity.AiResult;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 /**
  * AiResultRepository
  * - AI 결과(JSON, 메타) 저장
  */
-public interface AiResultRepository extends JpaRepository<AiResult, Long> {}
+public interface AiResultRepository extends JpaRepository<AiResult, Long> {
+
+    Optional<AiResult> findByJobId(Long jobId);
+}
@@ -1,14 +1,18 @@
 package com.moni.naos.domain.ai.service;
 
 import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.entity.RecipeIngredient;
+import com.moni.naos.domain.recipe.repository.RecipeIngredientRepository;
 import com.moni.naos.domain.recipe.repository.RecipeRepository;
 import com.moni.naos.domain.ai.dto.*;
 import com.moni.naos.domain.ai.client.*;
+import com.moni.naos.domain.ai.entity.AiJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -17,6 +21,16 @@ import java.util.concurrent.CompletableFuture;
  * AI 분석 통합 서비스
  * - Whisper STT
  * - GPT 가성비 분석
+ *
+ * ⭐ *Async 메서드: AI 서버 응답을 기다리는 동안 스레드를 점유하지 않음
+ * - HTTP 대기는 Reactor Netty 이벤트 루프에서 처리
+ * - 응답 후 DB 반영(블로킹 JPA)만 boundedElastic 스레드에서 짧은 트랜잭션으로 실행
+ *
+ * ⭐ 가성비 분석은 CostAnalysisCache(재료 fingerprint)를 먼저 조회 → 적중 시 GPT 호출 생략
+ *   (재료를 전달하지 않으면 저장된 레시피 재료로 요청 구성 → 배치/작업 큐 경로도 캐시 대상)
+ *
+ * ⭐ 비동기 가성비 분석은 AiSingleFlight로 레시피당 1건만 진행 (중복 클릭/재시도는 진행 중 결과에 합류)
+ *   → 다른 인스턴스가 진행한 경우 저장된 점수/결과 캐시만 확인 (follower는 AI 서버를 호출하지 않음)
  */
 @Slf4j
 @Service
@@ -26,6 +40,10 @@ public class AiAnalysisService {
     private final AsrClient asrClient;
     private final LlmClient llmClient;
     private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CostAnalysisCache costAnalysisCache;
+    private final AiSingleFlight aiSingleFlight;
 
     /**
      * 영상 STT 수행
@@ -35,46 +53,165 @@ public class AiAnalysisService {
     }
 
     /**
-     * 레시피 가성비 분석 및 저장
-     * @param recipeId 레시피 ID
-     * @param ingredients 재료 목록 (프론트에서 전달)
+     * 비동기 영상 STT
      */
-    @Transactional
-    public CostAnalysisResult analyzeAndSaveCostScore(Long recipeId, List<CostAnalysisRequest.Ingredient> ingredients) {
+    public CompletableFuture<AsrResult> transcribeVideoAsync(String videoUrl) {
+        return asrClient.transcribeAsync(videoUrl).toFuture();
+    }
+
+    /**
+     * 비동기 가성비 분석
+     * - Flask 응답 대기 중에는 스레드 점유 없음
+     * - 응답이 비어 있으면 null로 완료
+     * - 같은 레시피의 분석이 진행 중이면 새로 호출하지 않고 그 결과를 공유
+     *   (다른 인스턴스에서 진행 중이면 완료 후 저장된 점수를 반환)
+     */
+    public CompletableFuture<CostAnalysisResult> analyzeAndSaveCostScoreAsync(Long recipeId, List<CostAnalysisRequest.Ingredient> ingredients) {
+        return aiSingleFlight.execute(AiJob.Kind.NUTRITION, recipeId, CostAnalysisResult.class,
+                () -> analyzeAsync(recipeId, ingredients),
+                () -> CompletableFuture.supplyAsync(() -> followerResult(recipeId, ingredients)));
+    }
+
+    /**
+     * 다른 인스턴스의 분석이 끝난 뒤 - 저장된 점수 또는 결과 캐시만 확인
+     * - leader가 실패했으면 여기서 다시 호출하지 않고 실패 (작업 큐는 백오프 후 재시도)
+     *   → 대기하던 follower들이 leader 실패 직후 한꺼번에 AI 서버를 호출하지 않음
+     */
+    private CostAnalysisResult followerResult(Long recipeId, List<CostAnalysisRequest.Ingredient> ingredients) {
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
 
-        // 이미 분석된 경우 스킵
-        if (recipe.getCostEfficiencyScore() != null && recipe.getCostEfficiencyScore() > 0) {
-            log.info("이미 가성비 분석 완료: recipeId={}, score={}", recipeId, recipe.getCostEfficiencyScore());
-            return CostAnalysisResult.builder()
-                    .recipeId(recipeId)
-                    .overallScore(recipe.getCostEfficiencyScore().intValue())
-                    .build();
+        if (isAnalyzed(recipe)) {
+            return analyzedResult(recipe);
         }
 
-        // 요청 생성 (Recipe 필드 사용)
-        CostAnalysisRequest request = CostAnalysisRequest.builder()
+        CostAnalysisResult cached = costAnalysisCache.get(buildRequest(recipe, ingredients));
+        if (cached != null) {
+            saveResult(recipeId, cached);
+            return cached;
+        }
+
+        throw new IllegalStateException("다른 곳에서 진행한 가성비 분석 결과가 없습니다: recipeId=" + recipeId);
+    }
+
+    private CompletableFuture<CostAnalysisResult> analyzeAsync(Long recipeId, List<CostAnalysisRequest.Ingredient> ingredients) {
+        Recipe recipe = recipeRepository.findById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+
+        if (isAnalyzed(recipe)) {
+            return CompletableFuture.completedFuture(analyzedResult(recipe));
+        }
+
+        CostAnalysisRequest request = buildRequest(recipe, ingredients);
+
+        // ⭐ 캐시 적중 시 AI 서버 호출 없이 바로 반영
+        CostAnalysisResult cached = costAnalysisCache.get(request);
+        if (cached != null) {
+            saveResult(recipeId, cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        log.info("AI 분석 요청 시작 (비동기): recipeId={}, title={}", recipeId, recipe.getTitle());
+
+        return llmClient.analyzeCostAsync(request)
+                .publishOn(Schedulers.boundedElastic())   // DB 반영은 이벤트 루프 밖에서
+                .flatMap(result -> Mono.fromCallable(() -> {
+                    saveResult(recipeId, result);
+                    costAnalysisCache.put(request, result);
+                    return result;
+                }))
+                .doOnError(e -> log.error("비동기 가성비 분석 실패: recipeId={}", recipeId, e))
+                .toFuture();
+    }
+
+    /**
+     * AI 서버 상태 확인
+     */
+    public boolean isAiServerHealthy() {
+        return llmClient.healthCheck();
+    }
+
+    /**
+     * 비동기 AI 서버 상태 확인
+     */
+    public CompletableFuture<Boolean> isAiServerHealthyAsync() {
+        return llmClient.healthCheckAsync().toFuture();
+    }
+
+    // ==================== Helper ====================
+
+    private boolean isAnalyzed(Recipe recipe) {
+        return recipe.getCostEfficiencyScore() != null && recipe.getCostEfficiencyScore() > 0;
+    }
+
+    private CostAnalysisResult analyzedResult(Recipe recipe) {
+        log.info("이미 가성비 분석 완료: recipeId={}, score={}", recipe.getId(), recipe.getCostEfficiencyScore());
+        return CostAnalysisResult.builder()
+                .recipeId(recipe.getId())
+                .overallScore(recipe.getCostEfficiencyScore().intValue())
+                .build();
+    }
+
+    /**
+     * 요청 생성 (Recipe 필드 사용)
+     * - 재료가 전달되지 않으면 저장된 재료 사용 (fingerprint 계산 가능하도록)
+     */
+    private CostAnalysisRequest buildRequest(Recipe recipe, List<CostAnalysisRequest.Ingredient> ingredients) {
+        return CostAnalysisRequest.builder()
                 .recipeId(recipe.getId())
                 .title(recipe.getTitle())
-                .ingredients(ingredients)
+                .ingredients(resolveIngredients(recipe.getId(), ingredients))
                 .cookingTimeMinutes(recipe.getCookTimeMin())
                 .difficulty(recipe.getDifficulty() != null ? recipe.getDifficulty().name() : null)
                 .caloriesPerServing(recipe.getKcalEstimate())
                 .build();
+    }
 
-        log.info("AI 분석 요청 시작: recipeId={}, title={}", recipeId, recipe.getTitle());
-
-        // AI 분석 호출
-        CostAnalysisResult result = llmClient.analyzeCost(request);
+    private List<CostAnalysisRequest.Ingredient> resolveIngredients(Long recipeId,
+                                                                    List<CostAnalysisRequest.Ingredient> ingredients) {
+        if (ingredients != null && !ingredients.isEmpty()) {
+            return ingredients;
+        }
+        List<CostAnalysisRequest.Ingredient> stored = recipeIngredientRepository
+                .findByRecipeIdOrderByOrderIndexAsc(recipeId).stream()
+                .map(AiAnalysisService::toIngredient)
+                .toList();
+        return stored.isEmpty() ? ingredients : stored;
+    }
 
-        // ⭐ 디버깅: 결과 확인
-        if (result == null) {
-            log.error("AI 분석 실패: Flask 응답이 null입니다. recipeId={}", recipeId);
-            return null;
+    /**
+     * 저장된 재료 → 분석 요청 재료 (구조화된 수량이 없으면 "150g" 같은 양 문자열 사용)
+     */
+    private static CostAnalysisRequest.Ingredient toIngredient(RecipeIngredient ingredient) {
+        String quantity = ingredient.getAmount();
+        if (ingredient.getQuantity() != null) {
+            double q = ingredient.getQuantity();
+            quantity = q == Math.rint(q) ? String.valueOf((long) q) : String.valueOf(q);
         }
+        return CostAnalysisRequest.Ingredient.builder()
+                .name(ingredient.getName())
+                .quantity(quantity)
+                .unit(ingredient.getUnit())
+                .estimatedPrice(ingredient.getPrice())
+                .build();
+    }
+
+    /**
+     * 분석 결과를 별도 트랜잭션으로 반영 (비동기 경로)
+     */
+    private void saveResult(Long recipeId, CostAnalysisResult result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Recipe target = recipeRepository.findById(recipeId)
+                    .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+            applyResult(target, result);
+        });
+    }
 
-        log.info("AI 분석 결과 수신: recipeId={}, overallScore={}", recipeId, result.getOverallScore());
+    /**
+     * 분석 결과를 레시피에 반영 (트랜잭션 안에서 호출)
+     */
+    private void applyResult(Recipe recipe, CostAnalysisResult result) {
+        log.info("AI 분석 결과 수신: recipeId={}, overallScore={}", recipe.getId(), result.getOverallScore());
 
         // ⭐ 디버깅: breakdown 확인
         if (result.getBreakdown() != null) {
@@ -123,38 +260,6 @@ public class AiAnalysisService {
         }
 
         recipeRepository.save(recipe);
-        log.info("가성비 점수 저장 완료: recipeId={}, score={}", recipeId, result.getOverallScore());
-
-        return result;
-    }
-
-    /**
-     * 레시피 가성비 분석 (재료 없이, 기본 정보만)
-     */
-    @Transactional
-    public CostAnalysisResult analyzeAndSaveCostScore(Long recipeId) {
-        return analyzeAndSaveCostScore(recipeId, null);
-    }
-
-    /**
-     * 비동기 가성비 분석
-     */
-    @Async
-    @Transactional
-    public CompletableFuture<CostAnalysisResult> analyzeAndSaveCostScoreAsync(Long recipeId, List<CostAnalysisRequest.Ingredient> ingredients) {
-        try {
-            CostAnalysisResult result = analyzeAndSaveCostScore(recipeId, ingredients);
-            return CompletableFuture.completedFuture(result);
-        } catch (Exception e) {
-            log.error("비동기 가성비 분석 실패: recipeId={}", recipeId, e);
-            return CompletableFuture.failedFuture(e);
-        }
-    }
-
-    /**
-     * AI 서버 상태 확인
-     */
-    public boolean isAiServerHealthy() {
-        return llmClient.healthCheck();
+        log.info("가성비 점수 저장 완료: recipeId={}, score={}", recipe.getId(), result.getOverallScore());
     }
 }
@@ -0,0 +1,300 @@
+package com.moni.naos.domain.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.dto.AiJobRequest;
+import com.moni.naos.domain.ai.dto.AiJobResponse;
+import com.moni.naos.domain.ai.entity.AiJob;
+import com.moni.naos.domain.ai.entity.AiResult;
+import com.moni.naos.domain.ai.repository.AiJobRepository;
+import com.moni.naos.domain.ai.repository.AiResultRepository;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.entity.RecipeAsset;
+import com.moni.naos.domain.recipe.repository.RecipeAssetRepository;
+import com.moni.naos.domain.recipe.repository.RecipeRepository;
+import com.moni.naos.domain.user.repository.UserRepository;
+import com.moni.naos.global.util.TransactionUtil;
+import com.moni.naos.global.websocket.RedisPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AiJobService - AI 작업 큐 (ai_jobs / ai_results)
+ *
+ * 흐름:
+ * 1. enqueue: PENDING으로 저장 후 jobId 즉시 반환 (요청 스레드는 AI 호출을 기다리지 않음)
+ *    → ⭐ 본인 레시피만, 전사 영상은 저장된 VIDEO 자산 URL 사용 (요청 payload의 URL은 무시)
+ *    → ⭐ 같은 (종류, 레시피)의 진행 중 작업이 있으면 새로 만들지 않고 그 작업 반환
+ * 2. claim: AiJobWorker가 SELECT ... FOR UPDATE SKIP LOCKED로 가져가 RUNNING 전환
+ * 3. complete / fail: 결과를 ai_results에 저장하거나 지수 백오프로 재시도 예약
+ * 4. 완료/최종 실패 시 요청자에게 알림 채널(naos:user:{id}:notifications)로 발행
+ *
+ * 클라이언트는 GET /api/ai/jobs/{jobId} 폴링 또는 알림 구독으로 완료 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AiJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final List<AiJob.Status> ACTIVE_STATUSES = List.of(AiJob.Status.PENDING, AiJob.Status.RUNNING);
+
+    private final AiJobRepository aiJobRepository;
+    private final AiResultRepository aiResultRepository;
+    private final UserRepository userRepository;
+    private final RecipeRepository recipeRepository;
+    private final RecipeAssetRepository recipeAssetRepository;
+    private final RedisPublisher redisPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.ai.jobs.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${custom.ai.jobs.backoff-base-seconds:10}")
+    private long backoffBaseSeconds;
+
+    @Value("${custom.ai.jobs.backoff-max-seconds:600}")
+    private long backoffMaxSeconds;
+
+    // ==================== 등록 / 조회 ====================
+
+    @Transactional
+    public AiJobResponse enqueue(Long userId, AiJobRequest request) {
+        AiJob.Kind kind = parseKind(request.getKind());
+        if (kind == AiJob.Kind.GENERATE) {
+            throw new IllegalArgumentException("지원하지 않는 작업 종류입니다: " + request.getKind());
+        }
+        if (request.getTargetId() == null) {
+            throw new IllegalArgumentException("targetId가 필요합니다.");
+        }
+
+        // ⭐ 레시피 행 잠금 → 같은 레시피의 동시 등록이 진행 중 작업 확인을 함께 통과하지 않음
+        Recipe recipe = recipeRepository.findByIdForUpdate(request.getTargetId())
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + request.getTargetId()));
+        if (recipe.getAuthor() != null && !recipe.getAuthor().getId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 레시피만 분석할 수 있습니다.");
+        }
+
+        Optional<AiJob> active = aiJobRepository.findFirstByKindAndTargetIdAndStatusInOrderByIdAsc(
+                kind, recipe.getId(), ACTIVE_STATUSES);
+        if (active.isPresent()) {
+            log.info("AI 작업 중복 등록 - 진행 중 작업 반환: jobId={}, kind={}, targetId={}",
+                    active.get().getId(), kind, recipe.getId());
+            return AiJobResponse.fromEntity(active.get(), null);
+        }
+
+        AiJob job = AiJob.builder()
+                .kind(kind)
+                .targetId(recipe.getId())
+                .payloadJson(buildPayload(kind, recipe, request.getPayload()))
+                .requestedBy(userRepository.getReferenceById(userId))
+                .build();
+        AiJob saved = aiJobRepository.save(job);
+
+        log.info("AI 작업 등록: jobId={}, kind={}, targetId={}, userId={}", saved.getId(), kind, saved.getTargetId(), userId);
+        return AiJobResponse.fromEntity(saved, null);
+    }
+
+    public AiJobResponse getJob(Long userId, Long jobId) {
+        AiJob job = aiJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId));
+        if (!job.getRequestedBy().getId().equals(userId)) {
+            throw new IllegalArgumentException("본인이 요청한 작업만 조회할 수 있습니다.");
+        }
+
+        String result = job.getStatus() == AiJob.Status.DONE
+                ? aiResultRepository.findByJobId(jobId).map(AiResult::getResultJson).orElse(null)
+                : null;
+        return AiJobResponse.fromEntity(job, result);
+    }
+
+    // ==================== 워커용 ====================
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 가져와 RUNNING으로 전환
+     */
+    @Transactional
+    public List<AiJob> claim(int limit) {
+        Instant now = Instant.now();
+        List<Long> ids = aiJobRepository.lockRunnableIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        aiJobRepository.markRunning(ids, now);
+        return aiJobRepository.findAllById(ids);
+    }
+
+    @Transactional
+    public void complete(Long jobId, String resultJson) {
+        AiJob job = aiJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId));
+
+        AiResult result = aiResultRepository.findByJobId(jobId)
+                .orElseGet(() -> AiResult.builder().job(job).build());
+        result.setResultJson(resultJson);
+        AiResult saved = aiResultRepository.save(result);
+
+        job.setStatus(AiJob.Status.DONE);
+        job.setResultRef(String.valueOf(saved.getId()));
+        job.setLastError(null);
+        job.setLockedAt(null);
+
+        log.info("AI 작업 완료: jobId={}, kind={}, attempts={}", jobId, job.getKind(), job.getAttempts());
+        notifyRequester(job);
+    }
+
+    /**
+     * 실패 처리
+     * @param retryable false면 남은 시도와 관계없이 즉시 FAIL
+     * @return 최종 실패 여부
+     */
+    @Transactional
+    public boolean fail(Long jobId, String error, boolean retryable) {
+        AiJob job = aiJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId));
+
+        job.setLastError(truncate(error));
+        job.setLockedAt(null);
+
+        if (retryable && job.getAttempts() < maxAttempts) {
+            Duration delay = backoff(job.getAttempts());
+            job.setStatus(AiJob.Status.PENDING);
+            job.setNextRunAt(Instant.now().plus(delay));
+            log.warn("AI 작업 재시도 예약: jobId={}, attempts={}, delay={}s, error={}",
+                    jobId, job.getAttempts(), delay.toSeconds(), error);
+            return false;
+        }
+
+        job.setStatus(AiJob.Status.FAIL);
+        log.error("AI 작업 최종 실패: jobId={}, kind={}, attempts={}, error={}",
+                jobId, job.getKind(), job.getAttempts(), error);
+        notifyRequester(job);
+        return true;
+    }
+
+    /**
+     * claim했지만 실행하지 못한 작업 (워커 풀 종료 등) → 즉시 다시 대기 상태로
+     * - 실행되지 않았으므로 시도 횟수는 원복
+     */
+    @Transactional
+    public void release(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        int released = aiJobRepository.release(jobIds, Instant.now());
+        log.warn("AI 작업 반환: {}건", released);
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 작업의 lockedAt 갱신
+     */
+    @Transactional
+    public void heartbeat(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        aiJobRepository.heartbeat(jobIds, Instant.now());
+    }
+
+    /**
+     * 워커 장애 등으로 오래 RUNNING에 머문 작업을 다시 대기 상태로
+     */
+    @Transactional
+    public int releaseStale(Duration staleAfter) {
+        Instant now = Instant.now();
+        int released = aiJobRepository.releaseStale(now.minus(staleAfter), now);
+        if (released > 0) {
+            log.warn("멈춘 AI 작업 회수: {}건", released);
+        }
+        return released;
+    }
+
+    // ==================== Helper ====================
+
+    /**
+     * 작업 payload 구성
+     * - SCRIPT: 레시피의 VIDEO 자산 URL (+ 요청의 language)
+     * - NUTRITION: 요청의 재료 목록 (없으면 저장된 레시피 재료로 분석)
+     */
+    private String buildPayload(AiJob.Kind kind, Recipe recipe, String requestPayload) {
+        JsonNode payload = readPayload(requestPayload);
+        if (kind == AiJob.Kind.NUTRITION) {
+            return payload != null && payload.isArray() ? payload.toString() : "{}";
+        }
+
+        String videoUrl = recipeAssetRepository.findFirstByRecipeAndType(recipe, RecipeAsset.Type.VIDEO)
+                .map(RecipeAsset::getUrl)
+                .filter(url -> !url.isBlank())
+                .orElseThrow(() -> new IllegalArgumentException("영상이 등록되지 않은 레시피입니다: " + recipe.getId()));
+        String language = payload != null ? payload.path("language").asText("ko") : "ko";
+        try {
+            return objectMapper.writeValueAsString(Map.of("videoUrl", videoUrl, "language", language));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readPayload(String payload) {
+        if (payload == null || payload.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("payload가 올바른 JSON이 아닙니다.");
+        }
+    }
+
+    /**
+     * 지수 백오프 (base × 2^(attempts-1), 최대 backoffMax) + 최대 20% 지터
+     */
+    private Duration backoff(int attempts) {
+        long seconds = Math.min(backoffBaseSeconds << Math.min(Math.max(attempts - 1, 0), 20), backoffMaxSeconds);
+        long jitterMillis = ThreadLocalRandom.current().nextLong(seconds * 200 + 1);
+        return Duration.ofSeconds(seconds).plusMillis(jitterMillis);
+    }
+
+    private void notifyRequester(AiJob job) {
+        Long userId = job.getRequestedBy().getId();
+        AiJobNotification notification = new AiJobNotification(
+                job.getId(), job.getKind().name(), job.getTargetId(), job.getStatus().name(), "AI_JOB_" + job.getStatus().name());
+        TransactionUtil.afterCommit(() -> redisPublisher.publishNotification(userId, notification));
+    }
+
+    private static AiJob.Kind parseKind(String kind) {
+        try {
+            return AiJob.Kind.valueOf(kind == null ? "" : kind.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 작업 종류입니다: " + kind);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public record AiJobNotification(
+            Long jobId,
+            String kind,
+            Long targetId,
+            String status,
+            String type
+    ) {}
+}
@@ -0,0 +1,342 @@
+package com.moni.naos.domain.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.client.AiResilience;
+import com.moni.naos.domain.ai.client.AsrClient;
+import com.moni.naos.domain.ai.dto.AsrResult;
+import com.moni.naos.domain.ai.dto.CostAnalysisRequest;
+import com.moni.naos.domain.ai.dto.CostAnalysisResult;
+import com.moni.naos.domain.ai.entity.AiJob;
+import com.moni.naos.domain.recipe.dto.TranscriptResponse;
+import com.moni.naos.domain.recipe.dto.TranscriptSegmentDto;
+import com.moni.naos.domain.recipe.service.TranscriptService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AiJobWorker - AI 작업 큐 소비자
+ *
+ * - 고정 크기 워커 풀 (custom.ai.jobs.workers) → AI 처리량은 이 값으로 조절
+ * - 주기적으로 빈 워커 수만큼만 claim (풀이 가득 차면 DB 조회도 하지 않음)
+ *   → ⭐ 워커 슬롯은 Semaphore: claim 전에 획득, 작업 스레드가 끝날 때 반납
+ *   → 풀이 작업을 거부하면(종료 중 등) 즉시 PENDING으로 되돌림 (stale 회수까지 기다리지 않음)
+ * - 작업 종류별 처리:
+ *   - SCRIPT: Whisper 전사 → TranscriptService 저장 (⭐ 기본은 스트리밍 증분 저장)
+ *   - NUTRITION: GPT 가성비/영양 분석 → Recipe 반영
+ * - 잘못된 요청(IllegalArgumentException)은 재시도 없이 실패, 그 외 오류는 백오프 재시도
+ * - ⭐ AI 서버 회로가 모두 열려 있으면 claim하지 않음, 즉시 실패(503)는 재시도 가능한 실패로 기록
+ * - ⭐ 같은 레시피의 같은 종류 작업은 AiSingleFlight로 1건만 실행 (API 직접 호출과도 락으로 직렬화)
+ * - ⭐ 실행 중인 작업은 주기적으로 lockedAt 갱신 (heartbeat) → 긴 스트리밍 전사가 stale로 회수되어 중복 실행되지 않음
+ *   → 인스턴스가 죽으면 갱신이 멈춰 stale-minutes 후 회수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiJobWorker {
+
+    private final AiJobService aiJobService;
+    private final AsrClient asrClient;
+    private final AiAnalysisService aiAnalysisService;
+    private final TranscriptService transcriptService;
+    private final AiSingleFlight aiSingleFlight;
+    private final AiResilience aiResilience;
+    private final TranscriptStreamIngestor transcriptStreamIngestor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.ai.jobs.workers:4}")
+    private int workers;
+
+    @Value("${custom.ai.jobs.stale-minutes:15}")
+    private long staleMinutes;
+
+    private Semaphore slots;
+    private ExecutorService executor;
+
+    /** 이 인스턴스에서 실행 중인 작업 ID (heartbeat 대상) */
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        slots = new Semaphore(workers);
+        AtomicInteger seq = new AtomicInteger();
+        // 큐 길이는 slots로 제한됨 (작업 종료 ~ 스레드 반환 사이에 들어온 작업은 큐에서 대기)
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "ai-worker-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        log.info("AI 작업 워커 시작: workers={}", workers);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // 남은 작업은 stale 회수로 다른 인스턴스가 재실행
+            executor.shutdownNow();
+        }
+    }
+
+    // ==================== 폴링 ====================
+
+    @Scheduled(fixedDelayString = "${custom.ai.jobs.poll-interval-ms:1000}")
+    public void poll() {
+        if (slots.availablePermits() <= 0) {
+            return;
+        }
+        // AI 서버 장애 중에는 작업을 가져와도 즉시 실패하므로 대기
+        if (!aiResilience.isAvailable(AiResilience.Endpoint.WHISPER)
+                && !aiResilience.isAvailable(AiResilience.Endpoint.LLM)) {
+            return;
+        }
+
+        // 폴링 스레드만 획득하므로 남은 슬롯을 한 번에 가져와도 됨 (반납은 작업 스레드)
+        int acquired = slots.drainPermits();
+        if (acquired <= 0) {
+            return;
+        }
+
+        List<AiJob> jobs;
+        try {
+            jobs = aiJobService.claim(acquired);
+        } catch (Exception e) {
+            slots.release(acquired);
+            log.warn("AI 작업 claim 실패: {}", e.getMessage());
+            return;
+        }
+        slots.release(acquired - jobs.size());
+
+        List<Long> rejected = new ArrayList<>();
+        for (AiJob job : jobs) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(job);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                slots.release();
+                rejected.add(job.getId());
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            try {
+                aiJobService.release(rejected);
+            } catch (Exception e) {
+                // 반환 실패 → stale 회수로 재실행
+                log.error("AI 작업 반환 실패: jobIds={}, error={}", rejected, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void recoverStale() {
+        try {
+            aiJobService.releaseStale(Duration.ofMinutes(staleMinutes));
+        } catch (Exception e) {
+            log.warn("멈춘 AI 작업 회수 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.ai.jobs.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        if (runningJobs.isEmpty()) {
+            return;
+        }
+        try {
+            aiJobService.heartbeat(List.copyOf(runningJobs));
+        } catch (Exception e) {
+            log.warn("AI 작업 heartbeat 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 실행 ====================
+
+    private void run(AiJob job) {
+        log.info("AI 작업 실행: jobId={}, kind={}, targetId={}, attempt={}",
+                job.getId(), job.getKind(), job.getTargetId(), job.getAttempts());
+        runningJobs.add(job.getId());
+        try {
+            execute(job);
+        } finally {
+            runningJobs.remove(job.getId());
+        }
+    }
+
+    private void execute(AiJob job) {
+        try {
+            String resultJson = switch (job.getKind()) {
+                case SCRIPT -> runScript(job);
+                case NUTRITION -> runNutrition(job);
+                case GENERATE -> throw new IllegalArgumentException("지원하지 않는 작업 종류입니다: " + job.getKind());
+            };
+            aiJobService.complete(job.getId(), resultJson);
+
+        } catch (IllegalArgumentException e) {
+            onFailure(job, e.getMessage(), false, false);
+        } catch (Exception e) {
+            onFailure(job, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName(), true,
+                    AiResilience.isFastFail(e));
+        }
+    }
+
+    /**
+     * @param fastFail AI 서버 즉시 실패 여부 - 전사 메타를 바로 "재시도 가능한 실패"로 표시
+     */
+    private void onFailure(AiJob job, String error, boolean retryable, boolean fastFail) {
+        try {
+            boolean finalFailure = aiJobService.fail(job.getId(), error, retryable);
+            if ((finalFailure || fastFail) && job.getKind() == AiJob.Kind.SCRIPT) {
+                transcriptService.markFailed(job.getTargetId(), error, retryable);
+            }
+        } catch (Exception e) {
+            // 상태 기록 실패 → stale 회수 후 재실행
+            log.error("AI 작업 실패 기록 오류: jobId={}, error={}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 영상 전사 (payload: {"videoUrl": "..."})
+     */
+    private String runScript(AiJob job) throws Exception {
+        Long recipeId = job.getTargetId();
+        JsonNode payload = objectMapper.readTree(job.getPayloadJson());
+        String videoUrl = payload.path("videoUrl").asText(null);
+        if (videoUrl == null || videoUrl.isBlank()) {
+            throw new IllegalArgumentException("videoUrl이 필요합니다.");
+        }
+
+        String language = payload.path("language").asText("ko");
+        return await(aiSingleFlight.execute(AiJob.Kind.SCRIPT, recipeId, String.class,
+                () -> {
+                    try {
+                        return CompletableFuture.completedFuture(transcribeAndSave(recipeId, videoUrl, language));
+                    } catch (Exception e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                },
+                () -> CompletableFuture.supplyAsync(() -> scriptResult(recipeId))));
+    }
+
+    /**
+     * 전사 + 저장 (전사 저장 경로는 이 메서드 하나 - API 직접 전사는 저장하지 않음)
+     */
+    private String transcribeAndSave(Long recipeId, String videoUrl, String language) throws Exception {
+        // ⭐ 스트리밍 전사: 세그먼트를 받는 즉시 저장
+        if (transcriptStreamIngestor.isEnabled()) {
+            TranscriptResponse saved = transcriptStreamIngestor.ingest(recipeId, videoUrl, language).block();
+            return objectMapper.writeValueAsString(Map.of(
+                    "recipeId", recipeId,
+                    "status", saved != null ? saved.getStatus() : "FAILED",
+                    "segmentCount", saved != null && saved.getSegmentCount() != null ? saved.getSegmentCount() : 0));
+        }
+
+        transcriptService.startProcessing(recipeId);
+        AsrResult asr = asrClient.transcribe(videoUrl, language);
+        if (asr == null) {
+            throw new IllegalStateException("Whisper 응답이 비어 있습니다.");
+        }
+
+        List<TranscriptSegmentDto> segments = toSegments(asr);
+        String fullText = asr.getFullText() != null ? asr.getFullText() : "";
+
+        if (segments.isEmpty() || fullText.length() < 10) {
+            transcriptService.markNoAudio(recipeId);
+            return objectMapper.writeValueAsString(Map.of("recipeId", recipeId, "status", "NO_AUDIO"));
+        }
+
+        Double duration = segments.get(segments.size() - 1).getEnd();
+        TranscriptResponse saved = transcriptService.saveTranscript(
+                recipeId, fullText, segments, asr.getDetectedLanguage(), duration);
+        return objectMapper.writeValueAsString(Map.of(
+                "recipeId", recipeId,
+                "status", "COMPLETED",
+                "segmentCount", saved.getSegments() != null ? saved.getSegments().size() : segments.size()));
+    }
+
+    /**
+     * 다른 인스턴스가 전사를 마친 경우 - 저장된 상태로 결과 구성
+     */
+    private String scriptResult(Long recipeId) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "recipeId", recipeId,
+                    "status", transcriptService.getTranscriptStatus(recipeId)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 가성비/영양 분석 (payload: 재료 목록 JSON 배열, 생략 가능)
+     */
+    private String runNutrition(AiJob job) throws Exception {
+        List<CostAnalysisRequest.Ingredient> ingredients = null;
+        JsonNode payload = objectMapper.readTree(job.getPayloadJson());
+        if (payload != null && payload.isArray()) {
+            ingredients = objectMapper.convertValue(payload, new TypeReference<>() {});
+        }
+
+        // 비동기 경로를 사용해 API 요청과 진행 중인 분석을 공유
+        CostAnalysisResult result = await(aiAnalysisService.analyzeAndSaveCostScoreAsync(job.getTargetId(), ingredients));
+        if (result == null) {
+            throw new IllegalStateException("가성비 분석 응답이 비어 있습니다.");
+        }
+        return objectMapper.writeValueAsString(result);
+    }
+
+    /**
+     * Future 대기 - 원래 예외를 그대로 던져 재시도 여부 판단에 사용
+     */
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static List<TranscriptSegmentDto> toSegments(AsrResult asr) {
+        List<TranscriptSegmentDto> segments = new ArrayList<>();
+        if (asr.getSegments() == null) {
+            return segments;
+        }
+        for (int i = 0; i < asr.getSegments().size(); i++) {
+            AsrResult.Segment seg = asr.getSegments().get(i);
+            segments.add(TranscriptSegmentDto.of(i, seg.getStart(), seg.getEnd(), seg.getText()));
+        }
+        return segments;
+    }
+}
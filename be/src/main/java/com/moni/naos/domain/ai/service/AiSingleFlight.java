@@ -0,0 +1,181 @@
+package com.moni.naos.domain.ai.service;
+
+import com.moni.naos.domain.ai.entity.AiJob;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AiSingleFlight - 같은 (작업 종류, 대상 ID)의 AI 호출 중복 제거
+ *
+ * - 인스턴스 내: 진행 중인 Future에 합류 (Flask 호출 1회, 결과 타입이 같은 호출끼리)
+ * - 인스턴스 간: Redis 락 naos:ai:inflight:{kind}:{id}
+ *   - 락 획득 → leader 실행, 완료 시 해제
+ *   - ⭐ leader 실행 중에는 TTL의 1/3마다 락 연장 (긴 스트리밍 전사 중 만료 → 중복 실행 방지)
+ *     → leader 인스턴스가 죽으면 연장이 멈춰 TTL 후 해제
+ *   - 다른 인스턴스가 보유 → 해제(또는 TTL 만료)까지 대기 후 follower 실행
+ *     (follower는 leader가 저장한 결과를 읽는 가벼운 작업이어야 함)
+ *   - 결과 타입이 다른 호출(예: API vs 작업 큐)도 같은 락으로 직렬화됨
+ * - Redis 장애 시 인스턴스 내 중복 제거만 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSingleFlight {
+
+    private static final String LOCK_PREFIX = "naos:ai:inflight:";
+
+    /** 토큰이 같을 때만 TTL 연장 */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** "{kind}:{id}:{결과 타입}" → 진행 중 Future */
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    /** leader 락 연장 전용 */
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ai-single-flight-renew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${custom.ai.single-flight.lock-ttl-seconds:360}")
+    private long lockTtlSeconds;
+
+    @Value("${custom.ai.single-flight.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    /**
+     * @param resultType 결과 타입 (같은 타입끼리만 Future 공유)
+     * @param leader   실제 작업 (이 인스턴스가 첫 호출자이고 다른 인스턴스에서도 진행 중이 아닐 때)
+     * @param follower 다른 인스턴스의 작업 완료 후 실행 (저장된 결과 조회 등)
+     * @return 호출자별 Future (취소해도 다른 호출자에게 영향 없음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(AiJob.Kind kind, Long targetId, Class<T> resultType,
+                                            Supplier<CompletableFuture<T>> leader,
+                                            Supplier<CompletableFuture<T>> follower) {
+        String lockKey = LOCK_PREFIX + kind.name() + ":" + targetId;
+        String key = kind.name() + ":" + targetId + ":" + resultType.getSimpleName();
+
+        CompletableFuture<T> promise = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            log.info("진행 중인 AI 작업에 합류: {}", key);
+            return ((CompletableFuture<T>) existing).copy();
+        }
+        promise.whenComplete((result, error) -> inFlight.remove(key, promise));
+
+        String token = UUID.randomUUID().toString();
+
+        CompletableFuture<T> work;
+        if (tryLock(lockKey, token)) {
+            long renewSeconds = Math.max(lockTtlSeconds / 3, 1);
+            ScheduledFuture<?> renewal = renewer.scheduleWithFixedDelay(
+                    () -> renew(lockKey, token), renewSeconds, renewSeconds, TimeUnit.SECONDS);
+            work = invoke(leader).whenComplete((result, error) -> {
+                renewal.cancel(false);
+                unlock(lockKey, token);
+            });
+        } else {
+            // leader가 살아 있는 동안은 락이 연장되므로 해제(또는 leader 종료 후 TTL 만료)까지 대기
+            log.info("다른 곳에서 진행 중인 AI 작업, 완료 대기: {}", key);
+            work = awaitRelease(lockKey).thenCompose(v -> invoke(follower));
+        }
+
+        work.whenComplete((result, error) -> {
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(result);
+            }
+        });
+        return promise.copy();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    // ==================== Redis 락 ====================
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofSeconds(lockTtlSeconds)));
+        } catch (Exception e) {
+            log.warn("AI 작업 락 획득 실패, 로컬 중복 제거만 적용: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void renew(String lockKey, String token) {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(lockKey),
+                    token, String.valueOf(TimeUnit.SECONDS.toMillis(lockTtlSeconds)));
+            if (renewed == null || renewed == 0) {
+                log.warn("AI 작업 락 연장 실패 (이미 만료됨): {}", lockKey);
+            }
+        } catch (Exception e) {
+            log.warn("AI 작업 락 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            if (token.equals(stringRedisTemplate.opsForValue().get(lockKey))) {
+                stringRedisTemplate.delete(lockKey);
+            }
+        } catch (Exception e) {
+            log.warn("AI 작업 락 해제 실패 (TTL 만료로 해제됨): {}", e.getMessage());
+        }
+    }
+
+    private boolean isLocked(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 락 해제까지 스레드 점유 없이 주기적으로 확인
+     */
+    private CompletableFuture<Void> awaitRelease(String lockKey) {
+        Executor delayed = CompletableFuture.delayedExecutor(pollIntervalMs, TimeUnit.MILLISECONDS);
+        return CompletableFuture.supplyAsync(() -> isLocked(lockKey), delayed)
+                .thenCompose(locked -> locked
+                        ? awaitRelease(lockKey)
+                        : CompletableFuture.completedFuture(null));
+    }
+
+    private static <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> task) {
+        try {
+            return task.get();
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.moni.naos.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.dto.CostAnalysisRequest;
+import com.moni.naos.domain.ai.dto.CostAnalysisResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * CostAnalysisCache - 가성비 분석 결과 캐시 (재료 fingerprint 기반, Redis)
+ *
+ * 키: naos:ai:cost:{sha256(정규화된 재료 목록 + 조리 시간 + 난이도)}
+ * - 재료: 이름/수량/단위(+입력된 경우 가격)를 정규화(NFKC, 소문자, 공백 제거) 후 정렬 → 순서/표기 차이 무시
+ * - 제목은 제외 (같은 재료 구성의 다이어트 레시피끼리 결과 공유)
+ * - 재료 목록이 없는 요청은 제목 외에 구분할 정보가 없으므로 캐시하지 않음
+ *
+ * 지표: naos.ai.cost.cache{result=hit|miss} (actuator /metrics)
+ */
+@Slf4j
+@Component
+public class CostAnalysisCache {
+
+    private static final String KEY_PREFIX = "naos:ai:cost:";
+
+    /** 프롬프트/응답 형식이 바뀌면 올려서 기존 캐시 무효화 */
+    private static final String FINGERPRINT_VERSION = "v1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${custom.ai.cost-cache.ttl-days:30}")
+    private long ttlDays;
+
+    public CostAnalysisCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("naos.ai.cost.cache").tag("result", "hit")
+                .description("가성비 분석 캐시 적중").register(meterRegistry);
+        this.misses = Counter.builder("naos.ai.cost.cache").tag("result", "miss")
+                .description("가성비 분석 캐시 미스").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과 (recipeId는 요청 레시피로 교체)
+     * @return 없거나 캐시 불가 요청이면 null
+     */
+    public CostAnalysisResult get(CostAnalysisRequest request) {
+        String fingerprint = fingerprint(request);
+        if (fingerprint == null) {
+            return null;
+        }
+
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + fingerprint);
+            if (json == null) {
+                misses.increment();
+                return null;
+            }
+            CostAnalysisResult result = objectMapper.readValue(json, CostAnalysisResult.class);
+            result.setRecipeId(request.getRecipeId());
+            hits.increment();
+            log.info("가성비 분석 캐시 적중: recipeId={}, fingerprint={}", request.getRecipeId(), fingerprint);
+            return result;
+        } catch (Exception e) {
+            log.warn("가성비 분석 캐시 조회 실패: {}", e.getMessage());
+            misses.increment();
+            return null;
+        }
+    }
+
+    public void put(CostAnalysisRequest request, CostAnalysisResult result) {
+        String fingerprint = fingerprint(request);
+        if (fingerprint == null || result == null || result.getOverallScore() == null) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + fingerprint,
+                    objectMapper.writeValueAsString(result), Duration.ofDays(ttlDays));
+        } catch (Exception e) {
+            log.warn("가성비 분석 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== Fingerprint ====================
+
+    /**
+     * @return 재료가 없으면 null (캐시 대상 아님)
+     */
+    static String fingerprint(CostAnalysisRequest request) {
+        List<CostAnalysisRequest.Ingredient> ingredients = request.getIngredients();
+        if (ingredients == null || ingredients.isEmpty()) {
+            return null;
+        }
+
+        List<String> normalized = ingredients.stream()
+                .filter(Objects::nonNull)
+                .map(CostAnalysisCache::normalize)
+                .filter(s -> !s.isEmpty())
+                .sorted()
+                .toList();
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder canonical = new StringBuilder(FINGERPRINT_VERSION);
+        canonical.append('|').append(request.getCookingTimeMinutes())
+                .append('|').append(request.getDifficulty());
+        normalized.forEach(s -> canonical.append('|').append(s));
+
+        return sha256(canonical.toString());
+    }
+
+    private static String normalize(CostAnalysisRequest.Ingredient ingredient) {
+        String name = token(ingredient.getName());
+        if (name.isEmpty()) {
+            return "";
+        }
+        String price = ingredient.getEstimatedPrice() != null ? String.valueOf(ingredient.getEstimatedPrice()) : "";
+        return name + "\u0001" + token(ingredient.getQuantity()) + "\u0001" + token(ingredient.getUnit()) + "\u0001" + price;
+    }
+
+    private static String token(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.moni.naos.domain.ai.service;
+
+import com.moni.naos.domain.ai.client.AsrClient;
+import com.moni.naos.domain.ai.dto.AsrStreamEvent;
+import com.moni.naos.domain.recipe.dto.TranscriptResponse;
+import com.moni.naos.domain.recipe.dto.TranscriptSegmentDto;
+import com.moni.naos.domain.recipe.service.TranscriptService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TranscriptStreamIngestor - 스트리밍 전사 결과를 받는 즉시 저장
+ *
+ * 흐름:
+ * 1. beginStreaming: 기존 세그먼트 삭제 + PROCESSING
+ * 2. Flask /api/whisper/transcribe-stream (NDJSON) 구독
+ * 3. 세그먼트를 stream-batch-size건 또는 stream-flush-ms마다 appendSegments (JDBC 배치 + 진행 위치 갱신)
+ * 4. end 이벤트 후 completeStreaming (전체 텍스트 구성, 음성 없음 판정)
+ *
+ * - 첫 자막까지의 시간: 영상 전체 전사 시간 → 첫 청크 전사 시간
+ * - 메모리: 배치 크기만큼만 보관 (영상 길이와 무관)
+ * - DB 작업은 boundedElastic 스레드에서 실행 (Netty 이벤트 루프 차단 없음)
+ * - 중간 실패 시 저장된 세그먼트는 남고 PROCESSING 유지 → 호출자가 실패 처리, 재시도 시 1단계에서 정리
+ * - ⭐ 전체 시간 상한 (stream-timeout-minutes) - 항목 간 타임아웃만으로는 끝없이 이어지는 스트림을 막지 못함
+ *   (실행 중에는 AiJobWorker heartbeat / AiSingleFlight 락 연장으로 중복 실행 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranscriptStreamIngestor {
+
+    private final AsrClient asrClient;
+    private final TranscriptService transcriptService;
+
+    @Value("${custom.ai.transcript.streaming:true}")
+    private boolean enabled;
+
+    @Value("${custom.ai.transcript.stream-batch-size:50}")
+    private int batchSize;
+
+    @Value("${custom.ai.transcript.stream-flush-ms:1000}")
+    private long flushMs;
+
+    @Value("${custom.ai.transcript.stream-timeout-minutes:60}")
+    private long timeoutMinutes;
+
+    /**
+     * 스트리밍 전사 사용 여부 (false면 기존 일괄 전사)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 스트리밍 전사 + 증분 저장
+     * @return 완료된 전사 메타 (세그먼트 제외)
+     */
+    public Mono<TranscriptResponse> ingest(Long recipeId, String videoUrl, String language) {
+        AtomicReference<Double> duration = new AtomicReference<>();
+        AtomicReference<AsrStreamEvent> end = new AtomicReference<>();
+
+        return Mono.fromRunnable(() -> transcriptService.beginStreaming(recipeId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenMany(asrClient.transcribeStream(videoUrl, language))
+                .doOnNext(event -> {
+                    if (AsrStreamEvent.META.equals(event.getType())) {
+                        duration.set(event.getDuration());
+                    } else if (AsrStreamEvent.END.equals(event.getType())) {
+                        end.set(event);
+                    }
+                })
+                .filter(AsrStreamEvent::isSegment)
+                .map(event -> TranscriptSegmentDto.of(event.getIndex(), event.getStart(), event.getEnd(), event.getText()))
+                .bufferTimeout(batchSize, Duration.ofMillis(flushMs))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(batch -> transcriptService.appendSegments(recipeId, batch, duration.get()))
+                .then(Mono.fromCallable(() -> complete(recipeId, language, end.get(), duration.get())))
+                .timeout(Duration.ofMinutes(timeoutMinutes));
+    }
+
+    private TranscriptResponse complete(Long recipeId, String language, AsrStreamEvent end, Double duration) {
+        if (end == null) {
+            throw new IllegalStateException("전사 스트림이 완료 이벤트 없이 종료되었습니다.");
+        }
+        return transcriptService.completeStreaming(
+                recipeId,
+                end.getLanguage() != null ? end.getLanguage() : language,
+                end.getDuration() != null ? end.getDuration() : duration);
+    }
+}
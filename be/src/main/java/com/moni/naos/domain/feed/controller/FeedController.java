@@ -59,8 +59,8 @@ public class FeedController {
             @Parameter(description = "정렬 (RECENT, COST_EFFICIENCY)")
             @RequestParam(defaultValue = "RECENT") String sortBy,
             
-            @Parameter(description = "커서 (마지막 레시피 ID)")
-            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "커서 (이전 응답의 nextCursor)")
+            @RequestParam(required = false) String cursor,
             
             @Parameter(description = "페이지 크기")
             @RequestParam(defaultValue = "20") Integer size,
@@ -117,7 +117,7 @@ public class FeedController {
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String difficulty,
             @RequestParam(defaultValue = "RECENT") String sortBy,
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") Integer size,
             @AuthenticationPrincipal Long userId  // ⭐ 수정
     ) {
@@ -132,7 +132,7 @@ public class FeedController {
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String difficulty,
             @RequestParam(defaultValue = "RECENT") String sortBy,
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") Integer size,
             @AuthenticationPrincipal Long userId  // ⭐ 수정
     ) {
@@ -146,7 +146,7 @@ public class FeedController {
             @RequestParam(required = false) Integer maxCookTime,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String difficulty,
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") Integer size,
             @AuthenticationPrincipal Long userId  // ⭐ 수정
     ) {
@@ -160,7 +160,7 @@ public class FeedController {
             @RequestParam(required = false) Integer maxCookTime,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String difficulty,
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") Integer size,
             @AuthenticationPrincipal Long userId  // ⭐ 수정
     ) {
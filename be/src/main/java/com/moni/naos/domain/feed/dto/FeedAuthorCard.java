@@ -0,0 +1,18 @@
+package com.moni.naos.domain.feed.dto;
+
+import lombok.*;
+
+/**
+ * FeedAuthorCard - 피드 카드의 작성자 정보 (유저 무관, 캐시 대상)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedAuthorCard {
+
+    private String username;
+    private String fullName;
+    private String avatarUrl;
+}
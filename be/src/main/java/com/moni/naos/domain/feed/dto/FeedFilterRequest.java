@@ -60,10 +60,11 @@ public class FeedFilterRequest {
     // ==================== 커서 페이지네이션 ====================
     
     /**
-     * 커서 (마지막으로 본 레시피 ID)
+     * 커서 (이전 페이지 응답의 nextCursor 토큰)
      * null이면 처음부터
+     * - CursorPage.decodeCursor로 (정렬 키, id) 해석
      */
-    private Long cursor;
+    private String cursor;
     
     /**
      * 페이지 크기
@@ -0,0 +1,23 @@
+package com.moni.naos.domain.feed.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * FeedRecipeMedia - 피드 카드의 레시피 미디어/클립 (유저 무관, 캐시 대상)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedRecipeMedia {
+
+    private String thumbnailUrl;
+    private String videoUrl;
+    private Integer videoDurationSec;
+
+    /** indexOrd 순 */
+    private List<FeedItemDto.ClipInfo> clips;
+}
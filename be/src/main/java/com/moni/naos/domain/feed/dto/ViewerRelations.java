@@ -0,0 +1,100 @@
+package com.moni.naos.domain.feed.dto;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * ViewerRelations - 한 유저의 좋아요/북마크/팔로우 관계 (불변, 정렬된 long[])
+ *
+ * - 포함 여부: 이진 탐색 O(log n), 박싱 없음
+ * - 변경: 새 배열을 가진 인스턴스 반환 (copy-on-write → 동시 읽기 안전)
+ */
+public final class ViewerRelations {
+
+    private final long[] likedRecipeIds;
+    private final long[] bookmarkedRecipeIds;
+    private final long[] followeeIds;
+
+    private ViewerRelations(long[] likedRecipeIds, long[] bookmarkedRecipeIds, long[] followeeIds) {
+        this.likedRecipeIds = likedRecipeIds;
+        this.bookmarkedRecipeIds = bookmarkedRecipeIds;
+        this.followeeIds = followeeIds;
+    }
+
+    public static ViewerRelations of(Collection<Long> likedRecipeIds,
+                                     Collection<Long> bookmarkedRecipeIds,
+                                     Collection<Long> followeeIds) {
+        return new ViewerRelations(toSortedArray(likedRecipeIds),
+                toSortedArray(bookmarkedRecipeIds),
+                toSortedArray(followeeIds));
+    }
+
+    // ==================== 조회 ====================
+
+    public boolean likes(Long recipeId) {
+        return contains(likedRecipeIds, recipeId);
+    }
+
+    public boolean bookmarked(Long recipeId) {
+        return contains(bookmarkedRecipeIds, recipeId);
+    }
+
+    public boolean follows(Long userId) {
+        return contains(followeeIds, userId);
+    }
+
+    /**
+     * 보관 중인 ID 수 (캐시 가중치)
+     */
+    public int size() {
+        return likedRecipeIds.length + bookmarkedRecipeIds.length + followeeIds.length;
+    }
+
+    // ==================== 변경 (새 인스턴스) ====================
+
+    public ViewerRelations withLike(Long recipeId, boolean liked) {
+        return new ViewerRelations(toggle(likedRecipeIds, recipeId, liked), bookmarkedRecipeIds, followeeIds);
+    }
+
+    public ViewerRelations withBookmark(Long recipeId, boolean bookmarked) {
+        return new ViewerRelations(likedRecipeIds, toggle(bookmarkedRecipeIds, recipeId, bookmarked), followeeIds);
+    }
+
+    public ViewerRelations withFollow(Long userId, boolean following) {
+        return new ViewerRelations(likedRecipeIds, bookmarkedRecipeIds, toggle(followeeIds, userId, following));
+    }
+
+    // ==================== Helper ====================
+
+    private static boolean contains(long[] sorted, Long id) {
+        return id != null && Arrays.binarySearch(sorted, id) >= 0;
+    }
+
+    /**
+     * 정렬 유지하며 추가/삭제 (이미 같은 상태면 원본 반환)
+     */
+    private static long[] toggle(long[] sorted, long id, boolean present) {
+        int idx = Arrays.binarySearch(sorted, id);
+        if (present == (idx >= 0)) {
+            return sorted;
+        }
+
+        if (present) {
+            int insertAt = -idx - 1;
+            long[] next = new long[sorted.length + 1];
+            System.arraycopy(sorted, 0, next, 0, insertAt);
+            next[insertAt] = id;
+            System.arraycopy(sorted, insertAt, next, insertAt + 1, sorted.length - insertAt);
+            return next;
+        }
+
+        long[] next = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, next, 0, idx);
+        System.arraycopy(sorted, idx + 1, next, idx, sorted.length - idx - 1);
+        return next;
+    }
+
+    private static long[] toSortedArray(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
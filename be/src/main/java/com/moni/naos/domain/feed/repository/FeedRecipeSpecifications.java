@@ -0,0 +1,179 @@
+package com.moni.naos.domain.feed.repository;
+
+import com.moni.naos.domain.feed.dto.FeedFilterRequest;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.global.rsdata.CursorPage;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FeedRecipeSpecifications - 피드 조회 조건 (Criteria)
+ *
+ * 필터/커서/정렬을 DB 쿼리로 내려보내기 위한 Specification 모음
+ * - 전체 레시피를 메모리에 올리지 않고 WHERE + ORDER BY + LIMIT으로 처리
+ * - 점수순 커서는 (점수, id) seek 조건 → idx_recipe_score_popular / idx_recipe_cost_efficiency 사용
+ */
+public final class FeedRecipeSpecifications {
+
+    private FeedRecipeSpecifications() {
+    }
+
+    // ==================== 조건 ====================
+
+    /**
+     * 공개 레시피만
+     */
+    public static Specification<Recipe> isPublic() {
+        return (root, query, cb) -> cb.equal(root.get("visibility"), Recipe.Visibility.PUBLIC);
+    }
+
+    /**
+     * 특정 작성자들의 레시피만 (팔로잉 피드)
+     */
+    public static Specification<Recipe> authorIn(Collection<Long> authorIds) {
+        return (root, query, cb) -> root.get("author").get("id").in(authorIds);
+    }
+
+    /**
+     * 레시피 ID 목록 (팔로잉 타임라인에서 읽은 ID)
+     */
+    public static Specification<Recipe> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * 필터 조건 (가격/조리시간/카테고리/난이도)
+     * - 가격/조리시간이 비어있는 레시피는 통과 (기존 동작 유지)
+     * - "전체" 카테고리/난이도는 무시
+     */
+    public static Specification<Recipe> matchesFilter(FeedFilterRequest filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.getMaxPrice() != null) {
+                predicates.add(cb.or(
+                        cb.isNull(root.get("priceEstimate")),
+                        cb.le(root.get("priceEstimate"), filter.getMaxPrice())));
+            }
+
+            if (filter.getMaxCookTime() != null) {
+                predicates.add(cb.or(
+                        cb.isNull(root.get("cookTimeMin")),
+                        cb.le(root.get("cookTimeMin"), filter.getMaxCookTime())));
+            }
+
+            if (filter.hasCategory() && !isAllCategory(filter.getCategory())) {
+                predicates.add(cb.equal(root.get("category"), filter.getCategory()));
+            }
+
+            if (filter.hasDifficulty()) {
+                predicates.add(cb.equal(root.get("difficulty"), filter.getDifficulty()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 커서 조건 (이미 본 레시피 제외)
+     * - 정렬 기준에 맞는 seek 조건으로 변환
+     */
+    public static Specification<Recipe> after(FeedFilterRequest.SortBy sortBy, CursorPage.Cursor cursor) {
+        if (sortBy == FeedFilterRequest.SortBy.COST_EFFICIENCY) {
+            return scoreBefore("costEfficiencyScore", cursor);
+        }
+        return idBefore(cursor);
+    }
+
+    /**
+     * 인기순 커서 조건 (트렌딩/쇼츠)
+     */
+    public static Specification<Recipe> popularAfter(CursorPage.Cursor cursor) {
+        return scoreBefore("scorePopular", cursor);
+    }
+
+    /**
+     * id 커서 (최신순)
+     */
+    private static Specification<Recipe> idBefore(CursorPage.Cursor cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.lt(root.get("id"), cursor.id());
+    }
+
+    /**
+     * (점수 DESC, id DESC) 복합 커서 → 인덱스 seek 조건
+     * - 점수 < k OR (점수 = k AND id < i) OR 점수 IS NULL
+     * - NULL 점수는 DESC 정렬에서 맨 뒤이므로, 커서가 NULL 구간이면 id만 비교
+     */
+    private static Specification<Recipe> scoreBefore(String attribute, CursorPage.Cursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            Path<Double> score = root.get(attribute);
+            Path<Long> id = root.get("id");
+
+            if (cursor.sortKey() == null) {
+                return cb.and(cb.isNull(score), cb.lt(id, cursor.id()));
+            }
+            return cb.or(
+                    cb.lt(score, cursor.sortKey()),
+                    cb.and(cb.equal(score, cursor.sortKey()), cb.lt(id, cursor.id())),
+                    cb.isNull(score));
+        };
+    }
+
+    /**
+     * 다음 페이지 커서 생성 (마지막 레시피 기준)
+     */
+    public static String nextCursor(FeedFilterRequest.SortBy sortBy, Recipe last) {
+        if (sortBy == FeedFilterRequest.SortBy.COST_EFFICIENCY) {
+            return CursorPage.encodeCursor(last.getCostEfficiencyScore(), last.getId());
+        }
+        return CursorPage.encodeCursor(last.getId());
+    }
+
+    /**
+     * 인기순 다음 페이지 커서
+     */
+    public static String nextPopularCursor(Recipe last) {
+        return CursorPage.encodeCursor(last.getScorePopular(), last.getId());
+    }
+
+    // ==================== 정렬 ====================
+
+    /**
+     * 정렬 기준 (동점은 id DESC로 고정해서 페이지 경계가 흔들리지 않게)
+     */
+    public static Sort sortFor(FeedFilterRequest.SortBy sortBy) {
+        if (sortBy == FeedFilterRequest.SortBy.COST_EFFICIENCY) {
+            return Sort.by(Sort.Order.desc("costEfficiencyScore"), Sort.Order.desc("id"));
+        }
+        return Sort.by(Sort.Order.desc("id"));
+    }
+
+    /**
+     * 인기순 정렬 (트렌딩/쇼츠)
+     */
+    public static Sort popularSort() {
+        return Sort.by(Sort.Order.desc("scorePopular"), Sort.Order.desc("id"));
+    }
+
+    // ==================== Helper ====================
+
+    /**
+     * ⭐ "전체" 카테고리인지 확인
+     */
+    private static boolean isAllCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return true;
+        }
+        String lower = category.toLowerCase().trim();
+        return lower.equals("전체") || lower.equals("all") || lower.equals("");
+    }
+}
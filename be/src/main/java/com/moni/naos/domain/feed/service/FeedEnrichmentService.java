@@ -0,0 +1,247 @@
+package com.moni.naos.domain.feed.service;
+
+import com.moni.naos.domain.feed.dto.FeedAuthorCard;
+import com.moni.naos.domain.feed.dto.FeedItemDto;
+import com.moni.naos.domain.feed.dto.FeedRecipeMedia;
+import com.moni.naos.domain.feed.dto.ViewerRelations;
+import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
+import com.moni.naos.domain.interaction.comment.repository.CommentRepository;
+import com.moni.naos.domain.interaction.like.repository.LikeRepository;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.entity.RecipeAsset;
+import com.moni.naos.domain.recipe.entity.RecipeClip;
+import com.moni.naos.domain.recipe.entity.RecipeStats;
+import com.moni.naos.domain.recipe.repository.RecipeAssetRepository;
+import com.moni.naos.domain.recipe.repository.RecipeClipRepository;
+import com.moni.naos.domain.recipe.service.RecipeStatsService;
+import com.moni.naos.domain.user.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * FeedEnrichmentService - 피드 아이템 일괄 보강
+ *
+ * 페이지 단위로 레시피 ID를 모아서 고정된 횟수의 쿼리로 FeedItemDto를 채운다.
+ * - 작성자 프로필: FeedProjectionCache (미스만 IN (...) 1회)
+ * - 미디어(썸네일/영상) + 클립 목록: FeedProjectionCache (미스만 IN (...) 각 1회)
+ * - 좋아요/북마크/댓글 수: recipe_stats PK 조회 1회 (집계 행이 없는 레시피만 GROUP BY)
+ * - 현재 유저 상태(좋아요/북마크/팔로우): ViewerRelationCache (메모리 조회)
+ *
+ * → 페이지 크기와 무관하게 상수 횟수 (캐시 적중 시 recipe_stats 조회 1회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedEnrichmentService {
+
+    private final ProfileRepository profileRepository;
+    private final RecipeAssetRepository recipeAssetRepository;
+    private final RecipeClipRepository recipeClipRepository;
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final CommentRepository commentRepository;
+    private final RecipeStatsService recipeStatsService;
+    private final FeedProjectionCache feedProjectionCache;
+    private final ViewerRelationCache viewerRelationCache;
+
+    /**
+     * 레시피 목록 → 피드 아이템 목록 (입력 순서 유지)
+     *
+     * @param recipes  현재 페이지의 레시피 (정렬 완료 상태)
+     * @param viewerId 현재 유저 ID (비로그인이면 null)
+     */
+    public List<FeedItemDto> enrich(List<Recipe> recipes, Long viewerId) {
+        if (recipes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<FeedItemDto> items = recipes.stream()
+                .map(FeedItemDto::fromRecipe)
+                .collect(Collectors.toList());
+
+        List<Long> recipeIds = items.stream().map(FeedItemDto::getId).collect(Collectors.toList());
+        Set<Long> authorIds = items.stream().map(FeedItemDto::getAuthorId).collect(Collectors.toSet());
+
+        fillAuthors(items, authorIds);
+        fillMedia(items, recipeIds);
+        fillCounts(items, recipeIds);
+        fillViewerFlags(items, viewerId);
+
+        return items;
+    }
+
+    // ==================== 단계별 보강 ====================
+
+    /**
+     * 작성자 프로필 정보 (FeedProjectionCache)
+     */
+    private void fillAuthors(List<FeedItemDto> items, Set<Long> authorIds) {
+        Map<Long, FeedAuthorCard> authors = feedProjectionCache.getAuthors(authorIds, this::loadAuthors);
+
+        for (FeedItemDto item : items) {
+            FeedAuthorCard author = authors.get(item.getAuthorId());
+            if (author != null) {
+                item.setAuthorUsername(author.getUsername());
+                item.setAuthorFullName(author.getFullName());
+                item.setAuthorAvatarUrl(author.getAvatarUrl());
+            }
+        }
+    }
+
+    /**
+     * 미디어 + 클립 정보 (FeedProjectionCache)
+     */
+    private void fillMedia(List<FeedItemDto> items, List<Long> recipeIds) {
+        Map<Long, FeedRecipeMedia> mediaByRecipe = feedProjectionCache.getMedia(recipeIds, this::loadMedia);
+
+        for (FeedItemDto item : items) {
+            FeedRecipeMedia media = mediaByRecipe.get(item.getId());
+            List<FeedItemDto.ClipInfo> clips = media != null && media.getClips() != null
+                    ? media.getClips() : List.of();
+
+            if (media != null) {
+                item.setThumbnailUrl(media.getThumbnailUrl());
+                item.setVideoUrl(media.getVideoUrl());
+                item.setVideoDurationSec(media.getVideoDurationSec());
+            }
+
+            item.setClips(clips);
+            item.setTotalClipCount(clips.size());
+
+            // 첫 번째 클립 정보 (쇼츠/릴스용)
+            if (!clips.isEmpty()) {
+                FeedItemDto.ClipInfo firstClip = clips.get(0);
+                item.setFirstClipStartSec(firstClip.getStartSec());
+                item.setFirstClipEndSec(firstClip.getEndSec());
+                item.setFirstClipCaption(firstClip.getCaption());
+            }
+        }
+    }
+
+    // ==================== 캐시 로더 (캐시에 없는 ID만 DB 조회) ====================
+
+    /**
+     * 작성자 프로필: IN (...) 1회
+     */
+    private Map<Long, FeedAuthorCard> loadAuthors(Collection<Long> authorIds) {
+        return profileRepository.findByUserIdIn(authorIds).stream()
+                .collect(Collectors.toMap(p -> p.getUser().getId(),
+                        p -> FeedAuthorCard.builder()
+                                .username(p.getUsername())
+                                .fullName(p.getFullName())
+                                .avatarUrl(p.getAvatarUrl())
+                                .build(),
+                        (a, b) -> a));
+    }
+
+    /**
+     * 미디어(타입별 첫 번째 자산) + 클립 목록: IN (...) 각 1회
+     * - 자산/클립이 없는 레시피도 빈 값으로 캐시
+     */
+    private Map<Long, FeedRecipeMedia> loadMedia(Collection<Long> recipeIds) {
+        Map<Long, FeedRecipeMedia> result = new HashMap<>();
+        for (Long recipeId : recipeIds) {
+            result.put(recipeId, FeedRecipeMedia.builder().clips(new ArrayList<>()).build());
+        }
+
+        // id ASC 정렬 → 타입별 첫 번째만 사용 (findFirstByRecipeAndType과 동일한 자산 선택)
+        for (RecipeAsset asset : recipeAssetRepository.findByRecipeIdIn(recipeIds)) {
+            FeedRecipeMedia media = result.get(asset.getRecipe().getId());
+            if (asset.getType() == RecipeAsset.Type.THUMB && media.getThumbnailUrl() == null) {
+                media.setThumbnailUrl(asset.getUrl());
+            } else if (asset.getType() == RecipeAsset.Type.VIDEO && media.getVideoUrl() == null) {
+                media.setVideoUrl(asset.getUrl());
+                media.setVideoDurationSec(asset.getDurationS());
+            }
+        }
+
+        for (RecipeClip clip : recipeClipRepository.findByRecipeIdIn(recipeIds)) {
+            result.get(clip.getRecipe().getId()).getClips().add(FeedItemDto.ClipInfo.builder()
+                    .id(clip.getId())
+                    .indexOrd(clip.getIndexOrd())
+                    .startSec(clip.getStartSec())
+                    .endSec(clip.getEndSec())
+                    .caption(clip.getCaption())
+                    .build());
+        }
+
+        return result;
+    }
+
+    /**
+     * 상호작용 수 (recipe_stats PK 조회)
+     * - 집계 행이 아직 없는 레시피만 GROUP BY recipe_id로 계산
+     */
+    private void fillCounts(List<FeedItemDto> items, List<Long> recipeIds) {
+        Map<Long, RecipeStats> stats = recipeStatsService.getStats(recipeIds);
+
+        List<Long> missingIds = recipeIds.stream()
+                .filter(id -> !stats.containsKey(id))
+                .collect(Collectors.toList());
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+        Map<Long, Long> bookmarkCounts = new HashMap<>();
+        Map<Long, Long> commentCounts = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            likeCounts = toCountMap(likeRepository.countGroupByRecipeIds(missingIds));
+            bookmarkCounts = toCountMap(bookmarkRepository.countGroupByRecipeIds(missingIds));
+            // 삭제되지 않은 댓글만 카운트
+            commentCounts = toCountMap(commentRepository.countNotDeletedGroupByRecipeIds(missingIds));
+        }
+
+        for (FeedItemDto item : items) {
+            RecipeStats stat = stats.get(item.getId());
+            if (stat != null) {
+                item.setLikeCount(stat.getLikeCount());
+                item.setBookmarkCount(stat.getBookmarkCount());
+                item.setCommentCount(stat.getCommentCount());
+            } else {
+                item.setLikeCount(likeCounts.getOrDefault(item.getId(), 0L));
+                item.setBookmarkCount(bookmarkCounts.getOrDefault(item.getId(), 0L));
+                item.setCommentCount(commentCounts.getOrDefault(item.getId(), 0L));
+            }
+        }
+    }
+
+    /**
+     * 현재 유저 상태
+     */
+    private void fillViewerFlags(List<FeedItemDto> items, Long viewerId) {
+        if (viewerId == null) {
+            for (FeedItemDto item : items) {
+                item.setIsLiked(false);
+                item.setIsBookmarked(false);
+                item.setIsFollowing(false);
+            }
+            return;
+        }
+
+        // ⭐ 유저 관계 캐시 (첫 조회 시에만 DB 로딩) → 아이템별 메모리 조회
+        ViewerRelations relations = viewerRelationCache.get(viewerId);
+
+        for (FeedItemDto item : items) {
+            item.setIsLiked(relations.likes(item.getId()));
+            item.setIsBookmarked(relations.bookmarked(item.getId()));
+            item.setIsFollowing(relations.follows(item.getAuthorId()));
+        }
+    }
+
+    // ==================== Helper ====================
+
+    /**
+     * [recipeId, count] 행 목록 → Map
+     */
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,70 @@
+package com.moni.naos.domain.feed.service;
+
+import com.moni.naos.domain.feed.dto.FeedAuthorCard;
+import com.moni.naos.domain.feed.dto.FeedRecipeMedia;
+import com.moni.naos.global.cache.TwoTierCache;
+import com.moni.naos.global.cache.TwoTierCacheRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * FeedProjectionCache - 피드 아이템 중 유저와 무관한 부분 캐시 (L1 Caffeine + L2 Redis)
+ *
+ * - media: 레시피별 썸네일/영상/클립 목록 → 레시피/자산/클립 변경 시 무효화
+ * - author: 유저별 프로필 카드 → 프로필 변경 시 무효화
+ *
+ * 좋아요/북마크/댓글 수는 자주 바뀌므로 캐시하지 않고 recipe_stats(PK 조회) 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedProjectionCache {
+
+    private final TwoTierCacheRegistry cacheRegistry;
+
+    @Value("${custom.cache.feed.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${custom.cache.feed.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${custom.cache.feed.remote-ttl-seconds:600}")
+    private long remoteTtlSeconds;
+
+    private TwoTierCache<FeedRecipeMedia> mediaCache;
+    private TwoTierCache<FeedAuthorCard> authorCache;
+
+    @PostConstruct
+    public void init() {
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        Duration remoteTtl = Duration.ofSeconds(remoteTtlSeconds);
+        mediaCache = cacheRegistry.create("feed-media", FeedRecipeMedia.class, localMaxSize, localTtl, remoteTtl);
+        authorCache = cacheRegistry.create("feed-author", FeedAuthorCard.class, localMaxSize, localTtl, remoteTtl);
+    }
+
+    public Map<Long, FeedRecipeMedia> getMedia(Collection<Long> recipeIds,
+                                               Function<Collection<Long>, Map<Long, FeedRecipeMedia>> loader) {
+        return mediaCache.getAll(recipeIds, loader);
+    }
+
+    public Map<Long, FeedAuthorCard> getAuthors(Collection<Long> userIds,
+                                                Function<Collection<Long>, Map<Long, FeedAuthorCard>> loader) {
+        return authorCache.getAll(userIds, loader);
+    }
+
+    /** 레시피 자산/클립 변경 (커밋 후 전 인스턴스 무효화) */
+    public void evictRecipe(Long recipeId) {
+        cacheRegistry.invalidate(mediaCache, recipeId);
+    }
+
+    /** 프로필 변경 (커밋 후 전 인스턴스 무효화) */
+    public void evictAuthor(Long userId) {
+        cacheRegistry.invalidate(authorCache, userId);
+    }
+}
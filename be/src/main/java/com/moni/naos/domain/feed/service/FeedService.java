@@ -2,27 +2,20 @@ package com.moni.naos.domain.feed.service;
 
 import com.moni.naos.domain.feed.dto.FeedFilterRequest;
 import com.moni.naos.domain.feed.dto.FeedItemDto;
+import com.moni.naos.domain.feed.repository.FeedRecipeSpecifications;
 import com.moni.naos.domain.follow.repository.FollowRepository;
-import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
-import com.moni.naos.domain.interaction.comment.repository.CommentRepository;
-import com.moni.naos.domain.interaction.like.repository.LikeRepository;
 import com.moni.naos.domain.recipe.entity.Recipe;
-import com.moni.naos.domain.recipe.entity.RecipeAsset;
-import com.moni.naos.domain.recipe.entity.RecipeClip;
-import com.moni.naos.domain.recipe.repository.RecipeAssetRepository;
-import com.moni.naos.domain.recipe.repository.RecipeClipRepository;
 import com.moni.naos.domain.recipe.repository.RecipeRepository;
-import com.moni.naos.domain.user.entity.User;
-import com.moni.naos.domain.user.repository.ProfileRepository;
-import com.moni.naos.domain.user.repository.UserRepository;
 import com.moni.naos.global.rsdata.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * FeedService - 피드 핵심 로직
@@ -36,6 +29,9 @@ import java.util.stream.Collectors;
  * ⭐ 수정: User currentUser → Long userId (다른 컨트롤러와 일관성 유지)
  * ⭐ 수정: commentCount를 삭제되지 않은 댓글만 카운트하도록 변경
  * ⭐ 수정: "전체" 카테고리/난이도 선택 시 필터 무시
+ * ⭐ 수정: 필터/커서/정렬/LIMIT을 DB 쿼리로 처리 (전체 로딩 제거)
+ * ⭐ 수정: 아이템별 N+1 조회 → FeedEnrichmentService 페이지 단위 일괄 조회
+ * ⭐ 수정: 팔로잉 최신순 → FollowingTimelineService 타임라인 조회 (실패 시 DB 조회)
  */
 @Slf4j
 @Service
@@ -44,14 +40,9 @@ import java.util.stream.Collectors;
 public class FeedService {
 
     private final RecipeRepository recipeRepository;
-    private final RecipeAssetRepository recipeAssetRepository;
-    private final RecipeClipRepository recipeClipRepository;
     private final FollowRepository followRepository;
-    private final LikeRepository likeRepository;
-    private final BookmarkRepository bookmarkRepository;
-    private final CommentRepository commentRepository;
-    private final ProfileRepository profileRepository;
-    private final UserRepository userRepository;
+    private final FeedEnrichmentService feedEnrichmentService;
+    private final FollowingTimelineService followingTimelineService;
 
     // ==================== 피드 모드별 조회 ====================
 
@@ -60,8 +51,8 @@ public class FeedService {
      */
     public CursorPage<FeedItemDto> getHomeFeed(Long userId, FeedFilterRequest filter) {
         List<Recipe> recipes = fetchRecipesWithFilter(filter, null);
-        User currentUser = userId != null ? userRepository.findById(userId).orElse(null) : null;
-        return buildFeedPage(recipes, currentUser, filter.getSize());
+        return buildFeedPage(recipes, userId, filter.getSize(),
+                last -> FeedRecipeSpecifications.nextCursor(filter.getSortBy(), last));
     }
 
     /**
@@ -69,6 +60,15 @@ public class FeedService {
      */
     public CursorPage<FeedItemDto> getFollowingFeed(Long userId, FeedFilterRequest filter) {
         log.info("🔍 getFollowingFeed 호출 - userId: {}", userId);
+
+        // ⭐ 최신순은 미리 구성된 타임라인에서 조회 (팔로잉 수와 무관한 비용)
+        if (filter.getSortBy() == FeedFilterRequest.SortBy.RECENT) {
+            List<Recipe> timeline = followingTimelineService.fetchRecent(userId, filter);
+            if (timeline != null) {
+                return buildFeedPage(timeline, userId, filter.getSize(),
+                        last -> FeedRecipeSpecifications.nextCursor(filter.getSortBy(), last));
+            }
+        }
         
         // ⭐ userId로 팔로잉 목록 조회 (User 대신 Long 사용)
         List<Long> followingIds = followRepository.findFolloweeIdsByFollowerId(userId);
@@ -84,8 +84,8 @@ public class FeedService {
         
         log.info("🔍 조회된 레시피 수: {}", recipes.size());
         
-        User currentUser = userRepository.findById(userId).orElse(null);
-        return buildFeedPage(recipes, currentUser, filter.getSize());
+        return buildFeedPage(recipes, userId, filter.getSize(),
+                last -> FeedRecipeSpecifications.nextCursor(filter.getSortBy(), last));
     }
 
     /**
@@ -93,8 +93,7 @@ public class FeedService {
      */
     public CursorPage<FeedItemDto> getTrendingFeed(Long userId, FeedFilterRequest filter) {
         List<Recipe> recipes = fetchTrendingRecipes(filter);
-        User currentUser = userId != null ? userRepository.findById(userId).orElse(null) : null;
-        return buildFeedPage(recipes, currentUser, filter.getSize());
+        return buildFeedPage(recipes, userId, filter.getSize(), FeedRecipeSpecifications::nextPopularCursor);
     }
 
     /**
@@ -102,202 +101,68 @@ public class FeedService {
      */
     public CursorPage<FeedItemDto> getShortsFeed(Long userId, FeedFilterRequest filter) {
         List<Recipe> recipes = fetchTrendingRecipes(filter);
-        User currentUser = userId != null ? userRepository.findById(userId).orElse(null) : null;
-        return buildFeedPage(recipes, currentUser, filter.getSize());
+        return buildFeedPage(recipes, userId, filter.getSize(), FeedRecipeSpecifications::nextPopularCursor);
     }
 
     // ==================== 내부 메서드 ====================
 
     /**
      * 필터 조건에 맞는 레시피 조회
+     * - 필터 + 커서 + 정렬 + LIMIT(size+1)을 DB에서 처리
      */
     private List<Recipe> fetchRecipesWithFilter(FeedFilterRequest filter, List<Long> authorIds) {
-        List<Recipe> allRecipes;
-        
+        CursorPage.Cursor cursor = CursorPage.decodeCursor(filter.getCursor());
+
+        Specification<Recipe> spec = Specification.allOf(
+                FeedRecipeSpecifications.isPublic(),
+                FeedRecipeSpecifications.matchesFilter(filter),
+                FeedRecipeSpecifications.after(filter.getSortBy(), cursor));
+
         if (authorIds != null && !authorIds.isEmpty()) {
             // 팔로잉 피드: 특정 작성자들의 레시피만
-            allRecipes = recipeRepository.findAll().stream()
-                    .filter(r -> r.getVisibility() == Recipe.Visibility.PUBLIC)
-                    .filter(r -> authorIds.contains(r.getAuthor().getId()))
-                    .collect(Collectors.toList());
-        } else {
-            // 홈 피드: 전체 공개 레시피
-            allRecipes = recipeRepository.findByVisibilityOrderByCreatedAtDesc(Recipe.Visibility.PUBLIC);
+            spec = spec.and(FeedRecipeSpecifications.authorIn(authorIds));
         }
-        
-        // 필터 + 커서 + 정렬 적용
-        return allRecipes.stream()
-                .filter(r -> applyFilter(r, filter))
-                .filter(r -> applyCursor(r, filter.getCursor(), filter.getSortBy()))
-                .sorted(getComparator(filter.getSortBy()))
-                .limit(filter.getSize() + 1)
-                .collect(Collectors.toList());
+
+        Sort sort = FeedRecipeSpecifications.sortFor(filter.getSortBy());
+        return recipeRepository.findBy(spec, q -> q.sortBy(sort).limit(filter.getSize() + 1).all());
     }
 
     /**
      * 트렌딩 레시피 조회 (인기순)
+     * - (scorePopular, id) 복합 커서로 다음 페이지 이어서 조회
      */
     private List<Recipe> fetchTrendingRecipes(FeedFilterRequest filter) {
-        List<Recipe> allRecipes = recipeRepository.findByVisibilityOrderByCreatedAtDesc(Recipe.Visibility.PUBLIC);
-        
-        return allRecipes.stream()
-                .filter(r -> applyFilter(r, filter))
-                .sorted(Comparator.comparing(Recipe::getScorePopular, Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(filter.getSize() + 1)
-                .collect(Collectors.toList());
-    }
+        CursorPage.Cursor cursor = CursorPage.decodeCursor(filter.getCursor());
 
-    /**
-     * 필터 조건 적용
-     * ⭐ 수정: "전체" 값이면 필터 무시
-     */
-    private boolean applyFilter(Recipe recipe, FeedFilterRequest filter) {
-        // 가격 필터
-        if (filter.getMaxPrice() != null && recipe.getPriceEstimate() != null) {
-            if (recipe.getPriceEstimate() > filter.getMaxPrice()) {
-                return false;
-            }
-        }
-        
-        // 조리시간 필터
-        if (filter.getMaxCookTime() != null && recipe.getCookTimeMin() != null) {
-            if (recipe.getCookTimeMin() > filter.getMaxCookTime()) {
-                return false;
-            }
-        }
-        
-        // ⭐ 카테고리 필터 - "전체"면 무시
-        if (filter.hasCategory() && !isAllCategory(filter.getCategory())) {
-            if (!filter.getCategory().equals(recipe.getCategory())) {
-                return false;
-            }
-        }
-        
-        // ⭐ 난이도 필터 - "전체"면 무시 (hasDifficulty가 이미 null 체크함)
-        if (filter.hasDifficulty()) {
-            if (recipe.getDifficulty() != filter.getDifficulty()) {
-                return false;
-            }
-        }
-        
-        return true;
-    }
+        Specification<Recipe> spec = Specification.allOf(
+                FeedRecipeSpecifications.isPublic(),
+                FeedRecipeSpecifications.matchesFilter(filter),
+                FeedRecipeSpecifications.popularAfter(cursor));
 
-    /**
-     * ⭐ "전체" 카테고리인지 확인
-     */
-    private boolean isAllCategory(String category) {
-        if (category == null || category.isBlank()) {
-            return true;
-        }
-        String lower = category.toLowerCase().trim();
-        return lower.equals("전체") || lower.equals("all") || lower.equals("");
-    }
-
-    /**
-     * 커서 적용 (이미 본 레시피 제외)
-     */
-    private boolean applyCursor(Recipe recipe, Long cursor, FeedFilterRequest.SortBy sortBy) {
-        if (cursor == null) {
-            return true;
-        }
-        return recipe.getId() < cursor;
-    }
-
-    /**
-     * 정렬 기준 반환
-     */
-    private Comparator<Recipe> getComparator(FeedFilterRequest.SortBy sortBy) {
-        if (sortBy == FeedFilterRequest.SortBy.COST_EFFICIENCY) {
-            return Comparator.comparing(Recipe::getCostEfficiencyScore, Comparator.nullsLast(Comparator.reverseOrder()));
-        }
-        return Comparator.comparing(Recipe::getId, Comparator.reverseOrder());
+        Sort sort = FeedRecipeSpecifications.popularSort();
+        return recipeRepository.findBy(spec, q -> q.sortBy(sort).limit(filter.getSize() + 1).all());
     }
 
     /**
      * 피드 페이지 빌드
+     * - 아이템 보강은 FeedEnrichmentService에서 페이지 단위로 일괄 처리
+     *
+     * @param cursorOf 마지막 레시피 → 다음 페이지 커서 토큰
      */
-    private CursorPage<FeedItemDto> buildFeedPage(List<Recipe> recipes, User currentUser, int pageSize) {
+    private CursorPage<FeedItemDto> buildFeedPage(List<Recipe> recipes, Long userId, int pageSize,
+                                                  Function<Recipe, String> cursorOf) {
         boolean hasNext = recipes.size() > pageSize;
         
         if (hasNext) {
             recipes = recipes.subList(0, pageSize);
         }
         
-        List<FeedItemDto> items = recipes.stream()
-                .map(recipe -> enrichFeedItem(recipe, currentUser))
-                .collect(Collectors.toList());
+        List<FeedItemDto> items = feedEnrichmentService.enrich(recipes, userId);
         
-        Long nextCursor = hasNext && !items.isEmpty() 
-                ? items.get(items.size() - 1).getId() 
+        String nextCursor = hasNext && !recipes.isEmpty() 
+                ? cursorOf.apply(recipes.get(recipes.size() - 1)) 
                 : null;
         
         return CursorPage.of(items, nextCursor, hasNext);
     }
-
-    /**
-     * 피드 아이템에 추가 정보 채우기
-     */
-    private FeedItemDto enrichFeedItem(Recipe recipe, User currentUser) {
-        FeedItemDto item = FeedItemDto.fromRecipe(recipe);
-        
-        // 작성자 프로필 정보
-        profileRepository.findByUser(recipe.getAuthor()).ifPresent(profile -> {
-            item.setAuthorUsername(profile.getUsername());
-            item.setAuthorFullName(profile.getFullName());
-            item.setAuthorAvatarUrl(profile.getAvatarUrl());
-        });
-        
-        // 미디어 정보
-        recipeAssetRepository.findFirstByRecipeAndType(recipe, RecipeAsset.Type.THUMB)
-                .ifPresent(asset -> item.setThumbnailUrl(asset.getUrl()));
-        
-        recipeAssetRepository.findFirstByRecipeAndType(recipe, RecipeAsset.Type.VIDEO)
-                .ifPresent(asset -> {
-                    item.setVideoUrl(asset.getUrl());
-                    item.setVideoDurationSec(asset.getDurationS());
-                });
-        
-        // 클립 정보
-        List<RecipeClip> clips = recipeClipRepository.findByRecipeOrderByIndexOrdAsc(recipe);
-        item.setTotalClipCount(clips.size());
-        
-        List<FeedItemDto.ClipInfo> clipInfos = clips.stream()
-                .map(clip -> FeedItemDto.ClipInfo.builder()
-                        .id(clip.getId())
-                        .indexOrd(clip.getIndexOrd())
-                        .startSec(clip.getStartSec())
-                        .endSec(clip.getEndSec())
-                        .caption(clip.getCaption())
-                        .build())
-                .collect(Collectors.toList());
-        item.setClips(clipInfos);
-        
-        // 첫 번째 클립 정보 (쇼츠/릴스용)
-        if (!clips.isEmpty()) {
-            RecipeClip firstClip = clips.get(0);
-            item.setFirstClipStartSec(firstClip.getStartSec());
-            item.setFirstClipEndSec(firstClip.getEndSec());
-            item.setFirstClipCaption(firstClip.getCaption());
-        }
-        
-        // 상호작용 수
-        item.setLikeCount(likeRepository.countByRecipe(recipe));
-        item.setBookmarkCount(bookmarkRepository.countByRecipe(recipe));
-        // ⭐ 수정: 삭제되지 않은 댓글만 카운트
-        item.setCommentCount(commentRepository.countByRecipeAndNotDeleted(recipe));
-        
-        // 현재 유저 상태
-        if (currentUser != null) {
-            item.setIsLiked(likeRepository.existsByUserAndRecipe(currentUser, recipe));
-            item.setIsBookmarked(bookmarkRepository.existsByUserAndRecipe(currentUser, recipe));
-            item.setIsFollowing(followRepository.existsByFollowerAndFollowee(currentUser, recipe.getAuthor()));
-        } else {
-            item.setIsLiked(false);
-            item.setIsBookmarked(false);
-            item.setIsFollowing(false);
-        }
-        
-        return item;
-    }
 }
@@ -0,0 +1,306 @@
+package com.moni.naos.domain.feed.service;
+
+import com.moni.naos.domain.feed.dto.FeedFilterRequest;
+import com.moni.naos.domain.feed.repository.FeedRecipeSpecifications;
+import com.moni.naos.domain.follow.repository.FollowRepository;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.repository.RecipeRepository;
+import com.moni.naos.global.rsdata.CursorPage;
+import com.moni.naos.global.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * FollowingTimelineService - 팔로잉 타임라인 (fan-out-on-write)
+ *
+ * 구조:
+ * - naos:timeline:{userId} : Redis Sorted Set (member/score = recipeId, 최신 maxSize개 유지)
+ * - naos:timeline:celebrities : 팔로워가 많은 작성자 Set (fan-out 생략, 읽을 때 pull)
+ *
+ * 흐름:
+ * 1. 발행 시 작성자의 팔로워 타임라인에 recipeId 추가 (push)
+ *    → ⭐ 커밋 후 전용 풀(fan-out-threads, 큐 fan-out-queue-size)에서 실행 - 발행 응답이 팔로워 수에 비례해 늘지 않음
+ *    → 큐가 가득 차면 호출 스레드에서 실행 (유실 대신 백프레셔)
+ * 2. 조회 시 타임라인 ID → 필터 조건으로 레시피 로딩 + 팔로우 중인 셀럽 레시피 병합 (pull)
+ * 3. 타임라인이 없거나 만료되면 DB에서 재구성, 팔로우 변경 시 무효화
+ *
+ * Redis 장애 등으로 사용할 수 없으면 null을 반환 → FeedService가 기존 DB 조회로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowingTimelineService {
+
+    private static final String KEY_PREFIX = "naos:timeline:";
+    private static final String CELEBRITY_KEY = "naos:timeline:celebrities";
+
+    /** 빈 타임라인도 "구성됨"으로 표시하기 위한 멤버 (score 0 → 조회 범위 밖) */
+    private static final String SENTINEL = "0";
+
+    /** 필터에 걸러지는 경우 타임라인을 추가로 읽는 최대 횟수 */
+    private static final int MAX_ROUNDS = 3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowRepository followRepository;
+    private final RecipeRepository recipeRepository;
+
+    @Value("${custom.feed.timeline.max-size:800}")
+    private int maxSize;
+
+    @Value("${custom.feed.timeline.celebrity-threshold:5000}")
+    private long celebrityThreshold;
+
+    @Value("${custom.feed.timeline.ttl-days:7}")
+    private long ttlDays;
+
+    @Value("${custom.feed.timeline.fan-out-threads:2}")
+    private int fanOutThreads;
+
+    @Value("${custom.feed.timeline.fan-out-queue-size:1000}")
+    private int fanOutQueueSize;
+
+    private ExecutorService fanOutExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        fanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutQueueSize),
+                r -> {
+                    Thread t = new Thread(r, "timeline-fanout-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        fanOutExecutor.shutdown();
+        if (!fanOutExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            fanOutExecutor.shutdownNow();
+        }
+    }
+
+    // ==================== 쓰기 (fan-out) ====================
+
+    /**
+     * 새 레시피를 팔로워 타임라인에 추가 (커밋 후, fan-out 풀에서 비동기)
+     * - 팔로워가 많은 작성자는 fan-out 대신 셀럽으로 등록 (조회 시 pull)
+     */
+    public void fanOut(Long authorId, Long recipeId) {
+        TransactionUtil.afterCommit(() -> fanOutExecutor.execute(() -> doFanOut(authorId, recipeId)));
+    }
+
+    /**
+     * 팔로우 관계 변경 → 해당 유저 타임라인 무효화 (커밋 후, 다음 조회 시 재구성)
+     */
+    public void invalidate(Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                stringRedisTemplate.delete(key(userId));
+            } catch (Exception e) {
+                log.warn("타임라인 무효화 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    private void doFanOut(Long authorId, Long recipeId) {
+        try {
+            long followerCount = followRepository.countByFolloweeId(authorId);
+            if (followerCount >= celebrityThreshold) {
+                stringRedisTemplate.opsForSet().add(CELEBRITY_KEY, String.valueOf(authorId));
+                log.info("타임라인 fan-out 생략 (셀럽): authorId={}, followers={}", authorId, followerCount);
+                return;
+            }
+
+            List<Long> followerIds = followRepository.findFollowerIdsByFolloweeId(authorId);
+            if (followerIds.isEmpty()) {
+                return;
+            }
+
+            // 이미 구성된 타임라인에만 추가 (없는 타임라인은 조회 시 DB에서 재구성)
+            List<Object> exists = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long followerId : followerIds) {
+                    conn.exists(key(followerId));
+                }
+                return null;
+            });
+
+            String member = String.valueOf(recipeId);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (int i = 0; i < followerIds.size(); i++) {
+                    if (Boolean.TRUE.equals(exists.get(i))) {
+                        String key = key(followerIds.get(i));
+                        conn.zAdd(key, recipeId, member);
+                        conn.zRemRange(key, 0, -(maxSize + 1));
+                    }
+                }
+                return null;
+            });
+
+            log.info("타임라인 fan-out: authorId={}, recipeId={}, followers={}", authorId, recipeId, followerIds.size());
+        } catch (Exception e) {
+            log.warn("타임라인 fan-out 실패: authorId={}, recipeId={}, error={}", authorId, recipeId, e.getMessage());
+        }
+    }
+
+    // ==================== 읽기 ====================
+
+    /**
+     * 팔로잉 피드 최신순 조회 (최대 size+1개, id DESC)
+     *
+     * @return 타임라인을 사용할 수 없으면 null (호출자가 DB 조회로 대체)
+     */
+    public List<Recipe> fetchRecent(Long userId, FeedFilterRequest filter) {
+        try {
+            String key = key(userId);
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                rebuild(userId);
+            }
+
+            CursorPage.Cursor cursor = CursorPage.decodeCursor(filter.getCursor());
+            int limit = filter.getSize() + 1;
+            Sort sort = FeedRecipeSpecifications.sortFor(FeedFilterRequest.SortBy.RECENT);
+
+            // 1. push: 타임라인 ID → 필터 통과 레시피
+            List<Recipe> pushed = new ArrayList<>();
+            double before = cursor != null ? cursor.id() - 1 : Double.MAX_VALUE;
+            boolean exhausted = false;
+
+            for (int round = 0; round < MAX_ROUNDS && pushed.size() < limit; round++) {
+                Set<String> members = stringRedisTemplate.opsForZSet()
+                        .reverseRangeByScore(key, 1, before, 0, limit);
+                List<Long> ids = members == null ? List.of() : members.stream()
+                        .map(Long::valueOf)
+                        .collect(Collectors.toList());
+
+                if (!ids.isEmpty()) {
+                    Specification<Recipe> spec = Specification.allOf(
+                            FeedRecipeSpecifications.isPublic(),
+                            FeedRecipeSpecifications.matchesFilter(filter),
+                            FeedRecipeSpecifications.idIn(ids));
+                    int remaining = limit - pushed.size();
+                    pushed.addAll(recipeRepository.findBy(spec, q -> q.sortBy(sort).limit(remaining).all()));
+                    before = ids.get(ids.size() - 1) - 1;
+                }
+
+                if (ids.size() < limit) {
+                    exhausted = true;
+                    break;
+                }
+            }
+
+            if (pushed.size() < limit) {
+                // 필터에 대부분 걸러졌거나, 잘려나간(maxSize 초과) 오래된 구간까지 내려온 경우
+                Long card = stringRedisTemplate.opsForZSet().zCard(key);
+                if (!exhausted || (card != null && card >= maxSize)) {
+                    return null;
+                }
+            }
+
+            // 2. pull: 팔로우 중인 셀럽의 레시피 병합
+            List<Recipe> pulled = fetchFromCelebrities(userId, filter, cursor, limit, sort);
+            if (pulled.isEmpty()) {
+                return pushed;
+            }
+
+            Map<Long, Recipe> merged = new TreeMap<>(Comparator.reverseOrder());
+            pushed.forEach(r -> merged.put(r.getId(), r));
+            pulled.forEach(r -> merged.putIfAbsent(r.getId(), r));
+            return merged.values().stream().limit(limit).collect(Collectors.toList());
+
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("타임라인 조회 실패, DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 팔로우 중인 셀럽의 레시피 (pull)
+     */
+    private List<Recipe> fetchFromCelebrities(Long userId, FeedFilterRequest filter, CursorPage.Cursor cursor,
+                                              int limit, Sort sort) {
+        Set<Long> celebrityIds = celebrityIds();
+        if (celebrityIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> followed = followRepository.findFolloweeIdsByFollowerIdAndFolloweeIdIn(userId, celebrityIds);
+        if (followed.isEmpty()) {
+            return List.of();
+        }
+
+        Specification<Recipe> spec = Specification.allOf(
+                FeedRecipeSpecifications.isPublic(),
+                FeedRecipeSpecifications.matchesFilter(filter),
+                FeedRecipeSpecifications.after(FeedFilterRequest.SortBy.RECENT, cursor),
+                FeedRecipeSpecifications.authorIn(followed));
+        return recipeRepository.findBy(spec, q -> q.sortBy(sort).limit(limit).all());
+    }
+
+    /**
+     * DB에서 타임라인 재구성 (셀럽 제외 팔로잉 작성자의 최신 maxSize개)
+     */
+    private void rebuild(Long userId) {
+        Set<Long> celebrityIds = celebrityIds();
+        List<Long> authorIds = followRepository.findFolloweeIdsByFollowerId(userId).stream()
+                .filter(id -> !celebrityIds.contains(id))
+                .collect(Collectors.toList());
+
+        List<Long> recipeIds = authorIds.isEmpty()
+                ? List.of()
+                : recipeRepository.findPublicIdsByAuthorIds(authorIds, PageRequest.of(0, maxSize));
+
+        String key = key(userId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(key);
+            conn.zAdd(key, 0, SENTINEL);
+            for (Long recipeId : recipeIds) {
+                conn.zAdd(key, recipeId, String.valueOf(recipeId));
+            }
+            conn.expire(key, Duration.ofDays(ttlDays).toSeconds());
+            return null;
+        });
+
+        log.debug("타임라인 재구성: userId={}, size={}", userId, recipeIds.size());
+    }
+
+    // ==================== Helper ====================
+
+    private Set<Long> celebrityIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(CELEBRITY_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
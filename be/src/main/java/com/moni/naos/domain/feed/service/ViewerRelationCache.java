@@ -0,0 +1,92 @@
+package com.moni.naos.domain.feed.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moni.naos.domain.feed.dto.ViewerRelations;
+import com.moni.naos.domain.follow.repository.FollowRepository;
+import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
+import com.moni.naos.domain.interaction.like.repository.LikeRepository;
+import com.moni.naos.global.cache.TwoTierCacheRegistry;
+import com.moni.naos.global.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * ViewerRelationCache - 유저별 좋아요/북마크/팔로우 관계 캐시 (로컬)
+ *
+ * - 첫 조회 시 유저의 전체 관계를 한 번 로딩 (쿼리 3회) → 이후 피드 아이템별 플래그는 메모리 조회
+ * - 토글 시 커밋 후 로컬 캐시 갱신 + 다른 인스턴스에는 삭제 메시지 전파 (다음 조회 시 재로딩)
+ * - 일정 시간 조회가 없으면 만료
+ * - ⭐ 크기 제한은 유저 수가 아닌 보관 ID 수 합계 (maximumWeight) - 관계가 많은 유저도 힙 사용량 상한 내
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewerRelationCache {
+
+    private static final String CACHE_NAME = "viewer-relations";
+
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final FollowRepository followRepository;
+    private final TwoTierCacheRegistry cacheRegistry;
+
+    /** 전체 유저의 좋아요/북마크/팔로우 ID 수 합계 상한 (ID당 8바이트) */
+    @Value("${custom.cache.viewer.max-ids:5000000}")
+    private long maxIds;
+
+    @Value("${custom.cache.viewer.idle-minutes:30}")
+    private long idleMinutes;
+
+    private Cache<Long, ViewerRelations> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((Long userId, ViewerRelations relations) -> 1 + relations.size())
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        cacheRegistry.registerLocal(CACHE_NAME, cache::invalidate);
+    }
+
+    public ViewerRelations get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    // ==================== 토글 반영 (커밋 후) ====================
+
+    public void onLike(Long userId, Long recipeId, boolean liked) {
+        update(userId, relations -> relations.withLike(recipeId, liked));
+    }
+
+    public void onBookmark(Long userId, Long recipeId, boolean bookmarked) {
+        update(userId, relations -> relations.withBookmark(recipeId, bookmarked));
+    }
+
+    public void onFollow(Long userId, Long targetUserId, boolean following) {
+        update(userId, relations -> relations.withFollow(targetUserId, following));
+    }
+
+    private void update(Long userId, UnaryOperator<ViewerRelations> change) {
+        TransactionUtil.afterCommit(() -> {
+            cache.asMap().computeIfPresent(userId, (id, relations) -> change.apply(relations));
+            cacheRegistry.publishEvict(CACHE_NAME, userId);
+        });
+    }
+
+    private ViewerRelations load(Long userId) {
+        ViewerRelations relations = ViewerRelations.of(
+                likeRepository.findRecipeIdsByUserId(userId),
+                bookmarkRepository.findRecipeIdsByUserId(userId),
+                followRepository.findFolloweeIdsByFollowerId(userId));
+        log.debug("관계 캐시 로딩: userId={}", userId);
+        return relations;
+    }
+}
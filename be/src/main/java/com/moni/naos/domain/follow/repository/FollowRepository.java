@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +30,9 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     /** 팔로워 수 (나를 팔로우하는 사람 수) */
     long countByFollowee(User followee);
 
+    /** 팔로워 수 - Long userId 파라미터 (타임라인 fan-out 판단용) */
+    long countByFolloweeId(Long followeeId);
+
     /** 팔로잉 수 (내가 팔로우하는 사람 수) */
     long countByFollower(User follower);
 
@@ -43,4 +47,13 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     /** 나를 팔로우하는 사람들의 ID 목록 */
     @Query("SELECT f.follower.id FROM Follow f WHERE f.followee = :followee")
     List<Long> findFollowerIdsByFollowee(@Param("followee") User followee);
+
+    /** 나를 팔로우하는 사람들의 ID 목록 - Long userId 파라미터 (타임라인 fan-out용) */
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :followeeId")
+    List<Long> findFollowerIdsByFolloweeId(@Param("followeeId") Long followeeId);
+
+    /** 주어진 유저 중 내가 팔로우하는 유저 ID (피드 배치 보강용) */
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :followerId AND f.followee.id IN :followeeIds")
+    List<Long> findFolloweeIdsByFollowerIdAndFolloweeIdIn(@Param("followerId") Long followerId,
+                                                          @Param("followeeIds") Collection<Long> followeeIds);
 }
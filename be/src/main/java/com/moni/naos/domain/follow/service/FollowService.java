@@ -1,5 +1,7 @@
 package com.moni.naos.domain.follow.service;
 
+import com.moni.naos.domain.feed.service.FollowingTimelineService;
+import com.moni.naos.domain.feed.service.ViewerRelationCache;
 import com.moni.naos.domain.follow.dto.FollowUserResponse;
 import com.moni.naos.domain.follow.entity.Follow;
 import com.moni.naos.domain.follow.repository.FollowRepository;
@@ -27,6 +29,8 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
     private final RedisPublisher redisPublisher;  // ⭐ Redis
+    private final FollowingTimelineService followingTimelineService;
+    private final ViewerRelationCache viewerRelationCache;
 
     /**
      * 팔로우 토글 (팔로우/언팔로우)
@@ -58,6 +62,10 @@ public class FollowService {
             followed = true;
         }
 
+        // ⭐ 팔로잉 타임라인 재구성 (다음 조회 시) + 관계 캐시 갱신
+        followingTimelineService.invalidate(userId);
+        viewerRelationCache.onFollow(userId, targetUserId, followed);
+
         // ⭐ 실시간 알림 (팔로우 당한 사람에게)
         if (followed) {
             broadcastFollow(targetUserId, userId, follower);
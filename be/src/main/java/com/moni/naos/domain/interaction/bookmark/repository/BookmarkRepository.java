@@ -3,10 +3,14 @@ package com.moni.naos.domain.interaction.bookmark.repository;
 import com.moni.naos.domain.interaction.bookmark.entity.Bookmark;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +38,28 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     /** 레시피의 북마크 수 */
     long countByRecipe(Recipe recipe);
+
+    /** 여러 레시피의 북마크 수 [recipeId, count] (피드 배치 보강용) */
+    @Query("SELECT b.recipe.id, COUNT(b) FROM Bookmark b WHERE b.recipe.id IN :recipeIds GROUP BY b.recipe.id")
+    List<Object[]> countGroupByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /** 주어진 레시피 중 유저가 북마크한 레시피 ID */
+    @Query("SELECT b.recipe.id FROM Bookmark b WHERE b.user.id = :userId AND b.recipe.id IN :recipeIds")
+    List<Long> findBookmarkedRecipeIds(@Param("userId") Long userId, @Param("recipeIds") Collection<Long> recipeIds);
+
+    /** 워터마크 이후 북마크 [id, recipeId, createdAt, userId] (id 오름차순, 점수 배치용) */
+    @Query("SELECT b.id, b.recipe.id, b.createdAt, b.user.id FROM Bookmark b WHERE b.id > :afterId AND b.createdAt <= :until ORDER BY b.id")
+    List<Object[]> findScoringChunk(@Param("afterId") Long afterId, @Param("until") Instant until, Pageable pageable);
+
+    /** 북마크 삭제 (id 기반, 삭제된 행 수 반환 - 존재 확인 겸용) */
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.user.id = :userId AND b.recipe.id = :recipeId")
+    int deleteByUserIdAndRecipeId(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+
+    /** 레시피의 북마크 수 (id 기반, 카운터 초기값용) */
+    long countByRecipeId(Long recipeId);
+
+    /** 유저가 북마크한 레시피 ID 전체 (관계 캐시 로딩용) */
+    @Query("SELECT b.recipe.id FROM Bookmark b WHERE b.user.id = :userId")
+    List<Long> findRecipeIdsByUserId(@Param("userId") Long userId);
 }
@@ -1,12 +1,16 @@
 package com.moni.naos.domain.interaction.bookmark.service;
 
+import com.moni.naos.domain.feed.service.ViewerRelationCache;
 import com.moni.naos.domain.interaction.bookmark.entity.Bookmark;
 import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.recipe.repository.RecipeRepository;
+import com.moni.naos.domain.recipe.service.RecipeCountBroadcaster;
+import com.moni.naos.domain.recipe.service.RecipeCounterService;
+import com.moni.naos.domain.recipe.service.RecipeCounterService.CounterType;
 import com.moni.naos.domain.user.entity.User;
 import com.moni.naos.domain.user.repository.UserRepository;
-import com.moni.naos.global.websocket.RedisPublisher;
+import com.moni.naos.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,7 +21,8 @@ import java.util.List;
 
 /**
  * BookmarkService - 북마크(스크랩) 비즈니스 로직
- * - Redis Pub/Sub으로 실시간 브로드캐스트
+ * - Redis Pub/Sub으로 실시간 브로드캐스트 (RecipeCountBroadcaster가 주기별로 병합)
+ * - 카운트는 RecipeCounterService (Redis write-behind)
  */
 @Slf4j
 @Service
@@ -28,7 +33,9 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final RecipeRepository recipeRepository;
-    private final RedisPublisher redisPublisher;  // ⭐ Redis
+    private final RecipeCounterService recipeCounterService;
+    private final RecipeCountBroadcaster recipeCountBroadcaster;  // ⭐ 병합 브로드캐스트
+    private final ViewerRelationCache viewerRelationCache;
 
     /**
      * 북마크 토글 (있으면 삭제, 없으면 추가)
@@ -36,31 +43,30 @@ public class BookmarkService {
      */
     @Transactional
     public boolean toggle(Long userId, Long recipeId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+        if (!recipeRepository.existsById(recipeId)) {
+            throw new IllegalArgumentException("레시피를 찾을 수 없습니다.");
+        }
 
-        boolean bookmarked;
-        if (bookmarkRepository.existsByUserAndRecipe(user, recipe)) {
-            bookmarkRepository.deleteByUserAndRecipe(user, recipe);
-            log.info("북마크 취소: userId={}, recipeId={}", userId, recipeId);
-            bookmarked = false;
-        } else {
+        // ⭐ 삭제 건수로 존재 여부 판단 (exists + delete 1회로)
+        boolean bookmarked = bookmarkRepository.deleteByUserIdAndRecipeId(userId, recipeId) == 0;
+        if (bookmarked) {
             Bookmark bookmark = Bookmark.builder()
-                    .user(user)
-                    .recipe(recipe)
+                    .user(userRepository.getReferenceById(userId))
+                    .recipe(recipeRepository.getReferenceById(recipeId))
                     .createdAt(Instant.now())
                     .build();
             bookmarkRepository.save(bookmark);
             log.info("북마크 추가: userId={}, recipeId={}", userId, recipeId);
-            bookmarked = true;
+        } else {
+            log.info("북마크 취소: userId={}, recipeId={}", userId, recipeId);
         }
 
-        // ⭐ 실시간 브로드캐스트
-        long count = bookmarkRepository.countByRecipe(recipe);
-        broadcastBookmark(recipeId, userId, bookmarked, count);
+        // ⭐ 카운터 갱신 + 실시간 브로드캐스트 (커밋 후, 카운트는 Redis에서)
+        viewerRelationCache.onBookmark(userId, recipeId, bookmarked);
+        TransactionUtil.afterCommit(() -> {
+            recipeCounterService.increment(recipeId, CounterType.BOOKMARK, bookmarked ? 1 : -1);
+            recipeCountBroadcaster.offer(recipeId);
+        });
 
         return bookmarked;
     }
@@ -86,15 +92,6 @@ public class BookmarkService {
     }
 
     public long getCount(Long recipeId) {
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
-        return bookmarkRepository.countByRecipe(recipe);
+        return recipeCounterService.get(recipeId, CounterType.BOOKMARK);
     }
-
-    private void broadcastBookmark(Long recipeId, Long userId, boolean bookmarked, long count) {
-        BookmarkMessage message = new BookmarkMessage(recipeId, userId, bookmarked, count, bookmarked ? "BOOKMARKED" : "UNBOOKMARKED");
-        redisPublisher.publishLike(recipeId, message);  // 같은 채널 사용
-    }
-
-    public record BookmarkMessage(Long recipeId, Long userId, boolean bookmarked, long count, String type) {}
 }
@@ -2,10 +2,13 @@ package com.moni.naos.domain.interaction.comment.repository;
 
 import com.moni.naos.domain.interaction.comment.entity.Comment;
 import com.moni.naos.domain.recipe.entity.Recipe;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,4 +35,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /** 레시피의 전체 댓글 수 */
     long countByRecipe(Recipe recipe);
+
+    /** 여러 레시피의 댓글 수 [recipeId, count] (삭제되지 않은 것만, 피드 배치 보강용) */
+    @Query("SELECT c.recipe.id, COUNT(c) FROM Comment c WHERE c.recipe.id IN :recipeIds AND c.deletedAt IS NULL GROUP BY c.recipe.id")
+    List<Object[]> countNotDeletedGroupByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /** 워터마크 이후 댓글 [id, recipeId, createdAt] (삭제 제외, id 오름차순, 점수 배치용) */
+    @Query("SELECT c.id, c.recipe.id, c.createdAt FROM Comment c WHERE c.id > :afterId AND c.createdAt <= :until AND c.deletedAt IS NULL ORDER BY c.id")
+    List<Object[]> findScoringChunk(@Param("afterId") Long afterId, @Param("until") Instant until, Pageable pageable);
 }
@@ -9,6 +9,7 @@ import com.moni.naos.domain.interaction.comment.repository.CommentLikeRepository
 import com.moni.naos.domain.interaction.comment.repository.CommentRepository;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.recipe.repository.RecipeRepository;
+import com.moni.naos.domain.recipe.service.RecipeStatsService;
 import com.moni.naos.domain.user.entity.User;
 import com.moni.naos.domain.user.repository.UserRepository;
 import com.moni.naos.global.websocket.RedisPublisher;
@@ -38,6 +39,7 @@ public class CommentService {
     private final RecipeRepository recipeRepository;
     private final UserRepository userRepository;
     private final RedisPublisher redisPublisher;
+    private final RecipeStatsService recipeStatsService;
 
     @Transactional
     public CommentResponse create(Long userId, Long recipeId, CommentCreateRequest request) {
@@ -60,6 +62,7 @@ public class CommentService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
+        recipeStatsService.addComments(recipeId, 1);
         log.info("댓글 작성: commentId={}, userId={}, recipeId={}", saved.getId(), userId, recipeId);
 
         broadcastComment(saved, recipeId, "CREATED");
@@ -121,6 +124,7 @@ public class CommentService {
         }
 
         Long recipeId = comment.getRecipe().getId();
+        int deletedCount = 0;
         
         // ⭐ 대댓글(자식 댓글)도 함께 삭제 (Cascade Soft Delete)
         List<Comment> children = commentRepository.findByParentOrderByCreatedAtAsc(comment);
@@ -129,16 +133,25 @@ public class CommentService {
                 child.setDeletedAt(Instant.now());
                 child.setText("삭제된 댓글입니다.");
                 commentRepository.save(child);
+                deletedCount++;
                 log.info("대댓글 삭제: commentId={}", child.getId());
             }
         }
         
         // 부모 댓글 삭제
+        if (comment.getDeletedAt() == null) {
+            deletedCount++;
+        }
         comment.setDeletedAt(Instant.now());
         comment.setText("삭제된 댓글입니다.");
         commentRepository.save(comment);
         log.info("댓글 삭제: commentId={}", commentId);
 
+        // ⭐ 집계 카운터 감소 (삭제된 댓글 수만큼)
+        if (deletedCount > 0) {
+            recipeStatsService.addComments(recipeId, -deletedCount);
+        }
+
         broadcastComment(comment, recipeId, "DELETED");
     }
 
@@ -176,9 +189,7 @@ public class CommentService {
     }
 
     public long getCommentCount(Long recipeId) {
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
-        return commentRepository.countByRecipeAndNotDeleted(recipe);
+        return recipeStatsService.getCommentCount(recipeId);
     }
 
     private CommentResponse toResponseWithLikes(Comment comment, User currentUser) {
@@ -3,8 +3,15 @@ package com.moni.naos.domain.interaction.like.repository;
 import com.moni.naos.domain.interaction.like.entity.Like;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +31,28 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     /** 레시피의 좋아요 수 */
     long countByRecipe(Recipe recipe);
+
+    /** 여러 레시피의 좋아요 수 [recipeId, count] (피드 배치 보강용) */
+    @Query("SELECT l.recipe.id, COUNT(l) FROM Like l WHERE l.recipe.id IN :recipeIds GROUP BY l.recipe.id")
+    List<Object[]> countGroupByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /** 주어진 레시피 중 유저가 좋아요한 레시피 ID */
+    @Query("SELECT l.recipe.id FROM Like l WHERE l.user.id = :userId AND l.recipe.id IN :recipeIds")
+    List<Long> findLikedRecipeIds(@Param("userId") Long userId, @Param("recipeIds") Collection<Long> recipeIds);
+
+    /** 워터마크 이후 좋아요 [id, recipeId, createdAt, userId] (id 오름차순, 점수 배치용) */
+    @Query("SELECT l.id, l.recipe.id, l.createdAt, l.user.id FROM Like l WHERE l.id > :afterId AND l.createdAt <= :until ORDER BY l.id")
+    List<Object[]> findScoringChunk(@Param("afterId") Long afterId, @Param("until") Instant until, Pageable pageable);
+
+    /** 좋아요 삭제 (id 기반, 삭제된 행 수 반환 - 존재 확인 겸용) */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.recipe.id = :recipeId")
+    int deleteByUserIdAndRecipeId(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+
+    /** 레시피의 좋아요 수 (id 기반, 카운터 초기값용) */
+    long countByRecipeId(Long recipeId);
+
+    /** 유저가 좋아요한 레시피 ID 전체 (관계 캐시 로딩용) */
+    @Query("SELECT l.recipe.id FROM Like l WHERE l.user.id = :userId")
+    List<Long> findRecipeIdsByUserId(@Param("userId") Long userId);
 }
@@ -1,12 +1,16 @@
 package com.moni.naos.domain.interaction.like.service;
 
+import com.moni.naos.domain.feed.service.ViewerRelationCache;
 import com.moni.naos.domain.interaction.like.entity.Like;
 import com.moni.naos.domain.interaction.like.repository.LikeRepository;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.recipe.repository.RecipeRepository;
+import com.moni.naos.domain.recipe.service.RecipeCountBroadcaster;
+import com.moni.naos.domain.recipe.service.RecipeCounterService;
+import com.moni.naos.domain.recipe.service.RecipeCounterService.CounterType;
 import com.moni.naos.domain.user.entity.User;
 import com.moni.naos.domain.user.repository.UserRepository;
-import com.moni.naos.global.websocket.RedisPublisher;
+import com.moni.naos.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,7 +20,9 @@ import java.time.Instant;
 
 /**
  * LikeService - 좋아요 비즈니스 로직
- * - Redis Pub/Sub으로 실시간 브로드캐스트
+ * - Redis Pub/Sub으로 실시간 브로드캐스트 (RecipeCountBroadcaster가 주기별로 병합)
+ * - 카운트는 RecipeCounterService (Redis write-behind)
+ * - 인기 점수는 ScoringBatch에서 주기적으로 계산
  */
 @Slf4j
 @Service
@@ -27,7 +33,9 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final RecipeRepository recipeRepository;
-    private final RedisPublisher redisPublisher;  // ⭐ Redis
+    private final RecipeCounterService recipeCounterService;
+    private final RecipeCountBroadcaster recipeCountBroadcaster;  // ⭐ 병합 브로드캐스트
+    private final ViewerRelationCache viewerRelationCache;
 
     /**
      * 좋아요 토글 (있으면 삭제, 없으면 추가)
@@ -35,33 +43,30 @@ public class LikeService {
      */
     @Transactional
     public boolean toggle(Long userId, Long recipeId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
+        if (!recipeRepository.existsById(recipeId)) {
+            throw new IllegalArgumentException("레시피를 찾을 수 없습니다.");
+        }
 
-        boolean liked;
-        if (likeRepository.existsByUserAndRecipe(user, recipe)) {
-            likeRepository.deleteByUserAndRecipe(user, recipe);
-            updateRecipeScore(recipe, -1);
-            log.info("좋아요 취소: userId={}, recipeId={}", userId, recipeId);
-            liked = false;
-        } else {
+        // ⭐ 삭제 건수로 존재 여부 판단 (exists + delete 1회로)
+        boolean liked = likeRepository.deleteByUserIdAndRecipeId(userId, recipeId) == 0;
+        if (liked) {
             Like like = Like.builder()
-                    .user(user)
-                    .recipe(recipe)
+                    .user(userRepository.getReferenceById(userId))
+                    .recipe(recipeRepository.getReferenceById(recipeId))
                     .createdAt(Instant.now())
                     .build();
             likeRepository.save(like);
-            updateRecipeScore(recipe, +1);
             log.info("좋아요 추가: userId={}, recipeId={}", userId, recipeId);
-            liked = true;
+        } else {
+            log.info("좋아요 취소: userId={}, recipeId={}", userId, recipeId);
         }
 
-        // ⭐ 실시간 브로드캐스트
-        long count = likeRepository.countByRecipe(recipe);
-        broadcastLike(recipeId, userId, liked, count);
+        // ⭐ 카운터 갱신 + 실시간 브로드캐스트 (커밋 후, 카운트는 Redis에서)
+        viewerRelationCache.onLike(userId, recipeId, liked);
+        TransactionUtil.afterCommit(() -> {
+            recipeCounterService.increment(recipeId, CounterType.LIKE, liked ? 1 : -1);
+            recipeCountBroadcaster.offer(recipeId);
+        });
 
         return liked;
     }
@@ -75,23 +80,6 @@ public class LikeService {
     }
 
     public long getCount(Long recipeId) {
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다."));
-        return likeRepository.countByRecipe(recipe);
+        return recipeCounterService.get(recipeId, CounterType.LIKE);
     }
-
-    @Transactional
-    protected void updateRecipeScore(Recipe recipe, int delta) {
-        Double currentScore = recipe.getScorePopular();
-        if (currentScore == null) currentScore = 0.0;
-        recipe.setScorePopular(currentScore + delta);
-        recipeRepository.save(recipe);
-    }
-
-    private void broadcastLike(Long recipeId, Long userId, boolean liked, long count) {
-        LikeMessage message = new LikeMessage(recipeId, userId, liked, count, liked ? "LIKED" : "UNLIKED");
-        redisPublisher.publishLike(recipeId, message);
-    }
-
-    public record LikeMessage(Long recipeId, Long userId, boolean liked, long count, String type) {}
 }
@@ -12,6 +12,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * RecipeController - 레시피 CRUD + 업로드 플로우 API
@@ -79,12 +80,13 @@ public class RecipeController {
 
     @Operation(summary = "AI 분석 요청", description = "재료 기반 AI 분석을 요청합니다.")
     @PostMapping("/{id}/analyze")
-    public ResponseEntity<RecipeAnalysisResponse> requestAnalysis(
+    public CompletableFuture<ResponseEntity<RecipeAnalysisResponse>> requestAnalysis(
             @AuthenticationPrincipal Long userId,
             @PathVariable Long id
     ) {
-        RecipeAnalysisResponse response = recipeService.requestAnalysis(userId, id);
-        return ResponseEntity.ok(response);
+        // ⭐ 비동기 응답 - AI 서버 대기 중 서블릿 스레드 반환
+        return recipeService.requestAnalysisAsync(userId, id)
+                .thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "레시피 발행", description = "레시피를 최종 발행합니다.")
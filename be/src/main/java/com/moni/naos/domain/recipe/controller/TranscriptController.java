@@ -2,7 +2,9 @@ package com.moni.naos.domain.recipe.controller;
 
 import com.moni.naos.domain.recipe.dto.ClipWithTextResponse;
 import com.moni.naos.domain.recipe.dto.TranscriptResponse;
+import com.moni.naos.domain.recipe.dto.TranscriptSearchHit;
 import com.moni.naos.domain.recipe.dto.TranscriptSegmentDto;
+import com.moni.naos.domain.recipe.service.TranscriptSearchService;
 import com.moni.naos.domain.recipe.service.TranscriptService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +24,7 @@ import java.util.Map;
  * 2. 전사 결과 조회
  * 3. 클립별 텍스트 조회 (시간 구간 기반)
  * 4. 수동 텍스트 입력
+ * 5. ⭐ 전사 텍스트 검색 (세그먼트 단위, 타임스탬프 포함)
  */
 @Tag(name = "Transcript", description = "전사(STT) API")
 @RestController
@@ -30,6 +33,7 @@ import java.util.Map;
 public class TranscriptController {
 
     private final TranscriptService transcriptService;
+    private final TranscriptSearchService transcriptSearchService;
 
     // ==================== 전사 결과 저장 (AI 서버용) ====================
 
@@ -107,6 +111,18 @@ public class TranscriptController {
         return ResponseEntity.ok(Map.of("completed", completed));
     }
 
+    // ==================== 전사 텍스트 검색 ====================
+
+    @Operation(summary = "전사 텍스트 검색", description = "영상에서 말한 내용으로 검색합니다. 결과의 startSec으로 해당 위치로 이동할 수 있습니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<TranscriptSearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(transcriptSearchService.search(q, page, size));
+    }
+
     // ==================== 시간 구간 → 텍스트 조회 ====================
 
     @Operation(summary = "시간 구간 텍스트 조회", description = "특정 시간 구간의 전사 텍스트를 조회합니다.")
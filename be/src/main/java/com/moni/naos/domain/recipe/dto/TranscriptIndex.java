@@ -0,0 +1,135 @@
+package com.moni.naos.domain.recipe.dto;
+
+import com.moni.naos.domain.recipe.entity.RecipeClipSegment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TranscriptIndex - 레시피 전사 세그먼트의 시간 구간 인덱스 (불변)
+ *
+ * - 시작 시간 순으로 정렬된 primitive 배열 (starts, ends, maxEnds)
+ * - maxEnds[i] = ends[0..i] 중 최댓값 (단조 증가) → 겹침 시작 위치도 이진 탐색
+ * - 구간 조회: O(log n + 결과 수), 조회마다 새 DTO 생성 (캐시 공유 객체 변경 방지)
+ * - 시작/종료 시간이 없는 세그먼트는 어떤 구간과도 겹치지 않으므로 제외
+ */
+public final class TranscriptIndex {
+
+    public static final TranscriptIndex EMPTY = new TranscriptIndex(List.of());
+
+    private final long[] ids;
+    private final int[] indexOrds;
+    private final double[] starts;
+    private final double[] ends;
+    private final double[] maxEnds;
+    private final String[] texts;
+
+    private TranscriptIndex(List<RecipeClipSegment> sorted) {
+        int n = sorted.size();
+        this.ids = new long[n];
+        this.indexOrds = new int[n];
+        this.starts = new double[n];
+        this.ends = new double[n];
+        this.maxEnds = new double[n];
+        this.texts = new String[n];
+
+        double maxEnd = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            RecipeClipSegment seg = sorted.get(i);
+            ids[i] = seg.getId();
+            indexOrds[i] = seg.getIndexOrd();
+            starts[i] = seg.getStartSec();
+            ends[i] = seg.getEndSec();
+            texts[i] = seg.getText();
+            maxEnd = Math.max(maxEnd, ends[i]);
+            maxEnds[i] = maxEnd;
+        }
+    }
+
+    public static TranscriptIndex of(List<RecipeClipSegment> segments) {
+        List<RecipeClipSegment> sorted = new ArrayList<>(segments.size());
+        for (RecipeClipSegment seg : segments) {
+            if (seg.getStartSec() != null && seg.getEndSec() != null) {
+                sorted.add(seg);
+            }
+        }
+        sorted.sort(Comparator.comparingDouble(RecipeClipSegment::getStartSec)
+                .thenComparingInt(RecipeClipSegment::getIndexOrd));
+        return sorted.isEmpty() ? EMPTY : new TranscriptIndex(sorted);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * [startSec, endSec) 구간과 겹치는 세그먼트 (시작 시간 순)
+     * - 겹침 조건: segEnd > startSec && segStart < endSec (경계만 닿으면 제외)
+     */
+    public List<TranscriptSegmentDto> overlapping(Double startSec, Double endSec) {
+        if (startSec == null || endSec == null || starts.length == 0) {
+            return new ArrayList<>();
+        }
+
+        int from = firstGreater(maxEnds, startSec);   // 이전 세그먼트는 모두 startSec 이전에 끝남
+        int to = firstAtLeast(starts, endSec);        // 이후 세그먼트는 모두 endSec 이후에 시작
+
+        List<TranscriptSegmentDto> result = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            if (ends[i] > startSec) {
+                result.add(toDto(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전체 세그먼트 (시작 시간 순)
+     */
+    public List<TranscriptSegmentDto> all() {
+        List<TranscriptSegmentDto> result = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            result.add(toDto(i));
+        }
+        return result;
+    }
+
+    private TranscriptSegmentDto toDto(int i) {
+        return TranscriptSegmentDto.builder()
+                .id(ids[i])
+                .index(indexOrds[i])
+                .start(starts[i])
+                .end(ends[i])
+                .text(texts[i])
+                .build();
+    }
+
+    /** values[i] > key 인 첫 위치 (values 오름차순) */
+    private static int firstGreater(double[] values, double key) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] > key) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /** values[i] >= key 인 첫 위치 (values 오름차순) */
+    private static int firstAtLeast(double[] values, double key) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] >= key) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+}
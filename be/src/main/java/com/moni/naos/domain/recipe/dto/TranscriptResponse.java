@@ -51,6 +51,11 @@ public class TranscriptResponse {
      */
     private Integer segmentCount;
 
+    /**
+     * 전사 진행 위치 (초) - PROCESSING 중에도 저장된 세그먼트까지 조회 가능
+     */
+    private Double progressSec;
+
     /**
      * 전사 상태
      * PENDING, PROCESSING, COMPLETED, FAILED, NO_AUDIO
@@ -62,6 +67,11 @@ public class TranscriptResponse {
      */
     private String errorMessage;
 
+    /**
+     * ⭐ 재시도 가능 여부 (FAILED일 때 AI 서버 일시 장애 여부)
+     */
+    private boolean retryable;
+
     private Instant createdAt;
     private Instant updatedAt;
 
@@ -76,8 +86,10 @@ public class TranscriptResponse {
                 .detectedLanguage(meta.getDetectedLanguage())
                 .durationSec(meta.getDurationSec())
                 .segmentCount(meta.getSegmentCount())
+                .progressSec(meta.getProgressSec())
                 .status(meta.getStatus().name())
                 .errorMessage(meta.getErrorMessage())
+                .retryable(meta.isRetryable())
                 .createdAt(meta.getCreatedAt())
                 .updatedAt(meta.getUpdatedAt())
                 .segments(new ArrayList<>())
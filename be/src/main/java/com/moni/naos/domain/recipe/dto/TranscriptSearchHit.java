@@ -0,0 +1,37 @@
+package com.moni.naos.domain.recipe.dto;
+
+import lombok.*;
+
+/**
+ * TranscriptSearchHit - 전사 텍스트 검색 결과 1건
+ *
+ * 세그먼트 단위로 반환 → startSec으로 영상 해당 위치로 바로 이동
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranscriptSearchHit {
+
+    private Long recipeId;
+    private String recipeTitle;
+
+    private Long segmentId;
+
+    /**
+     * 세그먼트 시작/종료 시간 (초)
+     */
+    private Double startSec;
+    private Double endSec;
+
+    /**
+     * 세그먼트 텍스트
+     */
+    private String text;
+
+    /**
+     * 관련도 점수 (높을수록 관련)
+     */
+    private Double score;
+}
@@ -16,7 +16,8 @@ import java.time.Instant;
         // ⭐ uniqueConstraint 제거 → 같은 레시피 여러 번 요리 기록 허용
         indexes = {
                 @Index(name = "idx_cooking_user_started", columnList = "user_id, startedAt"),
-                @Index(name = "idx_cooking_user_recipe_active", columnList = "user_id, recipe_id, active")
+                @Index(name = "idx_cooking_user_recipe_active", columnList = "user_id, recipe_id, active"),
+                @Index(name = "idx_cooking_ended", columnList = "endedAt")
         }
 )
 public class Cooking {
@@ -43,9 +44,18 @@ public class Cooking {
     @Column(nullable = false)
     private boolean active = true;
 
-    public void endCooking() {
+    /**
+     * 요리 종료 - 이미 종료된 세션은 변경하지 않음
+     * (endedAt이 다시 바뀌면 점수 배치의 (endedAt, id) 워터마크가 같은 완료를 한 번 더 반영)
+     * @return true: 이번 호출로 종료됨
+     */
+    public boolean endCooking() {
+        if (!isActive()) {
+            return false;
+        }
         this.endedAt = Instant.now();
         this.active = false;
+        return true;
     }
 
     public boolean isActive() {
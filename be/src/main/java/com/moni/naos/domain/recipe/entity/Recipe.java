@@ -15,6 +15,7 @@ import java.util.List;
                 @Index(name="idx_recipe_author_created", columnList="author_id, createdAt DESC"),
                 @Index(name="idx_recipe_created",       columnList="createdAt DESC"),
                 @Index(name="idx_recipe_score_popular", columnList="scorePopular DESC"),
+                @Index(name="idx_recipe_visibility_popular", columnList="visibility, scorePopular DESC, id DESC"),
                 @Index(name="idx_recipe_cost_efficiency", columnList="cost_efficiency_score DESC")
         })
 public class Recipe extends BaseEntity {
@@ -62,6 +63,8 @@ public class Recipe extends BaseEntity {
     @Builder.Default
     private boolean disableComments = false;
 
+    /** ⭐ ScoringBatch가 SQL로만 누적 (엔티티 flush가 이전 값으로 덮어쓰지 않도록 updatable=false) */
+    @Column(updatable = false)
     @Builder.Default
     private Double scorePopular = 0d;
     
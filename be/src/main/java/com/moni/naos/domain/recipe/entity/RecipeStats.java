@@ -0,0 +1,50 @@
+package com.moni.naos.domain.recipe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * RecipeStats - 레시피 집계 카운터 (비정규화)
+ *
+ * - 좋아요/북마크 수: RecipeCounterService(Redis)에서 누적 후 주기적으로 일괄 반영
+ * - 댓글/요리 완료 수: RecipeStatsService에서 UPDATE n = n + ? 로 즉시 반영
+ * - 어긋난 값은 RecipeStatsReconcileBatch가 실제 COUNT로 보정
+ *
+ * recipes 행을 건드리지 않으므로 인기 레시피의 행 잠금 경합이 없음
+ * 카운트 조회는 COUNT(*) 대신 PK 조회
+ */
+@Entity
+@Table(name = "recipe_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeStats {
+
+    /** recipes.id (1:1, 별도 FK 매핑 없이 PK로 사용) */
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long likeCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long bookmarkCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long commentCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long cookCount = 0;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
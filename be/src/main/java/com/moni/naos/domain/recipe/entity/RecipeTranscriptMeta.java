@@ -56,6 +56,11 @@ public class RecipeTranscriptMeta {
      */
     private Integer segmentCount;
 
+    /**
+     * ⭐ 전사 진행 위치 (초) - 스트리밍 전사 중 마지막으로 저장된 세그먼트의 종료 시각
+     */
+    private Double progressSec;
+
     /**
      * 전사 상태
      */
@@ -70,6 +75,13 @@ public class RecipeTranscriptMeta {
     @Column(length = 500)
     private String errorMessage;
 
+    /**
+     * ⭐ 재시도 가능 여부 (AI 서버 일시 장애로 실패한 경우 true)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean retryable = false;
+
     @CreationTimestamp
     private Instant createdAt;
 
@@ -93,6 +105,19 @@ public class RecipeTranscriptMeta {
     public void startProcessing() {
         this.status = TranscriptStatus.PROCESSING;
         this.errorMessage = null;
+        this.retryable = false;
+        this.progressSec = null;
+    }
+
+    /**
+     * ⭐ 스트리밍 전사 진행 (세그먼트 일부 저장 후)
+     */
+    public void recordProgress(int segmentCount, Double progressSec, Double duration) {
+        this.segmentCount = segmentCount;
+        this.progressSec = progressSec;
+        if (duration != null) {
+            this.durationSec = duration;
+        }
     }
 
     /**
@@ -105,14 +130,24 @@ public class RecipeTranscriptMeta {
         this.detectedLanguage = language;
         this.status = TranscriptStatus.COMPLETED;
         this.errorMessage = null;
+        this.retryable = false;
+        this.progressSec = duration;
     }
 
     /**
      * 전사 실패
      */
     public void fail(String errorMessage) {
+        fail(errorMessage, false);
+    }
+
+    /**
+     * ⭐ 전사 실패 (재시도 가능 여부 지정)
+     */
+    public void fail(String errorMessage, boolean retryable) {
         this.status = TranscriptStatus.FAILED;
         this.errorMessage = errorMessage;
+        this.retryable = retryable;
     }
 
     /**
@@ -120,6 +155,7 @@ public class RecipeTranscriptMeta {
      */
     public void markNoAudio() {
         this.status = TranscriptStatus.NO_AUDIO;
+        this.retryable = false;
         this.errorMessage = "영상에 음성이 감지되지 않았습니다. 수동으로 텍스트를 입력해주세요.";
     }
 
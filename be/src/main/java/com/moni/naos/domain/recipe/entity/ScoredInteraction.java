@@ -0,0 +1,46 @@
+package com.moni.naos.domain.recipe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * ScoredInteraction - 인기 점수 배치(ScoringBatch)에 이미 반영된 (소스, 유저, 레시피)
+ *
+ * - 좋아요/북마크는 토글 시 행을 삭제 후 새 id로 다시 만들기 때문에, id 워터마크만으로는
+ *   취소 → 재등록을 반복할 때마다 점수가 다시 더해짐
+ * - 여기 기록된 조합은 다시 점수에 반영하지 않음 (유저당 레시피별 최초 1회)
+ * - 점수 UPDATE/워터마크 전진과 같은 트랜잭션에서 기록 (INSERT IGNORE)
+ */
+@Entity
+@Table(name = "scored_interactions")
+@IdClass(ScoredInteraction.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoredInteraction {
+
+    /** like, bookmark */
+    @Id
+    @Column(length = 32)
+    private String source;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String source;
+        private Long userId;
+        private Long recipeId;
+    }
+}
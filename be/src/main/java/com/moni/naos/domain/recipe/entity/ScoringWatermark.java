@@ -0,0 +1,38 @@
+package com.moni.naos.domain.recipe.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * ScoringWatermark - 인기 점수 배치(ScoringBatch) 소스별 처리 위치
+ *
+ * - 점수 UPDATE와 같은 트랜잭션에서 전진 → 청크 반영과 워터마크가 함께 커밋/롤백
+ * - version 조건부 UPDATE로 전진 (동시 실행 시 한쪽만 성공 → 같은 청크 중복 반영 없음)
+ */
+@Entity
+@Table(name = "scoring_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoringWatermark {
+
+    /** like, bookmark, comment, cooking */
+    @Id
+    @Column(length = 32)
+    private String source;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long lastId = 0;
+
+    /** 요리 완료만 사용 ((endedAt, id) 워터마크) */
+    private Instant lastAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private long version = 0;
+}
@@ -3,8 +3,13 @@ package com.moni.naos.domain.recipe.repository;
 import com.moni.naos.domain.recipe.entity.Cooking;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +33,21 @@ public interface CookingRepository extends JpaRepository<Cooking, Long> {
 
     // ⭐ 추가: 여러 활성 세션 목록 (최신순)
     List<Cooking> findByUserAndActiveTrueOrderByStartedAtDesc(User user);
+
+    /** 워터마크 이후 완료된 요리 [id, recipeId, endedAt] ((endedAt, id) 오름차순, 점수 배치용) */
+    @Query("SELECT c.id, c.recipe.id, c.endedAt FROM Cooking c " +
+            "WHERE c.active = false AND c.endedAt <= :until " +
+            "AND (c.endedAt > :afterAt OR (c.endedAt = :afterAt AND c.id > :afterId)) " +
+            "ORDER BY c.endedAt, c.id")
+    List<Object[]> findCompletedScoringChunk(@Param("afterAt") Instant afterAt,
+                                             @Param("afterId") Long afterId,
+                                             @Param("until") Instant until,
+                                             Pageable pageable);
+
+    /** 레시피의 완료된 요리 수 */
+    long countByRecipeIdAndActiveFalse(Long recipeId);
+
+    /** 여러 레시피의 완료된 요리 수 [recipeId, count] (집계 보정용) */
+    @Query("SELECT c.recipe.id, COUNT(c) FROM Cooking c WHERE c.recipe.id IN :recipeIds AND c.active = false GROUP BY c.recipe.id")
+    List<Object[]> countCompletedGroupByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
 }
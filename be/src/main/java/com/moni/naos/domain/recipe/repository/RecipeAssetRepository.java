@@ -3,7 +3,10 @@ package com.moni.naos.domain.recipe.repository;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.recipe.entity.RecipeAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +24,8 @@ public interface RecipeAssetRepository extends JpaRepository<RecipeAsset, Long>
 
     /** 레시피의 첫 번째 특정 타입 자산 */
     Optional<RecipeAsset> findFirstByRecipeAndType(Recipe recipe, RecipeAsset.Type type);
+
+    /** 여러 레시피의 자산 일괄 조회 (피드 배치 보강용, id 오름차순) */
+    @Query("SELECT a FROM RecipeAsset a WHERE a.recipe.id IN :recipeIds ORDER BY a.id ASC")
+    List<RecipeAsset> findByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
 }
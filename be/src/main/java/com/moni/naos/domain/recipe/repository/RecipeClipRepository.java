@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,6 +19,10 @@ public interface RecipeClipRepository extends JpaRepository<RecipeClip, Long> {
     /** 레시피의 클립 목록 (순서대로) */
     List<RecipeClip> findByRecipeOrderByIndexOrdAsc(Recipe recipe);
 
+    /** 여러 레시피의 클립 일괄 조회 (피드 배치 보강용, 레시피별 순서대로) */
+    @Query("SELECT c FROM RecipeClip c WHERE c.recipe.id IN :recipeIds ORDER BY c.recipe.id ASC, c.indexOrd ASC")
+    List<RecipeClip> findByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
     /** 레시피의 클립 수 */
     long countByRecipe(Recipe recipe);
 
@@ -15,9 +15,45 @@ import java.util.List;
  */
 public interface RecipeClipSegmentRepository extends JpaRepository<RecipeClipSegment, Long> {
 
+    /**
+     * 세그먼트 일괄 INSERT (JdbcTemplate.batchUpdate용)
+     * - IDENTITY 전략은 Hibernate 배치가 불가 → JDBC 배치로 직접 실행
+     * - MySQL은 rewriteBatchedStatements=true 로 multi-row INSERT로 재작성됨
+     * - 파라미터: recipe_id, idx_ord, text, start_sec, end_sec
+     */
+    String BULK_INSERT_SQL =
+            "INSERT INTO recipe_script_segments (recipe_id, idx_ord, text, start_sec, end_sec) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * 레시피의 세그먼트 텍스트 (순서대로, JdbcTemplate 스트리밍 조회용)
+     * - 파라미터: recipe_id
+     */
+    String TEXT_BY_RECIPE_SQL =
+            "SELECT text FROM recipe_script_segments WHERE recipe_id = ? ORDER BY idx_ord";
+
+    /**
+     * 전사 텍스트 전문 검색 (FULLTEXT ft_segment_text, ngram parser)
+     * - WHERE: BOOLEAN MODE (검색어 단어를 모두 포함하는 세그먼트)
+     * - 정렬: NATURAL LANGUAGE MODE 관련도
+     * - 공개 레시피만
+     * - 파라미터: 관련도 검색어, 필터 검색어, limit, offset
+     */
+    String FULLTEXT_SEARCH_SQL =
+            "SELECT s.id, s.recipe_id, r.title, s.start_sec, s.end_sec, s.text, " +
+            "MATCH(s.text) AGAINST (? IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM recipe_script_segments s " +
+            "JOIN recipes r ON r.id = s.recipe_id AND r.visibility = 'PUBLIC' " +
+            "WHERE MATCH(s.text) AGAINST (? IN BOOLEAN MODE) " +
+            "ORDER BY score DESC, s.id " +
+            "LIMIT ? OFFSET ?";
+
     /** 레시피의 세그먼트 목록 (순서대로) */
     List<RecipeClipSegment> findByRecipeOrderByIndexOrdAsc(Recipe recipe);
 
+    /** 레시피의 세그먼트 목록 - Long recipeId 파라미터 (전사 인덱스 로딩용) */
+    List<RecipeClipSegment> findByRecipeIdOrderByIndexOrdAsc(Long recipeId);
+
     /** 레시피의 세그먼트 전체 삭제 */
     @Modifying
     @Query("DELETE FROM RecipeClipSegment s WHERE s.recipe = :recipe")
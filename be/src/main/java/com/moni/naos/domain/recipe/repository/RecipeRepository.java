@@ -2,19 +2,25 @@ package com.moni.naos.domain.recipe.repository;
 
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * RecipeRepository
  * - 레시피 기본 CRUD
  * - visibility 기반 조회 (PUBLIC, FOLLOWERS, PRIVATE)
+ * - 피드 조회는 Specification (FeedRecipeSpecifications) 사용
  */
-public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe> {
 
     // ==================== 기존 메서드 ====================
 
@@ -22,6 +28,11 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 
     List<Recipe> findByTitleContainingIgnoreCase(String keyword);
 
+    /** 행 잠금 조회 (같은 레시피 대상 AI 작업 등록 직렬화) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Recipe r WHERE r.id = :id")
+    Optional<Recipe> findByIdForUpdate(@Param("id") Long id);
+
     // ==================== Visibility 기반 조회 ====================
 
     List<Recipe> findByVisibilityOrderByCreatedAtDesc(Recipe.Visibility visibility);
@@ -58,6 +69,10 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     @Query("SELECT r FROM Recipe r WHERE r.author.id IN :followingIds AND r.visibility = 'PUBLIC' ORDER BY r.createdAt DESC")
     List<Recipe> findByFollowingUsers(@Param("followingIds") List<Long> followingIds, Pageable pageable);
 
+    /** 작성자들의 공개 레시피 ID (최신순) - 팔로잉 타임라인 재구성용 */
+    @Query("SELECT r.id FROM Recipe r WHERE r.author.id IN :authorIds AND r.visibility = 'PUBLIC' ORDER BY r.id DESC")
+    List<Long> findPublicIdsByAuthorIds(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
     // ==================== 통계 ====================
 
     long countByAuthorAndVisibility(User author, Recipe.Visibility visibility);
@@ -0,0 +1,52 @@
+package com.moni.naos.domain.recipe.repository;
+
+import com.moni.naos.domain.recipe.entity.RecipeStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RecipeStatsRepository
+ * - 레시피 집계 카운터 조회 (PK 조회)
+ * - 증감은 단일 UPDATE n = n + ? (행이 없으면 SEED_SQL로 현재 COUNT 기준 생성)
+ */
+public interface RecipeStatsRepository extends JpaRepository<RecipeStats, Long> {
+
+    /**
+     * 집계 행 생성 SQL (실제 COUNT 기준, 이미 있으면 무시) - JdbcTemplate으로 실행
+     * - 파라미터: 미반영 좋아요 증감, 미반영 북마크 증감, recipeId
+     * - 좋아요/북마크는 COUNT - 미반영 증감 (RecipeCounterService.pendingDeltas)
+     *   → 이미 COUNT에 포함된 변경을 이후 flush가 한 번 더 더하지 않도록
+     */
+    String SEED_SQL =
+            "INSERT IGNORE INTO recipe_stats " +
+            "(recipe_id, like_count, bookmark_count, comment_count, cook_count, updated_at) " +
+            "SELECT r.id, " +
+            "(SELECT COUNT(*) FROM likes l WHERE l.recipe_id = r.id) - ?, " +
+            "(SELECT COUNT(*) FROM bookmarks b WHERE b.recipe_id = r.id) - ?, " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.recipe_id = r.id AND c.deleted_at IS NULL), " +
+            "(SELECT COUNT(*) FROM cooking_session cs WHERE cs.recipe_id = r.id AND cs.active = false), " +
+            "NOW(6) FROM recipes r WHERE r.id = ?";
+
+    /** 이미 집계 행이 있는 레시피 ID */
+    @Query("SELECT s.recipeId FROM RecipeStats s WHERE s.recipeId IN :recipeIds")
+    List<Long> findExistingRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /** 보정 배치용 청크 (recipe_id 오름차순) */
+    List<RecipeStats> findByRecipeIdGreaterThanOrderByRecipeIdAsc(Long recipeId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE recipe_stats SET comment_count = GREATEST(comment_count + :delta, 0), updated_at = NOW(6) " +
+            "WHERE recipe_id = :recipeId", nativeQuery = true)
+    int addCommentCount(@Param("recipeId") Long recipeId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE recipe_stats SET cook_count = GREATEST(cook_count + :delta, 0), updated_at = NOW(6) " +
+            "WHERE recipe_id = :recipeId", nativeQuery = true)
+    int addCookCount(@Param("recipeId") Long recipeId, @Param("delta") long delta);
+}
@@ -0,0 +1,20 @@
+package com.moni.naos.domain.recipe.repository;
+
+import com.moni.naos.domain.recipe.entity.ScoringWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * ScoringWatermarkRepository
+ * - 전진은 ADVANCE_SQL (JdbcTemplate, 점수 배치 UPDATE와 같은 트랜잭션)
+ */
+public interface ScoringWatermarkRepository extends JpaRepository<ScoringWatermark, String> {
+
+    /** 워터마크 행 생성 (이미 있으면 무시) - 파라미터: source */
+    String INIT_SQL =
+            "INSERT IGNORE INTO scoring_watermarks (source, last_id, last_at, version) VALUES (?, 0, NULL, 0)";
+
+    /** 조건부 전진 - 파라미터: lastId, lastAt, source, 읽은 version (0건이면 다른 실행이 먼저 전진) */
+    String ADVANCE_SQL =
+            "UPDATE scoring_watermarks SET last_id = ?, last_at = ?, version = version + 1 " +
+            "WHERE source = ? AND version = ?";
+}
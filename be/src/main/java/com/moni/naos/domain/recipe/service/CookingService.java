@@ -37,6 +37,7 @@ public class CookingService {
     private final RecipeRepository recipeRepository;
     private final RecipeClipRepository recipeClipRepository;
     private final UserRepository userRepository;
+    private final RecipeStatsService recipeStatsService;
 
     /**
      * 요리 시작
@@ -106,8 +107,12 @@ public class CookingService {
             throw new IllegalArgumentException("본인의 세션만 종료할 수 있습니다.");
         }
 
-        cooking.endCooking();
+        // ⭐ 이미 종료된 세션은 그대로 반환 (완료 수/인기 점수 중복 반영 없음)
+        if (!cooking.endCooking()) {
+            return CookingSessionResponse.fromEntity(cooking);
+        }
         Cooking saved = cookingRepository.save(cooking);
+        recipeStatsService.addCooks(cooking.getRecipe().getId(), 1);
 
         log.info("요리 종료: sessionId={}", sessionId);
         return CookingSessionResponse.fromEntity(saved);
@@ -129,6 +134,7 @@ public class CookingService {
 
         cooking.endCooking();
         Cooking saved = cookingRepository.save(cooking);
+        recipeStatsService.addCooks(recipeId, 1);
 
         log.info("요리 종료 (by recipeId): userId={}, recipeId={}", userId, recipeId);
         return CookingSessionResponse.fromEntity(saved);
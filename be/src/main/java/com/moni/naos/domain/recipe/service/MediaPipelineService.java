@@ -1,5 +1,6 @@
 package com.moni.naos.domain.recipe.service;
 
+import com.moni.naos.domain.feed.service.FeedProjectionCache;
 import com.moni.naos.domain.recipe.dto.PresignedUrlResponse;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.recipe.entity.RecipeAsset;
@@ -41,6 +42,7 @@ public class MediaPipelineService {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final S3Properties s3Properties;
+    private final FeedProjectionCache feedProjectionCache;
 
     @Value("${cloud.aws.region.static:ap-northeast-2}")
     private String region;
@@ -149,6 +151,7 @@ public class MediaPipelineService {
                 .build();
 
         recipeAssetRepository.save(asset);
+        feedProjectionCache.evictRecipe(recipeId);
         log.info("미디어 업로드 완료 - Recipe: {}, Type: {}", recipeId, type);
     }
 
@@ -0,0 +1,73 @@
+package com.moni.naos.domain.recipe.service;
+
+import com.moni.naos.domain.recipe.service.RecipeCounterService.CounterType;
+import com.moni.naos.global.websocket.RedisPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RecipeCountBroadcaster - 좋아요/북마크 수 실시간 브로드캐스트 병합
+ *
+ * - 토글마다 발행하지 않고 변경된 레시피만 표시 (offer)
+ * - custom.counter.broadcast-interval-ms마다 레시피당 1건 발행 (최신 좋아요/북마크 수)
+ *   → 인기 레시피에서 탭 수와 무관하게 레시피당 최대 1프레임/주기
+ * - 발행 시점에 카운트를 다시 읽음 → 커밋 순서가 뒤바뀌어도 마지막 값이 최신
+ *
+ * 누른 사람 본인의 상태(liked/bookmarked)는 토글 API 응답으로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeCountBroadcaster {
+
+    private final RecipeCounterService recipeCounterService;
+    private final RedisPublisher redisPublisher;
+
+    /** 다음 주기에 발행할 레시피 */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 카운트 변경 표시 (커밋 이후 호출)
+     */
+    public void offer(Long recipeId) {
+        dirty.add(recipeId);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.counter.broadcast-interval-ms:250}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        // 꺼낸 뒤 읽으므로, 그 사이의 변경은 다음 주기에 다시 발행됨
+        List<Long> recipeIds = new ArrayList<>(dirty.size());
+        for (Long recipeId : dirty) {
+            if (dirty.remove(recipeId)) {
+                recipeIds.add(recipeId);
+            }
+        }
+
+        for (Long recipeId : recipeIds) {
+            try {
+                RecipeCountMessage message = new RecipeCountMessage(
+                        recipeId,
+                        recipeCounterService.get(recipeId, CounterType.LIKE),
+                        recipeCounterService.get(recipeId, CounterType.BOOKMARK),
+                        "COUNTS");
+                redisPublisher.publishLike(recipeId, message);
+            } catch (Exception e) {
+                log.warn("카운트 브로드캐스트 실패: recipeId={}, error={}", recipeId, e.getMessage());
+            }
+        }
+        log.debug("카운트 브로드캐스트: {}개 레시피", recipeIds.size());
+    }
+
+    public record RecipeCountMessage(Long recipeId, long likeCount, long bookmarkCount, String type) {}
+}
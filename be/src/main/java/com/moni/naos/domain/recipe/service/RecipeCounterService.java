@@ -0,0 +1,385 @@
+package com.moni.naos.domain.recipe.service;
+
+import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
+import com.moni.naos.domain.interaction.like.repository.LikeRepository;
+import com.moni.naos.domain.recipe.repository.RecipeStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RecipeCounterService - 좋아요/북마크 수 write-behind 카운터
+ *
+ * 구조:
+ * - naos:counter:recipe:{recipeId} : 현재 카운트 Hash (like, bookmark) - 조회/브로드캐스트용
+ * - naos:counter:dirty             : 아직 DB에 반영되지 않은 증감 Hash ("{recipeId}:{field}" → delta)
+ *
+ * 흐름:
+ * 1. 토글 시 HINCRBY로 카운트/증감 누적 (recipes 행 잠금 없음)
+ * 2. CounterFlushBatch가 주기적으로 dirty를 가져와 recipe_stats에 배치 UPDATE
+ * 3. 카운트 키가 없으면 DB COUNT로 초기화 (TTL 만료 후에도 정확)
+ *    - TTL은 초기화 시에만 설정 → 동시 초기화 등으로 생긴 오차도 ttl-hours 안에 COUNT로 재설정
+ * 4. flushing 키는 recipe_stats 반영이 커밋된 뒤 삭제 (실패 시 다음 flush에서 재반영)
+ *
+ * Redis를 사용할 수 없으면 인스턴스 로컬 맵으로 대체 (flush 시 함께 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeCounterService {
+
+    private static final String KEY_PREFIX = "naos:counter:recipe:";
+    private static final String DIRTY_KEY = "naos:counter:dirty";
+    private static final String FLUSHING_KEY = "naos:counter:flushing";
+    private static final String FLUSH_LOCK_KEY = "naos:counter:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(1);
+
+    /**
+     * KEYS[1]=카운트 키, KEYS[2]=dirty / ARGV[1]=필드, ARGV[2]=증감, ARGV[3]=dirty 멤버
+     * - dirty 증감은 항상 누적
+     * - 카운트 필드가 있을 때만 증감 후 반환, 없으면 nil (호출자가 DB COUNT로 초기화)
+     */
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('hincrby', KEYS[2], ARGV[3], ARGV[2]) " +
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then " +
+            "  return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) " +
+            "end " +
+            "return false",
+            Long.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE recipe_stats SET " +
+            "like_count = GREATEST(like_count + ?, 0), " +
+            "bookmark_count = GREATEST(bookmark_count + ?, 0), " +
+            "updated_at = NOW(6) " +
+            "WHERE recipe_id = ?";
+
+    public enum CounterType {
+        LIKE("like"),
+        BOOKMARK("bookmark");
+
+        private final String field;
+
+        CounterType(String field) {
+            this.field = field;
+        }
+
+        public String field() {
+            return field;
+        }
+
+        static CounterType fromField(String field) {
+            for (CounterType type : values()) {
+                if (type.field.equals(field)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 카운터 필드: " + field);
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final RecipeStatsRepository recipeStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /** Redis 장애 시 대체 저장소 ("{recipeId}:{field}" 키) */
+    private final Map<String, AtomicLong> localCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> localDeltas = new ConcurrentHashMap<>();
+
+    @Value("${custom.counter.ttl-hours:24}")
+    private long ttlHours;
+
+    // ==================== 증감 / 조회 ====================
+
+    /**
+     * 카운트 증감 (커밋 이후 호출)
+     * @return 증감 후 카운트
+     */
+    public long increment(Long recipeId, CounterType type, int delta) {
+        String member = member(recipeId, type);
+        try {
+            String key = KEY_PREFIX + recipeId;
+
+            // ⭐ 증감 누적 + (카운트 키가 있을 때만) 카운트 증감을 원자적으로
+            Long count = stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key, DIRTY_KEY),
+                    type.field(), String.valueOf(delta), member);
+            if (count != null) {
+                return Math.max(count, 0L);
+            }
+
+            // 카운트 키가 없으면 DB 값으로 초기화 (이미 이번 변경이 반영된 값)
+            long base = countFromDb(recipeId, type);
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForHash().putIfAbsent(key, type.field(), String.valueOf(base)))) {
+                // TTL은 초기화 시에만 설정 (증감마다 연장하지 않음 → ttl-hours마다 DB COUNT로 재초기화되어 오차가 남지 않음)
+                stringRedisTemplate.expire(key, Duration.ofHours(ttlHours));
+            } else {
+                // 동시에 다른 요청이 초기화함 - 그 COUNT에 이번 변경이 포함됐는지 알 수 없으므로
+                // 증감하지 않고 필드를 지워 다음 요청이 다시 COUNT로 초기화하도록 함
+                stringRedisTemplate.opsForHash().delete(key, type.field());
+            }
+            return base;
+
+        } catch (Exception e) {
+            log.warn("Redis 카운터 실패, 로컬로 대체: recipeId={}, type={}, error={}", recipeId, type, e.getMessage());
+            return incrementLocal(recipeId, type, delta);
+        }
+    }
+
+    /**
+     * 현재 카운트
+     */
+    public long get(Long recipeId, CounterType type) {
+        try {
+            Object value = stringRedisTemplate.opsForHash().get(KEY_PREFIX + recipeId, type.field());
+            if (value != null) {
+                return Math.max(Long.parseLong(value.toString()), 0L);
+            }
+        } catch (Exception e) {
+            AtomicLong local = localCounts.get(member(recipeId, type));
+            if (local != null) {
+                return local.get();
+            }
+        }
+        return countFromDb(recipeId, type);
+    }
+
+    private long incrementLocal(Long recipeId, CounterType type, int delta) {
+        String member = member(recipeId, type);
+        boolean[] seeded = {false};
+        AtomicLong count = localCounts.computeIfAbsent(member, k -> {
+            seeded[0] = true;
+            return new AtomicLong(countFromDb(recipeId, type));
+        });
+        localDeltas.computeIfAbsent(member, k -> new AtomicLong()).addAndGet(delta);
+        return seeded[0] ? count.get() : Math.max(count.addAndGet(delta), 0L);
+    }
+
+    private long countFromDb(Long recipeId, CounterType type) {
+        return type == CounterType.LIKE
+                ? likeRepository.countByRecipeId(recipeId)
+                : bookmarkRepository.countByRecipeId(recipeId);
+    }
+
+    // ==================== Flush ====================
+
+    /**
+     * 누적된 증감을 recipe_stats에 반영 (CounterFlushBatch에서 주기 호출)
+     * @return 반영된 레시피 수
+     */
+    public int flush() {
+        String token = UUID.randomUUID().toString();
+        boolean locked;
+        try {
+            locked = Boolean.TRUE.equals(
+                    stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL));
+        } catch (Exception e) {
+            locked = false;
+        }
+
+        try {
+            Map<Long, long[]> local = new HashMap<>();
+            drainLocal(local);
+
+            // ⭐ flushing 키는 DB 반영이 커밋된 뒤에만 삭제 (실패/중단 시 다음 flush에서 다시 처리)
+            Map<Long, long[]> deltas = new HashMap<>();
+            boolean drained = locked && drainRedis(deltas);
+            local.forEach((recipeId, d) -> {
+                long[] merged = deltas.computeIfAbsent(recipeId, k -> new long[2]);
+                merged[0] += d[0];
+                merged[1] += d[1];
+            });
+            deltas.values().removeIf(d -> d[0] == 0 && d[1] == 0);
+
+            try {
+                if (!deltas.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> applyToDb(deltas));
+                }
+            } catch (Exception e) {
+                // Redis 몫은 flushing에 남아 있으므로 로컬 몫만 되돌려 다음 flush에서 재시도
+                log.error("카운터 flush 실패, 다음 주기에 재시도: recipes={}, error={}", deltas.size(), e.getMessage());
+                local.forEach((recipeId, d) -> {
+                    localDeltas.computeIfAbsent(member(recipeId, CounterType.LIKE), k -> new AtomicLong()).addAndGet(d[0]);
+                    localDeltas.computeIfAbsent(member(recipeId, CounterType.BOOKMARK), k -> new AtomicLong()).addAndGet(d[1]);
+                });
+                return 0;
+            }
+
+            if (drained) {
+                deleteFlushing();
+            }
+            return deltas.size();
+        } finally {
+            if (locked) {
+                releaseLock(token);
+            }
+        }
+    }
+
+    private void drainLocal(Map<Long, long[]> deltas) {
+        localDeltas.forEach((member, value) -> {
+            long delta = value.getAndSet(0);
+            if (delta != 0) {
+                merge(deltas, member, delta);
+            }
+        });
+        localDeltas.values().removeIf(v -> v.get() == 0);
+        localCounts.clear();
+    }
+
+    /**
+     * dirty → flushing 으로 RENAME (원자적으로 가져오고 새 증감은 dirty에 계속 누적)
+     * - 이전 flush가 중간에 실패해 flushing이 남아있으면 그것부터 처리
+     * - flushing 삭제는 DB 반영 커밋 후 (deleteFlushing)
+     * @return flushing을 읽었으면 true
+     */
+    private boolean drainRedis(Map<Long, long[]> deltas) {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(FLUSHING_KEY))) {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(DIRTY_KEY))) {
+                    return false;
+                }
+                stringRedisTemplate.rename(DIRTY_KEY, FLUSHING_KEY);
+            }
+
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(FLUSHING_KEY);
+            entries.forEach((member, value) -> merge(deltas, member.toString(), Long.parseLong(value.toString())));
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis 카운터 증감 조회 실패: {}", e.getMessage());
+            deltas.clear();
+            return false;
+        }
+    }
+
+    private void deleteFlushing() {
+        try {
+            stringRedisTemplate.delete(FLUSHING_KEY);
+        } catch (Exception e) {
+            // 남은 flushing은 다음 flush에서 다시 반영됨 (중복 반영은 RecipeStatsReconcileBatch가 보정)
+            log.warn("flushing 키 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 집계 행이 없는 레시피 → 현재 COUNT - 이후 쌓인 증감으로 생성 (이번 증감은 이미 COUNT에 포함)
+     * 2. 나머지 → UPDATE n = n + ? 배치
+     */
+    private void applyToDb(Map<Long, long[]> deltas) {
+        Set<Long> existing = new HashSet<>(recipeStatsRepository.findExistingRecipeIds(deltas.keySet()));
+
+        List<Long> seedIds = deltas.keySet().stream().filter(id -> !existing.contains(id)).toList();
+        // ⭐ 이번 스냅샷 이후 쌓인 증감(dirty/로컬)은 COUNT에 이미 포함 → 빼고 생성 (다음 flush에서 더해짐)
+        Map<Long, long[]> pending = readPending(seedIds, false);
+
+        List<Object[]> seeds = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        deltas.forEach((recipeId, d) -> {
+            if (existing.contains(recipeId)) {
+                updates.add(new Object[]{d[0], d[1], recipeId});
+            } else {
+                long[] p = pending.getOrDefault(recipeId, new long[2]);
+                seeds.add(new Object[]{p[0], p[1], recipeId});
+            }
+        });
+
+        if (!seeds.isEmpty()) {
+            jdbcTemplate.batchUpdate(RecipeStatsRepository.SEED_SQL, seeds);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+
+        log.debug("카운터 flush: 생성 {}건, 갱신 {}건", seeds.size(), updates.size());
+    }
+
+    // ==================== 미반영 증감 ====================
+
+    /**
+     * 아직 recipe_stats에 반영되지 않은 좋아요/북마크 증감 (dirty + flushing + 로컬)
+     * - 집계 행 생성(SEED_SQL)/보정 시 COUNT에서 빼서 flush와 이중 반영되지 않도록 사용
+     * @return recipeId → [like, bookmark] (증감이 없는 레시피는 없음)
+     */
+    public Map<Long, long[]> pendingDeltas(Collection<Long> recipeIds) {
+        return readPending(recipeIds, true);
+    }
+
+    private Map<Long, long[]> readPending(Collection<Long> recipeIds, boolean includeFlushing) {
+        Map<Long, long[]> pending = new HashMap<>();
+        if (recipeIds.isEmpty()) {
+            return pending;
+        }
+
+        List<Object> members = new ArrayList<>(recipeIds.size() * 2);
+        for (Long recipeId : recipeIds) {
+            members.add(member(recipeId, CounterType.LIKE));
+            members.add(member(recipeId, CounterType.BOOKMARK));
+        }
+
+        try {
+            mergeValues(pending, members, stringRedisTemplate.opsForHash().multiGet(DIRTY_KEY, members));
+            if (includeFlushing) {
+                mergeValues(pending, members, stringRedisTemplate.opsForHash().multiGet(FLUSHING_KEY, members));
+            }
+        } catch (Exception e) {
+            log.warn("미반영 증감 조회 실패: {}", e.getMessage());
+        }
+
+        for (Object member : members) {
+            AtomicLong local = localDeltas.get(member.toString());
+            if (local != null && local.get() != 0) {
+                merge(pending, member.toString(), local.get());
+            }
+        }
+        return pending;
+    }
+
+    private static void mergeValues(Map<Long, long[]> pending, List<Object> members, List<Object> values) {
+        for (int i = 0; i < members.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                merge(pending, members.get(i).toString(), Long.parseLong(value.toString()));
+            }
+        }
+    }
+
+    // ==================== Helper ====================
+
+    private void releaseLock(String token) {
+        try {
+            if (token.equals(stringRedisTemplate.opsForValue().get(FLUSH_LOCK_KEY))) {
+                stringRedisTemplate.delete(FLUSH_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.warn("카운터 flush 락 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void merge(Map<Long, long[]> deltas, String member, long delta) {
+        try {
+            int sep = member.indexOf(':');
+            Long recipeId = Long.valueOf(member.substring(0, sep));
+            CounterType type = CounterType.fromField(member.substring(sep + 1));
+            deltas.computeIfAbsent(recipeId, k -> new long[2])[type.ordinal()] += delta;
+        } catch (RuntimeException e) {
+            // 형식이 잘못된 멤버 때문에 flushing 전체가 막히지 않도록 건너뜀
+            log.warn("알 수 없는 카운터 멤버 무시: member={}, delta={}", member, delta);
+        }
+    }
+
+    private static String member(Long recipeId, CounterType type) {
+        return recipeId + ":" + type.field();
+    }
+}
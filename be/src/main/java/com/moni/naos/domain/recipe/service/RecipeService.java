@@ -2,6 +2,8 @@ package com.moni.naos.domain.recipe.service;
 
 import com.moni.naos.domain.ai.service.AiAnalysisService;
 import com.moni.naos.domain.ai.dto.CostAnalysisResult;
+import com.moni.naos.domain.feed.service.FeedProjectionCache;
+import com.moni.naos.domain.feed.service.FollowingTimelineService;
 import com.moni.naos.domain.recipe.dto.*;
 import com.moni.naos.domain.recipe.entity.Recipe;
 import com.moni.naos.domain.recipe.entity.RecipeAsset;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * RecipeService - 레시피 업로드 플로우
@@ -27,7 +30,7 @@ import java.util.List;
  * 2. 클리핑 완료 → saveClips
  * 3. 썸네일 선택 → setThumbnail
  * 4. 상세 정보 입력 → saveDetails
- * 5. AI 분석 요청 → requestAnalysis (Flask 호출)
+ * 5. AI 분석 요청 → requestAnalysisAsync (Flask 호출)
  * 6. 발행 → publish
  */
 @Slf4j
@@ -41,6 +44,8 @@ public class RecipeService {
     private final RecipeAssetRepository recipeAssetRepository;
     private final UserRepository userRepository;
     private final AiAnalysisService aiAnalysisService;
+    private final FollowingTimelineService followingTimelineService;
+    private final FeedProjectionCache feedProjectionCache;
 
     // ==================== 업로드 플로우 ====================
 
@@ -98,6 +103,7 @@ public class RecipeService {
             recipeClipRepository.save(clip);
         }
 
+        feedProjectionCache.evictRecipe(recipeId);
         log.info("클립 저장 완료: recipeId={}, clipCount={}", recipeId, clips.size());
         
         return toResponse(recipe);
@@ -122,6 +128,7 @@ public class RecipeService {
                 .build();
         recipeAssetRepository.save(thumbnail);
 
+        feedProjectionCache.evictRecipe(recipeId);
         log.info("썸네일 설정: recipeId={}, url={}", recipeId, req.getUrl());
         
         return toResponse(recipe);
@@ -153,18 +160,19 @@ public class RecipeService {
     }
 
     /**
-     * Step 5: AI 분석 요청 (Flask 호출!)
-     * ⭐ 수정: breakdown, nutrition 포함하여 반환
+     * Step 5 (비동기): AI 분석 요청
+     * ⭐ Flask 응답을 기다리는 동안 요청 스레드를 점유하지 않음 (컨트롤러는 CompletableFuture 반환)
      */
-    @Transactional
-    public RecipeAnalysisResponse requestAnalysis(Long userId, Long recipeId) {
+    public CompletableFuture<RecipeAnalysisResponse> requestAnalysisAsync(Long userId, Long recipeId) {
         Recipe recipe = getRecipeWithOwnerCheck(userId, recipeId);
-        
-        log.info("AI 분석 요청: recipeId={}, userId={}", recipeId, userId);
-        
-        // Flask AI 서버 호출
-        CostAnalysisResult result = aiAnalysisService.analyzeAndSaveCostScore(recipeId);
-        
+
+        log.info("AI 분석 요청 (비동기): recipeId={}, userId={}", recipeId, userId);
+
+        return aiAnalysisService.analyzeAndSaveCostScoreAsync(recipeId, null)
+                .thenApply(result -> toAnalysisResponse(recipeId, recipe, result));
+    }
+
+    private RecipeAnalysisResponse toAnalysisResponse(Long recipeId, Recipe recipe, CostAnalysisResult result) {
         // ⭐ 팩토리 메서드 사용하여 응답 생성 (breakdown, nutrition 포함)
         RecipeAnalysisResponse response = RecipeAnalysisResponse.fromCostAnalysisResult(recipeId, result);
         
@@ -198,6 +206,9 @@ public class RecipeService {
         Recipe saved = recipeRepository.save(recipe);
 
         log.info("레시피 발행: recipeId={}", recipeId);
+
+        // ⭐ 팔로워 타임라인에 추가 (커밋 후 fan-out)
+        followingTimelineService.fanOut(userId, saved.getId());
         
         return toResponse(saved);
     }
@@ -258,6 +269,7 @@ public class RecipeService {
     @Transactional
     public void deleteRecipe(Long id) {
         recipeRepository.deleteById(id);
+        feedProjectionCache.evictRecipe(id);
     }
 
     // ==================== 추가 조회 ====================
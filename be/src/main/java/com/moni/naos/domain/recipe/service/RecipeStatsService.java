@@ -0,0 +1,148 @@
+package com.moni.naos.domain.recipe.service;
+
+import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
+import com.moni.naos.domain.interaction.comment.repository.CommentRepository;
+import com.moni.naos.domain.interaction.like.repository.LikeRepository;
+import com.moni.naos.domain.recipe.entity.RecipeStats;
+import com.moni.naos.domain.recipe.repository.CookingRepository;
+import com.moni.naos.domain.recipe.repository.RecipeStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * RecipeStatsService - 레시피 집계 카운터 (recipe_stats)
+ *
+ * - 댓글/요리 완료: 호출한 트랜잭션 안에서 UPDATE n = n + ? (행이 없으면 현재 COUNT로 생성)
+ * - 좋아요/북마크: RecipeCounterService가 주기적으로 일괄 반영
+ * - 조회: PK 조회 (행이 없는 레시피는 호출자가 COUNT로 대체)
+ * - 보정: 최근 변경이 없는 행만 실제 COUNT와 비교해 수정 (RecipeStatsReconcileBatch)
+ *   → 좋아요/북마크는 COUNT - 미반영 증감(RecipeCounterService.pendingDeltas) 기준
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecipeStatsService {
+
+    /** 보정 시 최근 N초 안에 갱신된 행은 건너뜀 (flush 대기 중인 증감과 겹치지 않도록) */
+    private static final String RECONCILE_SQL =
+            "UPDATE recipe_stats SET like_count = ?, bookmark_count = ?, comment_count = ?, cook_count = ?, " +
+            "updated_at = NOW(6) " +
+            "WHERE recipe_id = ? AND updated_at < NOW(6) - INTERVAL ? SECOND";
+
+    private final RecipeStatsRepository recipeStatsRepository;
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final CommentRepository commentRepository;
+    private final CookingRepository cookingRepository;
+    private final RecipeCounterService recipeCounterService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // ==================== 증감 ====================
+
+    @Transactional
+    public void addComments(Long recipeId, long delta) {
+        if (recipeStatsRepository.addCommentCount(recipeId, delta) == 0) {
+            seed(recipeId);
+        }
+    }
+
+    @Transactional
+    public void addCooks(Long recipeId, long delta) {
+        if (recipeStatsRepository.addCookCount(recipeId, delta) == 0) {
+            seed(recipeId);
+        }
+    }
+
+    /**
+     * 집계 행 생성 - flush 대기 중인 좋아요/북마크 증감은 COUNT에서 빼고 생성 (flush 시 더해짐)
+     */
+    private void seed(Long recipeId) {
+        long[] pending = recipeCounterService.pendingDeltas(List.of(recipeId))
+                .getOrDefault(recipeId, new long[2]);
+        jdbcTemplate.update(RecipeStatsRepository.SEED_SQL, pending[0], pending[1], recipeId);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 여러 레시피의 집계 (행이 없는 레시피는 결과에 없음)
+     */
+    public Map<Long, RecipeStats> getStats(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return Map.of();
+        }
+        return recipeStatsRepository.findAllById(recipeIds).stream()
+                .collect(Collectors.toMap(RecipeStats::getRecipeId, Function.identity()));
+    }
+
+    public long getCommentCount(Long recipeId) {
+        return recipeStatsRepository.findById(recipeId)
+                .map(RecipeStats::getCommentCount)
+                .orElseGet(() -> commentRepository.countNotDeletedGroupByRecipeIds(List.of(recipeId)).stream()
+                        .mapToLong(row -> (Long) row[1])
+                        .sum());
+    }
+
+    // ==================== 보정 ====================
+
+    /**
+     * recipe_id > afterId 인 집계 행 청크를 실제 COUNT와 비교해 어긋난 행만 수정
+     *
+     * @return 청크의 마지막 recipe_id (더 없으면 null)
+     */
+    @Transactional
+    public Long reconcileChunk(Long afterId, int chunkSize, long quietSeconds) {
+        List<RecipeStats> rows = recipeStatsRepository.findByRecipeIdGreaterThanOrderByRecipeIdAsc(
+                afterId, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = rows.stream().map(RecipeStats::getRecipeId).collect(Collectors.toList());
+        Map<Long, Long> likes = toCountMap(likeRepository.countGroupByRecipeIds(ids));
+        Map<Long, Long> bookmarks = toCountMap(bookmarkRepository.countGroupByRecipeIds(ids));
+        Map<Long, Long> comments = toCountMap(commentRepository.countNotDeletedGroupByRecipeIds(ids));
+        Map<Long, Long> cooks = toCountMap(cookingRepository.countCompletedGroupByRecipeIds(ids));
+        // ⭐ 아직 flush되지 않은 증감은 COUNT에만 있음 → 빼야 flush 후 실제 값과 일치
+        Map<Long, long[]> pending = recipeCounterService.pendingDeltas(ids);
+
+        List<Object[]> drifted = new ArrayList<>();
+        for (RecipeStats row : rows) {
+            Long id = row.getRecipeId();
+            long[] p = pending.getOrDefault(id, new long[2]);
+            long like = likes.getOrDefault(id, 0L) - p[0];
+            long bookmark = bookmarks.getOrDefault(id, 0L) - p[1];
+            long comment = comments.getOrDefault(id, 0L);
+            long cook = cooks.getOrDefault(id, 0L);
+
+            if (row.getLikeCount() != like || row.getBookmarkCount() != bookmark
+                    || row.getCommentCount() != comment || row.getCookCount() != cook) {
+                drifted.add(new Object[]{like, bookmark, comment, cook, id, quietSeconds});
+            }
+        }
+
+        if (!drifted.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECONCILE_SQL, drifted);
+            log.info("집계 보정: {}건 (recipeId {} ~ {})", drifted.size(), ids.get(0), ids.get(ids.size() - 1));
+        }
+
+        return ids.get(ids.size() - 1);
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> map = new HashMap<>();
+        for (Object[] row : rows) {
+            map.put((Long) row[0], (Long) row[1]);
+        }
+        return map;
+    }
+}
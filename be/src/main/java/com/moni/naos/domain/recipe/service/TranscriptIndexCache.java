@@ -0,0 +1,69 @@
+package com.moni.naos.domain.recipe.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moni.naos.domain.recipe.dto.TranscriptIndex;
+import com.moni.naos.domain.recipe.repository.RecipeClipSegmentRepository;
+import com.moni.naos.global.cache.TwoTierCacheRegistry;
+import com.moni.naos.global.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * TranscriptIndexCache - 레시피별 전사 구간 인덱스 캐시 (로컬)
+ *
+ * - 레시피당 세그먼트를 한 번만 로딩해 TranscriptIndex로 보관
+ * - 전사 저장/세그먼트 수정 시 커밋 후 삭제 + 다른 인스턴스에 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranscriptIndexCache {
+
+    private static final String CACHE_NAME = "transcript-index";
+
+    private final RecipeClipSegmentRepository segmentRepository;
+    private final TwoTierCacheRegistry cacheRegistry;
+
+    @Value("${custom.cache.transcript.max-recipes:2000}")
+    private long maxRecipes;
+
+    @Value("${custom.cache.transcript.idle-minutes:30}")
+    private long idleMinutes;
+
+    private Cache<Long, TranscriptIndex> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxRecipes)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        cacheRegistry.registerLocal(CACHE_NAME, cache::invalidate);
+    }
+
+    public TranscriptIndex get(Long recipeId) {
+        return cache.get(recipeId, this::load);
+    }
+
+    /**
+     * 세그먼트 변경 시 호출 (커밋 후 삭제)
+     */
+    public void invalidate(Long recipeId) {
+        TransactionUtil.afterCommit(() -> {
+            cache.invalidate(recipeId);
+            cacheRegistry.publishEvict(CACHE_NAME, recipeId);
+        });
+    }
+
+    private TranscriptIndex load(Long recipeId) {
+        TranscriptIndex index = TranscriptIndex.of(segmentRepository.findByRecipeIdOrderByIndexOrdAsc(recipeId));
+        log.debug("전사 인덱스 로딩: recipeId={}, segments={}", recipeId, index.size());
+        return index;
+    }
+}
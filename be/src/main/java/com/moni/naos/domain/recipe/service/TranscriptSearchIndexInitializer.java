@@ -0,0 +1,52 @@
+package com.moni.naos.domain.recipe.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * TranscriptSearchIndexInitializer - 전사 검색용 FULLTEXT 인덱스 존재 확인
+ *
+ * 인덱스는 schema.sql / db/migration/add_segment_fulltext.sql 로 배포 전에 1회 생성
+ * - 기동 시에는 확인만 (ALTER TABLE은 대형 테이블 재구성 + 인스턴스별 중복 실행 위험)
+ * - MySQL에서만 확인 (H2 등은 건너뜀)
+ * - 없으면 경고만 남김 → 전사 검색만 불가, 나머지 기능은 정상 동작
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class TranscriptSearchIndexInitializer implements CommandLineRunner {
+
+    static final String INDEX_NAME = "ft_segment_text";
+
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'recipe_script_segments' AND index_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                log.info("전사 검색 인덱스 확인 생략 (MySQL 아님): {}", product);
+                return;
+            }
+
+            Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, INDEX_NAME);
+            if (count == null || count == 0) {
+                log.warn("전사 검색 FULLTEXT 인덱스 없음: {} - db/migration/add_segment_fulltext.sql 실행 필요", INDEX_NAME);
+            }
+
+        } catch (Exception e) {
+            log.error("전사 검색 인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+}
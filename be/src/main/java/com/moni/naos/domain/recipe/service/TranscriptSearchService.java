@@ -0,0 +1,88 @@
+package com.moni.naos.domain.recipe.service;
+
+import com.moni.naos.domain.recipe.dto.TranscriptSearchHit;
+import com.moni.naos.domain.recipe.repository.RecipeClipSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TranscriptSearchService - 영상 전사 텍스트 검색 ("영상에서 뭐라고 했는지")
+ *
+ * - MySQL InnoDB FULLTEXT + ngram parser (schema.sql / db/migration/add_segment_fulltext.sql)
+ *   → 한국어 형태소 분석 없이 2-gram 단위로 색인
+ * - 색인은 세그먼트 INSERT/UPDATE 커밋 시 MySQL이 갱신
+ *   (saveTranscript / appendSegments / updateSegmentText 별도 처리 불필요)
+ * - 검색어의 각 단어를 구문(phrase)으로 모두 포함하는 세그먼트만 → 관련도순
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TranscriptSearchService {
+
+    /** ngram_token_size 기본값 - 이보다 짧은 단어는 색인되지 않음 */
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전사 텍스트 검색
+     * @param query 검색어 (공백으로 구분된 단어는 모두 포함)
+     * @return 세그먼트 단위 결과 (관련도순)
+     */
+    public List<TranscriptSearchHit> search(String query, int page, int size) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 " + MIN_TERM_LENGTH + "자 이상 입력해주세요.");
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        int offset = Math.max(page, 0) * limit;
+
+        String natural = String.join(" ", terms);
+        String required = terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .reduce((a, b) -> a + " " + b)
+                .orElseThrow();
+
+        List<TranscriptSearchHit> hits = jdbcTemplate.query(RecipeClipSegmentRepository.FULLTEXT_SEARCH_SQL,
+                (rs, rowNum) -> TranscriptSearchHit.builder()
+                        .segmentId(rs.getLong(1))
+                        .recipeId(rs.getLong(2))
+                        .recipeTitle(rs.getString(3))
+                        .startSec(rs.getObject(4, Double.class))
+                        .endSec(rs.getObject(5, Double.class))
+                        .text(rs.getString(6))
+                        .score(rs.getDouble(7))
+                        .build(),
+                natural, required, limit, offset);
+
+        log.debug("전사 검색: query={}, hits={}", query, hits.size());
+        return hits;
+    }
+
+    /**
+     * 검색어 → 단어 목록
+     * - BOOLEAN MODE 연산자 문자 제거
+     * - ngram 토큰보다 짧은 단어 제외
+     */
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String raw : query.replaceAll("[\"+\\-<>()~*@]", " ").trim().split("\\s+")) {
+            if (raw.length() >= MIN_TERM_LENGTH) {
+                terms.add(raw);
+            }
+        }
+        return terms;
+    }
+}
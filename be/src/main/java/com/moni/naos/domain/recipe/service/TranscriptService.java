@@ -1,6 +1,8 @@
 package com.moni.naos.domain.recipe.service;
 
+import com.moni.naos.domain.feed.service.FeedProjectionCache;
 import com.moni.naos.domain.recipe.dto.ClipWithTextResponse;
+import com.moni.naos.domain.recipe.dto.TranscriptIndex;
 import com.moni.naos.domain.recipe.dto.TranscriptResponse;
 import com.moni.naos.domain.recipe.dto.TranscriptSegmentDto;
 import com.moni.naos.domain.recipe.entity.Recipe;
@@ -13,9 +15,12 @@ import com.moni.naos.domain.recipe.repository.RecipeRepository;
 import com.moni.naos.domain.recipe.repository.RecipeTranscriptMetaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,9 +33,12 @@ import java.util.stream.Collectors;
  * - RecipeClipSegment: 실제 세그먼트 데이터 (기존 엔티티 활용)
  *
  * 주요 기능:
- * 1. Whisper 전사 결과 저장 (세그먼트 각각 저장)
+ * 1. Whisper 전사 결과 저장 (세그먼트 JDBC 배치 INSERT)
+ *    - ⭐ 스트리밍 전사: beginStreaming → appendSegments(배치마다) → completeStreaming
  * 2. 클립 시간 구간 → 해당 텍스트 매핑
  * 3. 클립별 텍스트 조회
+ *
+ * 구간 조회는 TranscriptIndexCache (레시피별 정렬 배열 + 이진 탐색) 사용
  */
 @Slf4j
 @Service
@@ -42,6 +50,13 @@ public class TranscriptService {
     private final RecipeTranscriptMetaRepository metaRepository;
     private final RecipeClipSegmentRepository segmentRepository;
     private final RecipeClipRepository clipRepository;
+    private final TranscriptIndexCache transcriptIndexCache;
+    private final FeedProjectionCache feedProjectionCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** BULK_INSERT_SQL 파라미터 타입 (start/end null 허용) */
+    private static final int[] SEGMENT_ARG_TYPES =
+            {Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE};
 
     // ==================== 전사 결과 저장 ====================
 
@@ -69,20 +84,13 @@ public class TranscriptService {
         // 1. 기존 세그먼트 삭제
         segmentRepository.deleteByRecipe(recipe);
 
-        // 2. 새 세그먼트 저장
+        // 2. 새 세그먼트 저장 (⭐ JDBC 배치 - 세그먼트당 단건 INSERT 제거)
+        List<Object[]> rows = new ArrayList<>(segments.size());
         for (int i = 0; i < segments.size(); i++) {
             TranscriptSegmentDto seg = segments.get(i);
-
-            RecipeClipSegment entity = RecipeClipSegment.builder()
-                    .recipe(recipe)
-                    .indexOrd(i)
-                    .text(seg.getText())
-                    .startSec(seg.getStart())
-                    .endSec(seg.getEnd())
-                    .build();
-
-            segmentRepository.save(entity);
+            rows.add(new Object[]{recipeId, i, seg.getText(), seg.getStart(), seg.getEnd()});
         }
+        insertSegments(rows);
 
         // 3. 메타데이터 저장/업데이트
         RecipeTranscriptMeta meta = metaRepository.findByRecipe(recipe)
@@ -92,6 +100,7 @@ public class TranscriptService {
 
         meta.complete(fullText, segments.size(), duration, language);
         metaRepository.save(meta);
+        transcriptIndexCache.invalidate(recipeId);
 
         log.info("전사 결과 저장: recipeId={}, segmentCount={}", recipeId, segments.size());
 
@@ -104,6 +113,93 @@ public class TranscriptService {
         return TranscriptResponse.fromMetaWithSegments(meta, savedSegments);
     }
 
+    // ==================== 스트리밍 전사 저장 ====================
+
+    /**
+     * ⭐ 스트리밍 전사 시작 - 기존 세그먼트 삭제 + PROCESSING
+     */
+    @Transactional
+    public void beginStreaming(Long recipeId) {
+        Recipe recipe = recipeRepository.findById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
+
+        segmentRepository.deleteByRecipe(recipe);
+
+        RecipeTranscriptMeta meta = metaRepository.findByRecipe(recipe)
+                .orElse(RecipeTranscriptMeta.builder().recipe(recipe).build());
+        meta.startProcessing();
+        meta.recordProgress(0, 0.0, null);
+        metaRepository.save(meta);
+        transcriptIndexCache.invalidate(recipeId);
+
+        log.info("스트리밍 전사 시작: recipeId={}", recipeId);
+    }
+
+    /**
+     * ⭐ 스트리밍 세그먼트 추가 저장 (배치 단위)
+     * - 세그먼트 index는 Flask가 매긴 전체 순번 그대로 사용
+     * - 커밋 즉시 조회 가능 (PROCESSING 상태에서도 자막 표시)
+     */
+    @Transactional
+    public void appendSegments(Long recipeId, List<TranscriptSegmentDto> segments, Double duration) {
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(segments.size());
+        for (TranscriptSegmentDto seg : segments) {
+            rows.add(new Object[]{recipeId, seg.getIndex(), seg.getText(), seg.getStart(), seg.getEnd()});
+        }
+        insertSegments(rows);
+
+        TranscriptSegmentDto last = segments.get(segments.size() - 1);
+        metaRepository.findByRecipeId(recipeId).ifPresent(meta -> {
+            int count = (meta.getSegmentCount() != null ? meta.getSegmentCount() : 0) + segments.size();
+            meta.recordProgress(count, last.getEnd(), duration);
+        });
+        transcriptIndexCache.invalidate(recipeId);
+
+        log.debug("스트리밍 세그먼트 저장: recipeId={}, count={}, progress={}s", recipeId, segments.size(), last.getEnd());
+    }
+
+    /**
+     * ⭐ 스트리밍 전사 완료 - 저장된 세그먼트로 전체 텍스트 구성
+     * - 세그먼트가 없거나 텍스트가 너무 짧으면 음성 없음 처리 (일괄 저장과 동일 기준)
+     */
+    @Transactional
+    public TranscriptResponse completeStreaming(Long recipeId, String language, Double duration) {
+        Recipe recipe = recipeRepository.findById(recipeId)
+                .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
+        RecipeTranscriptMeta meta = metaRepository.findByRecipe(recipe)
+                .orElse(RecipeTranscriptMeta.builder().recipe(recipe).build());
+
+        StringBuilder fullText = new StringBuilder();
+        int[] count = {0};
+        jdbcTemplate.query(RecipeClipSegmentRepository.TEXT_BY_RECIPE_SQL, (RowCallbackHandler) rs -> {
+            if (!fullText.isEmpty()) {
+                fullText.append(' ');
+            }
+            fullText.append(rs.getString(1));
+            count[0]++;
+        }, recipeId);
+
+        if (count[0] == 0 || fullText.length() < 10) {
+            meta.markNoAudio();
+            log.info("음성 없음 처리 (스트리밍): recipeId={}", recipeId);
+        } else {
+            meta.complete(fullText.toString(), count[0], duration, language);
+            log.info("스트리밍 전사 완료: recipeId={}, segmentCount={}", recipeId, count[0]);
+        }
+        metaRepository.save(meta);
+        transcriptIndexCache.invalidate(recipeId);
+
+        return TranscriptResponse.fromMeta(meta);
+    }
+
+    private void insertSegments(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(RecipeClipSegmentRepository.BULK_INSERT_SQL, rows, SEGMENT_ARG_TYPES);
+    }
+
     /**
      * 전사 시작 처리
      */
@@ -126,16 +222,24 @@ public class TranscriptService {
      */
     @Transactional
     public void markFailed(Long recipeId, String errorMessage) {
+        markFailed(recipeId, errorMessage, false);
+    }
+
+    /**
+     * ⭐ 전사 실패 처리 (retryable: AI 서버 일시 장애 등 재시도 가능한 실패)
+     */
+    @Transactional
+    public void markFailed(Long recipeId, String errorMessage, boolean retryable) {
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
 
         RecipeTranscriptMeta meta = metaRepository.findByRecipe(recipe)
                 .orElse(RecipeTranscriptMeta.builder().recipe(recipe).build());
 
-        meta.fail(errorMessage);
+        meta.fail(errorMessage, retryable);
         metaRepository.save(meta);
 
-        log.warn("전사 실패: recipeId={}, error={}", recipeId, errorMessage);
+        log.warn("전사 실패: recipeId={}, retryable={}, error={}", recipeId, retryable, errorMessage);
     }
 
     /**
@@ -215,29 +319,8 @@ public class TranscriptService {
      * 특정 시간 구간의 세그먼트 목록 조회
      */
     public List<TranscriptSegmentDto> getSegmentsForTimeRange(Long recipeId, Double startSec, Double endSec) {
-        Recipe recipe = recipeRepository.findById(recipeId).orElse(null);
-        if (recipe == null) {
-            return new ArrayList<>();
-        }
-
-        List<RecipeClipSegment> allSegments = segmentRepository.findByRecipeOrderByIndexOrdAsc(recipe);
-
-        // 시간 범위에 해당하는 세그먼트 필터링
-        return allSegments.stream()
-                .filter(seg -> isOverlapping(seg.getStartSec(), seg.getEndSec(), startSec, endSec))
-                .map(TranscriptSegmentDto::fromEntity)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 두 구간이 겹치는지 확인
-     */
-    private boolean isOverlapping(Double segStart, Double segEnd, Double rangeStart, Double rangeEnd) {
-        if (segStart == null || segEnd == null || rangeStart == null || rangeEnd == null) {
-            return false;
-        }
-        // 세그먼트 끝이 구간 시작보다 크고, 세그먼트 시작이 구간 끝보다 작으면 겹침
-        return segEnd > rangeStart && segStart < rangeEnd;
+        // ⭐ 레시피별 캐시된 구간 인덱스에서 이진 탐색 (매 호출 전체 로딩/선형 필터 제거)
+        return transcriptIndexCache.get(recipeId).overlapping(startSec, endSec);
     }
 
     // ==================== 클립 + 텍스트 조회 ====================
@@ -250,11 +333,11 @@ public class TranscriptService {
                 .orElseThrow(() -> new IllegalArgumentException("레시피를 찾을 수 없습니다: " + recipeId));
 
         List<RecipeClip> clips = clipRepository.findByRecipeOrderByIndexOrdAsc(recipe);
+        TranscriptIndex index = transcriptIndexCache.get(recipeId);  // ⭐ 세그먼트는 레시피당 한 번만
 
         return clips.stream()
                 .map(clip -> {
-                    List<TranscriptSegmentDto> segments = getSegmentsForTimeRange(
-                            recipeId, clip.getStartSec(), clip.getEndSec());
+                    List<TranscriptSegmentDto> segments = index.overlapping(clip.getStartSec(), clip.getEndSec());
 
                     String transcriptText = segments.stream()
                             .map(TranscriptSegmentDto::getText)
@@ -296,6 +379,9 @@ public class TranscriptService {
         clip.setCaption(caption);
         clipRepository.save(clip);
 
+        // 피드 카드의 첫 클립 캡션 (FeedEnrichmentService) → 커밋 후 무효화
+        feedProjectionCache.evictRecipe(clip.getRecipe().getId());
+
         log.info("클립 캡션 수정: clipId={}", clipId);
         return getClipWithText(clipId);
     }
@@ -339,6 +425,7 @@ public class TranscriptService {
 
         segment.setText(text);
         segmentRepository.save(segment);
+        transcriptIndexCache.invalidate(segment.getRecipe().getId());
 
         log.info("세그먼트 텍스트 수정: segmentId={}", segmentId);
         return TranscriptSegmentDto.fromEntity(segment);
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +32,8 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     /** User와 함께 조회 (N+1 방지) */
     @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.user WHERE p.username = :username")
     Optional<Profile> findByUsernameWithUser(@Param("username") String username);
+
+    /** 여러 user_id의 프로필 일괄 조회 (피드 배치 보강용) */
+    @Query("SELECT p FROM Profile p WHERE p.user.id IN :userIds")
+    List<Profile> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
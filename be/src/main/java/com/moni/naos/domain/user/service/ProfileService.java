@@ -1,5 +1,6 @@
 package com.moni.naos.domain.user.service;
 
+import com.moni.naos.domain.feed.service.FeedProjectionCache;
 import com.moni.naos.domain.user.dto.ProfileResponse;
 import com.moni.naos.domain.user.dto.ProfileUpdateRequest;
 import com.moni.naos.domain.user.entity.Profile;
@@ -22,6 +23,7 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final FeedProjectionCache feedProjectionCache;
 
     /**
      * username으로 프로필 조회 (공개 프로필)
@@ -87,6 +89,7 @@ public class ProfileService {
         }
 
         Profile saved = profileRepository.save(profile);
+        feedProjectionCache.evictAuthor(userId);
         return ProfileResponse.fromEntity(saved);
     }
 
@@ -0,0 +1,148 @@
+package com.moni.naos.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TwoTierCache - 로컬(Caffeine) L1 + Redis L2 캐시 (Long ID 키)
+ *
+ * 조회: L1 → L2(MGET) → loader(DB) 순서, 하위 계층에서 찾은 값은 상위 계층에 채움
+ * 무효화: L1/L2 삭제 + Pub/Sub으로 다른 인스턴스의 L1 삭제 (TwoTierCacheRegistry)
+ *
+ * Redis 장애 시 L1 + loader로 동작
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final Class<V> type;
+    private final Cache<Long, V> local;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration remoteTtl;
+
+    TwoTierCache(String name, Class<V> type, long localMaxSize, Duration localTtl, Duration remoteTtl,
+                 StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.name = name;
+        this.type = type;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.remoteTtl = remoteTtl;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 여러 ID 일괄 조회
+     *
+     * @param loader 캐시에 없는 ID → 값 (DB 일괄 조회), 결과에 없는 ID는 캐시하지 않음
+     */
+    public Map<Long, V> getAll(Collection<Long> ids, Function<Collection<Long>, Map<Long, V>> loader) {
+        Map<Long, V> result = new HashMap<>(local.getAllPresent(ids));
+
+        List<Long> missing = ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // L2
+        Map<Long, V> remote = getRemote(missing);
+        result.putAll(remote);
+        local.putAll(remote);
+        missing.removeAll(remote.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // DB
+        Map<Long, V> loaded = loader.apply(missing);
+        result.putAll(loaded);
+        local.putAll(loaded);
+        putRemote(loaded);
+        return result;
+    }
+
+    /**
+     * 이 인스턴스의 L1만 삭제 (무효화 메시지 수신 시)
+     */
+    public void evictLocal(Long id) {
+        local.invalidate(id);
+    }
+
+    /**
+     * L1 + L2 삭제 (다른 인스턴스 L1은 TwoTierCacheRegistry가 메시지로 삭제)
+     */
+    void evict(Long id) {
+        local.invalidate(id);
+        try {
+            stringRedisTemplate.delete(key(id));
+        } catch (Exception e) {
+            log.warn("L2 캐시 삭제 실패: cache={}, id={}, error={}", name, id, e.getMessage());
+        }
+    }
+
+    // ==================== L2 (Redis) ====================
+
+    private Map<Long, V> getRemote(List<Long> ids) {
+        Map<Long, V> found = new HashMap<>();
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(this::key).collect(Collectors.toList()));
+            if (values == null) {
+                return found;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                String json = values.get(i);
+                if (json != null) {
+                    found.put(ids.get(i), objectMapper.readValue(json, type));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패: cache={}, error={}", name, e.getMessage());
+        }
+        return found;
+    }
+
+    private void putRemote(Map<Long, V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, String> serialized = new HashMap<>();
+            for (Map.Entry<Long, V> entry : values.entrySet()) {
+                serialized.put(key(entry.getKey()), objectMapper.writeValueAsString(entry.getValue()));
+            }
+            long ttlSeconds = remoteTtl.toSeconds();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                serialized.forEach((key, json) -> conn.setEx(key, ttlSeconds, json));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패: cache={}, error={}", name, e.getMessage());
+        }
+    }
+
+    private String key(Long id) {
+        return "naos:cache:" + name + ":" + id;
+    }
+}
@@ -0,0 +1,104 @@
+package com.moni.naos.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.global.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * TwoTierCacheRegistry - TwoTierCache 생성 및 인스턴스 간 무효화
+ *
+ * 무효화 메시지: naos:cache:invalidate 채널, 본문 "{cacheName}:{id}:{instanceId}"
+ * - 다른 인스턴스가 수신해 로컬 캐시 삭제 (발행한 인스턴스는 이미 처리했으므로 무시)
+ * - TwoTierCache 외의 로컬 캐시도 registerLocal로 등록해 같은 채널 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoTierCacheRegistry implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "naos:cache:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /** 캐시 이름 → 로컬 삭제 함수 */
+    private final Map<String, Consumer<Long>> localEvictors = new ConcurrentHashMap<>();
+
+    /** 자기 메시지 구분용 */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        log.info("캐시 무효화 채널 구독: {}", INVALIDATE_CHANNEL);
+    }
+
+    public <V> TwoTierCache<V> create(String name, Class<V> type, long localMaxSize,
+                                      Duration localTtl, Duration remoteTtl) {
+        TwoTierCache<V> cache = new TwoTierCache<>(name, type, localMaxSize, localTtl, remoteTtl,
+                stringRedisTemplate, objectMapper);
+        registerLocal(name, cache::evictLocal);
+        return cache;
+    }
+
+    /**
+     * 로컬 캐시 등록 (다른 인스턴스의 무효화 메시지 수신 시 evictor 호출)
+     */
+    public void registerLocal(String name, Consumer<Long> evictor) {
+        localEvictors.put(name, evictor);
+    }
+
+    /**
+     * 다른 인스턴스에 로컬 캐시 삭제 전파 (즉시)
+     */
+    public void publishEvict(String name, Long id) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, name + ":" + id + ":" + instanceId);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 전파 실패: cache={}, id={}, error={}", name, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 무효화 (커밋 후 L1/L2 삭제 + 다른 인스턴스에 전파)
+     */
+    public void invalidate(TwoTierCache<?> cache, Long id) {
+        TransactionUtil.afterCommit(() -> {
+            cache.evict(id);
+            publishEvict(cache.getName(), id);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3 || instanceId.equals(parts[2])) {
+            return;
+        }
+
+        Consumer<Long> evictor = localEvictors.get(parts[0]);
+        if (evictor != null) {
+            try {
+                evictor.accept(Long.valueOf(parts[1]));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 캐시 무효화 메시지: {}", String.join(":", parts));
+            }
+        }
+    }
+}
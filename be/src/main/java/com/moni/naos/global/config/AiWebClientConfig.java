@@ -1,16 +1,27 @@
 package com.moni.naos.global.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
 /**
  * AI 서버 WebClient 설정
+ *
+ * - Flask AI 서버 호출은 모두 WebClient(Reactor Netty) 하나의 스택으로 처리 (RestTemplate 제거)
+ * - 이벤트 루프는 공유, 커넥션 풀은 엔드포인트 성격별로 분리
+ *   - whisper: 수 분 걸리는 전사 → 적은 커넥션, 긴 응답 타임아웃
+ *   - llm: 짧은 GPT 호출 / 헬스 체크 → 많은 커넥션
+ * - 풀이 가득 차면 pending-acquire 대기열에서 기다리고, 대기열 초과/대기 시간 초과 시 즉시 실패
+ *   (느린 전사가 분석 요청의 커넥션을 잠식하지 않음)
  */
 @Configuration
 public class AiWebClientConfig {
@@ -21,9 +32,45 @@ public class AiWebClientConfig {
     @Value("${ai.server.timeout:30000}")
     private int timeout;
 
+    @Value("${ai.server.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    // ==================== 커넥션 풀 ====================
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiWhisperConnectionProvider(
+            @Value("${ai.server.pool.whisper.max-connections:4}") int maxConnections,
+            @Value("${ai.server.pool.whisper.pending-acquire-max:50}") int pendingAcquireMax,
+            @Value("${ai.server.pool.whisper.pending-acquire-timeout-ms:60000}") long pendingAcquireTimeoutMs) {
+        return pool("ai-whisper", maxConnections, pendingAcquireMax, pendingAcquireTimeoutMs);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiLlmConnectionProvider(
+            @Value("${ai.server.pool.llm.max-connections:16}") int maxConnections,
+            @Value("${ai.server.pool.llm.pending-acquire-max:200}") int pendingAcquireMax,
+            @Value("${ai.server.pool.llm.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs) {
+        return pool("ai-llm", maxConnections, pendingAcquireMax, pendingAcquireTimeoutMs);
+    }
+
+    // ==================== WebClient ====================
+
+    /** GPT 분석 / 헬스 체크용 (기본) */
     @Bean
-    public WebClient aiWebClient() {
-        HttpClient httpClient = HttpClient.create()
+    @Primary
+    public WebClient aiWebClient(@Qualifier("aiLlmConnectionProvider") ConnectionProvider provider) {
+        return webClient(provider);
+    }
+
+    /** Whisper 전사용 */
+    @Bean
+    public WebClient aiWhisperWebClient(@Qualifier("aiWhisperConnectionProvider") ConnectionProvider provider) {
+        return webClient(provider);
+    }
+
+    private WebClient webClient(ConnectionProvider provider) {
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
                 .responseTimeout(Duration.ofMillis(timeout));
 
         return WebClient.builder()
@@ -31,4 +78,16 @@ public class AiWebClientConfig {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
+
+    private static ConnectionProvider pool(String name, int maxConnections, int pendingAcquireMax,
+                                           long pendingAcquireTimeoutMs) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))        // Flask(gunicorn) keep-alive보다 짧게
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
 }
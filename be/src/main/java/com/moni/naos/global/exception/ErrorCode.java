@@ -54,7 +54,9 @@ public enum ErrorCode {
     // ==================== AI ====================
     AI_SERVER_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "AI001", "AI 서버 오류가 발생했습니다."),
     STT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI002", "음성 인식에 실패했습니다."),
-    COST_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI003", "가성비 분석에 실패했습니다.");
+    COST_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI003", "가성비 분석에 실패했습니다."),
+    AI_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI004", "AI 서버가 혼잡합니다. 잠시 후 다시 시도해주세요."),
+    AI_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI005", "AI 서버를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
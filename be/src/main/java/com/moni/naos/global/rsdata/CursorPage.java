@@ -2,6 +2,8 @@ package com.moni.naos.global.rsdata;
 
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -11,6 +13,10 @@ import java.util.List;
  * - offset보다 성능이 좋음 (뒤로 갈수록 느려지지 않음)
  * - 실시간 데이터 변경에도 중복/누락 없음
  * 
+ * 커서는 (정렬 키, id) 조합을 인코딩한 불투명 토큰
+ * - 최신순: id만 사용
+ * - 점수순(인기/가성비): 점수 + id (동점 처리)
+ * 
  * @param <T> 데이터 타입
  */
 @Getter
@@ -26,10 +32,10 @@ public class CursorPage<T> {
     private List<T> content;
     
     /**
-     * 다음 페이지 커서
+     * 다음 페이지 커서 (불투명 토큰, 그대로 다음 요청의 cursor로 전달)
      * null이면 마지막 페이지
      */
-    private Long nextCursor;
+    private String nextCursor;
     
     /**
      * 다음 페이지 존재 여부
@@ -51,7 +57,7 @@ public class CursorPage<T> {
     /**
      * 데이터와 다음 커서로 생성
      */
-    public static <T> CursorPage<T> of(List<T> content, Long nextCursor, boolean hasNext) {
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor, boolean hasNext) {
         return CursorPage.<T>builder()
                 .content(content)
                 .nextCursor(nextCursor)
@@ -63,7 +69,7 @@ public class CursorPage<T> {
     /**
      * 전체 개수 포함하여 생성
      */
-    public static <T> CursorPage<T> of(List<T> content, Long nextCursor, boolean hasNext, Long totalCount) {
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor, boolean hasNext, Long totalCount) {
         return CursorPage.<T>builder()
                 .content(content)
                 .nextCursor(nextCursor)
@@ -84,4 +90,62 @@ public class CursorPage<T> {
                 .size(0)
                 .build();
     }
+
+    // ==================== 커서 인코딩/디코딩 ====================
+
+    /** 정렬 키가 없는 경우 (null 점수 포함) 토큰 표기 */
+    private static final String NO_KEY = "_";
+
+    /**
+     * id만으로 커서 생성 (최신순)
+     */
+    public static String encodeCursor(Long id) {
+        return encodeCursor(null, id);
+    }
+
+    /**
+     * (정렬 키, id)로 커서 생성 (점수순)
+     */
+    public static String encodeCursor(Double sortKey, Long id) {
+        if (id == null) {
+            return null;
+        }
+        String raw = (sortKey != null ? Double.toString(sortKey) : NO_KEY) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     * - null/빈 값이면 null (첫 페이지)
+     * - 숫자만 있으면 기존 id 커서로 취급 (하위 호환)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static Cursor decodeCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            if (token.chars().allMatch(Character::isDigit)) {
+                return new Cursor(null, Long.parseLong(token));
+            }
+
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(':');
+            String key = raw.substring(0, sep);
+            Long id = Long.parseLong(raw.substring(sep + 1));
+
+            return new Cursor(NO_KEY.equals(key) ? null : Double.parseDouble(key), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 해석된 커서
+     * @param sortKey 마지막 아이템의 정렬 키 (없거나 null 점수면 null)
+     * @param id      마지막 아이템의 id
+     */
+    public record Cursor(Double sortKey, Long id) {}
 }
@@ -0,0 +1,26 @@
+package com.moni.naos.global.scheduler;
+
+import com.moni.naos.domain.recipe.service.RecipeCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * CounterFlushBatch - 좋아요/북마크 카운터 증감을 DB(recipe_stats)에 주기적으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterFlushBatch {
+
+    private final RecipeCounterService recipeCounterService;
+
+    @Scheduled(fixedDelayString = "${custom.counter.flush-interval-ms:5000}")
+    public void run() {
+        int flushed = recipeCounterService.flush();
+        if (flushed > 0) {
+            log.debug("카운터 flush 완료: {}개 레시피", flushed);
+        }
+    }
+}
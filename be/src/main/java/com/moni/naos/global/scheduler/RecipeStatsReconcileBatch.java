@@ -0,0 +1,41 @@
+package com.moni.naos.global.scheduler;
+
+import com.moni.naos.domain.recipe.service.RecipeStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * RecipeStatsReconcileBatch - recipe_stats 카운터를 실제 COUNT로 보정
+ * - 청크 단위 (recipe_id 순), 최근 갱신된 행은 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeStatsReconcileBatch {
+
+    private final RecipeStatsService recipeStatsService;
+
+    @Value("${custom.stats.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${custom.stats.reconcile.quiet-seconds:600}")
+    private long quietSeconds;
+
+    @Scheduled(cron = "${custom.stats.reconcile.cron:0 30 4 * * *}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        Long afterId = 0L;
+        int chunks = 0;
+        try {
+            while ((afterId = recipeStatsService.reconcileChunk(afterId, chunkSize, quietSeconds)) != null) {
+                chunks++;
+            }
+            log.info("집계 보정 완료: {}개 청크, {}ms", chunks, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("집계 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.moni.naos.global.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 배치 스케줄링 활성화
+ * - custom.scheduling.enabled=false 이면 비활성 (JMH 등 측정 환경)
+ *
+ * ⭐ 전용 스케줄러 풀
+ * - 지정하지 않으면 @Scheduled가 컨텍스트의 TaskScheduler(STOMP messageBrokerTaskScheduler, CPU 수 크기)를 공유
+ *   → 긴 배치(점수/정합성/AI 헬스체크)가 브로커 하트비트, 카운트 브로드캐스트(250ms)를 지연시킴
+ * - 작업 수 이상으로 잡아 긴 배치가 짧은 주기 작업을 막지 않게 함
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "custom.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${custom.scheduling.pool-size:8}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(batchTaskScheduler());
+    }
+
+    /** 빈으로 등록해 종료 시 함께 정리 */
+    @Bean
+    public ThreadPoolTaskScheduler batchTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("naos-scheduler-");
+        return scheduler;
+    }
+}
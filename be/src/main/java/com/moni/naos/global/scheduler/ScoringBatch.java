@@ -1,4 +1,368 @@
 package com.moni.naos.global.scheduler;
 
+import com.moni.naos.domain.interaction.bookmark.repository.BookmarkRepository;
+import com.moni.naos.domain.interaction.comment.repository.CommentRepository;
+import com.moni.naos.domain.interaction.like.repository.LikeRepository;
+import com.moni.naos.domain.recipe.entity.ScoringWatermark;
+import com.moni.naos.domain.recipe.repository.CookingRepository;
+import com.moni.naos.domain.recipe.repository.ScoringWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+/**
+ * ScoringBatch - 인기 점수(scorePopular) 증분 계산 배치
+ *
+ * 점수 정의 (시간 감쇠):
+ *   score = ln( Σ weight × e^(λ × (t - EPOCH)) ),  λ = ln2 / halfLife
+ * - 모든 레시피가 같은 비율(e^(-λ × now))로 감쇠하므로, 기준 시각(EPOCH) 기준 값을 저장하면
+ *   새 상호작용이 생긴 레시피만 갱신해도 순위가 유지됨 (변경 없는 레시피는 재계산 불필요)
+ * - 로그 공간(log-sum-exp)으로 누적 → 오버플로우 없음
+ *
+ * 흐름:
+ * 1. 좋아요/북마크/댓글은 id 워터마크, 요리 완료는 (endedAt, id) 워터마크 이후만 청크 단위 조회
+ * 2. 청크별로 레시피 단위 증분 계산 → JDBC 배치 UPDATE (DB에서 원자적으로 누적)
+ * 3. ⭐ 점수 UPDATE와 워터마크 전진(scoring_watermarks)을 한 트랜잭션으로 커밋
+ *    → 중간에 죽어도 청크가 두 번 반영되지 않음, 메모리는 청크 크기로 제한
+ *
+ * - 여러 인스턴스 중 하나만 실행 (Redis 락, 청크마다 TTL 연장 - 연장 실패 시 중단)
+ * - 락이 만료되어 겹쳐도 워터마크는 version 조건부로 전진 → 한쪽 청크만 커밋
+ * - 좋아요 취소/댓글 삭제는 반영하지 않음 (감쇠로 자연히 영향 감소)
+ * - ⭐ 좋아요/북마크는 (유저, 레시피)당 최초 1회만 반영 (scored_interactions)
+ *   → 토글 시 행이 새 id로 다시 생기므로, 취소/재등록 반복으로 점수를 올릴 수 없게 함
+ * - 워터마크 행이 없으면(최초 실행) 점수를 id 구간별로 0으로 초기화한 뒤 처음부터 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
 public class ScoringBatch {
+
+    private static final String LOCK_KEY = "naos:scoring:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    /** 토큰이 같을 때만 TTL 연장 */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final List<String> SOURCES = List.of("like", "bookmark", "comment", "cooking");
+
+    /** 감쇠 기준 시각 (변경 시 전체 재계산 필요) */
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final String UPDATE_SQL =
+            "UPDATE recipes SET score_popular = " +
+            "GREATEST(COALESCE(score_popular, 0), ?) + LN(1 + EXP(-ABS(COALESCE(score_popular, 0) - ?))) " +
+            "WHERE id = ?";
+
+    private static final String RESET_SQL =
+            "UPDATE recipes SET score_popular = 0 WHERE id > ? AND id <= ?";
+
+    /** (유저, 레시피)당 최초 1회만 반영하는 소스 */
+    private static final Set<String> FIRST_ONLY_SOURCES = Set.of("like", "bookmark");
+
+    /** 청크의 유저/레시피 중 이미 반영된 조합 (유저 × 레시피 상위 집합 → 메모리에서 정확히 비교) */
+    private static final String SCORED_SQL =
+            "SELECT user_id, recipe_id FROM scored_interactions " +
+            "WHERE source = :source AND user_id IN (:userIds) AND recipe_id IN (:recipeIds)";
+
+    private static final String MARK_SCORED_SQL =
+            "INSERT IGNORE INTO scored_interactions (source, user_id, recipe_id) VALUES (?, ?, ?)";
+
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final CommentRepository commentRepository;
+    private final CookingRepository cookingRepository;
+    private final ScoringWatermarkRepository scoringWatermarkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${custom.scoring.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${custom.scoring.half-life-hours:48}")
+    private double halfLifeHours;
+
+    /** 커밋 지연 행을 놓치지 않도록 최근 N초는 다음 실행으로 미룸 */
+    @Value("${custom.scoring.lag-seconds:30}")
+    private long lagSeconds;
+
+    @Value("${custom.scoring.weight.like:1.0}")
+    private double likeWeight;
+
+    @Value("${custom.scoring.weight.bookmark:2.0}")
+    private double bookmarkWeight;
+
+    @Value("${custom.scoring.weight.comment:1.5}")
+    private double commentWeight;
+
+    @Value("${custom.scoring.weight.cooking:3.0}")
+    private double cookingWeight;
+
+    @Scheduled(fixedDelayString = "${custom.scoring.fixed-delay-ms:300000}",
+            initialDelayString = "${custom.scoring.initial-delay-ms:60000}")
+    public void run() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            log.debug("점수 배치 건너뜀 (다른 인스턴스 실행 중)");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Instant until = Instant.now().minusSeconds(lagSeconds);
+            Map<String, ScoringWatermark> watermarks = loadWatermarks(token);
+
+            PageRequest chunk = PageRequest.of(0, chunkSize);
+            int updated = 0;
+            updated += scoreById("like", likeWeight, watermarks.get("like"), token,
+                    afterId -> likeRepository.findScoringChunk(afterId, until, chunk));
+            updated += scoreById("bookmark", bookmarkWeight, watermarks.get("bookmark"), token,
+                    afterId -> bookmarkRepository.findScoringChunk(afterId, until, chunk));
+            updated += scoreById("comment", commentWeight, watermarks.get("comment"), token,
+                    afterId -> commentRepository.findScoringChunk(afterId, until, chunk));
+            updated += scoreCookings(watermarks.get("cooking"), token, until, chunk);
+
+            log.info("점수 배치 완료: 갱신 {}건, {}ms", updated, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("점수 배치 실패: {}", e.getMessage(), e);
+        } finally {
+            if (token.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    // ==================== 워터마크 / 락 ====================
+
+    /**
+     * 소스별 워터마크 (없으면 최초 실행 → 점수 초기화 후 생성)
+     */
+    private Map<String, ScoringWatermark> loadWatermarks(String token) {
+        Map<String, ScoringWatermark> watermarks = new HashMap<>();
+        scoringWatermarkRepository.findAll().forEach(w -> watermarks.put(w.getSource(), w));
+
+        if (watermarks.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM scored_interactions");
+            int reset = resetScores(token);
+            log.info("점수 배치 초기화: 워터마크 없음, {}개 레시피 점수 리셋", reset);
+        }
+
+        for (String source : SOURCES) {
+            if (!watermarks.containsKey(source)) {
+                jdbcTemplate.update(ScoringWatermarkRepository.INIT_SQL, source);
+            }
+        }
+        scoringWatermarkRepository.findAll().forEach(w -> watermarks.put(w.getSource(), w));
+        return watermarks;
+    }
+
+    /**
+     * 점수 0 초기화 - id 구간(chunkSize)별로 나눠 짧은 UPDATE로 실행 (테이블 전체 잠금 없음)
+     * - 중간에 실패해도 워터마크가 아직 없으므로 다음 실행에서 처음부터 다시 초기화
+     */
+    private int resetScores(String token) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM recipes", Long.class);
+        int reset = 0;
+        for (long from = 0; from < (maxId != null ? maxId : 0); from += chunkSize) {
+            reset += jdbcTemplate.update(RESET_SQL, from, from + chunkSize);
+            renewLock(token);
+        }
+        return reset;
+    }
+
+    /**
+     * 청크마다 락 TTL 연장 - 락을 잃었으면 중단 (다른 인스턴스가 이어서 처리)
+     */
+    private void renewLock(String token) {
+        Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY),
+                token, String.valueOf(LOCK_TTL.toMillis()));
+        if (renewed == null || renewed == 0) {
+            throw new IllegalStateException("점수 배치 락 상실");
+        }
+    }
+
+    /**
+     * 청크 점수 반영 + 워터마크 전진 (한 트랜잭션)
+     * - 다른 실행이 먼저 전진했으면 롤백 후 중단
+     */
+    private int commitChunk(ScoringWatermark watermark, List<Object[]> rows, double weight,
+                            long lastId, Instant lastAt) {
+        Integer updated = transactionTemplate.execute(status -> {
+            List<Object[]> scored = FIRST_ONLY_SOURCES.contains(watermark.getSource())
+                    ? firstScoredOnly(watermark.getSource(), rows)
+                    : rows;
+            int count = scored.isEmpty() ? 0 : applyChunk(scored, weight);
+            int advanced = jdbcTemplate.update(ScoringWatermarkRepository.ADVANCE_SQL,
+                    lastId, lastAt != null ? Timestamp.from(lastAt) : null,
+                    watermark.getSource(), watermark.getVersion());
+            if (advanced == 0) {
+                throw new IllegalStateException("점수 워터마크 경합: source=" + watermark.getSource());
+            }
+            return count;
+        });
+
+        watermark.setLastId(lastId);
+        watermark.setLastAt(lastAt);
+        watermark.setVersion(watermark.getVersion() + 1);
+        return updated != null ? updated : 0;
+    }
+
+    // ==================== 소스별 처리 ====================
+
+    /**
+     * id 워터마크 기반 소스 (좋아요/북마크/댓글)
+     * - rows: [id, recipeId, createdAt] (좋아요/북마크는 + userId)
+     */
+    private int scoreById(String source, double weight, ScoringWatermark watermark, String token,
+                          LongFunction<List<Object[]>> fetch) {
+        if (weight <= 0) {
+            return 0;
+        }
+
+        long afterId = watermark.getLastId();
+        int updated = 0;
+
+        while (true) {
+            List<Object[]> rows = fetch.apply(afterId);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            updated += commitChunk(watermark, rows, weight, afterId, null);
+            renewLock(token);
+
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        log.debug("점수 배치 소스 완료: source={}, 갱신 {}건", source, updated);
+        return updated;
+    }
+
+    /**
+     * 요리 완료 (endedAt이 나중에 채워지므로 (endedAt, id) 워터마크)
+     * - rows: [id, recipeId, endedAt]
+     */
+    private int scoreCookings(ScoringWatermark watermark, String token, Instant until, PageRequest chunk) {
+        if (cookingWeight <= 0) {
+            return 0;
+        }
+
+        Instant afterAt = watermark.getLastAt() != null ? watermark.getLastAt() : Instant.EPOCH;
+        long afterId = watermark.getLastId();
+        int updated = 0;
+
+        while (true) {
+            List<Object[]> rows = cookingRepository.findCompletedScoringChunk(afterAt, afterId, until, chunk);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Object[] last = rows.get(rows.size() - 1);
+            afterId = (Long) last[0];
+            afterAt = (Instant) last[2];
+            updated += commitChunk(watermark, rows, cookingWeight, afterId, afterAt);
+            renewLock(token);
+
+            if (rows.size() < chunk.getPageSize()) {
+                break;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 이미 반영된 (유저, 레시피) 조합을 제외하고 나머지를 반영 완료로 기록
+     * - rows: [id, recipeId, createdAt, userId]
+     * - 같은 청크 안의 재등록도 최초 1건만 남김
+     */
+    private List<Object[]> firstScoredOnly(String source, List<Object[]> rows) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> recipeIds = new HashSet<>();
+        for (Object[] row : rows) {
+            recipeIds.add((Long) row[1]);
+            userIds.add((Long) row[3]);
+        }
+
+        Set<List<Long>> scored = new HashSet<>();
+        namedParameterJdbcTemplate.query(SCORED_SQL,
+                Map.of("source", source, "userIds", userIds, "recipeIds", recipeIds),
+                rs -> {
+                    scored.add(List.of(rs.getLong(1), rs.getLong(2)));
+                });
+
+        List<Object[]> first = new ArrayList<>();
+        List<Object[]> marks = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (scored.add(List.of((Long) row[3], (Long) row[1]))) {
+                first.add(row);
+                marks.add(new Object[]{source, row[3], row[1]});
+            }
+        }
+        if (!marks.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_SCORED_SQL, marks);
+        }
+        return first;
+    }
+
+    // ==================== 점수 계산 ====================
+
+    /**
+     * 청크 → 레시피별 증분(로그 공간) 합산 → 배치 UPDATE
+     * @return 갱신된 레시피 수
+     */
+    private int applyChunk(List<Object[]> rows, double weight) {
+        double logWeight = Math.log(weight);
+        Map<Long, Double> deltas = new HashMap<>();
+
+        for (Object[] row : rows) {
+            Long recipeId = (Long) row[1];
+            Instant at = (Instant) row[2];
+            deltas.merge(recipeId, logWeight + decayExponent(at), ScoringBatch::logSumExp);
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((recipeId, delta) -> args.add(new Object[]{delta, delta, recipeId}));
+        jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+        return deltas.size();
+    }
+
+    /**
+     * λ × (t - EPOCH), 시간 단위
+     */
+    private double decayExponent(Instant at) {
+        double hours = (at.toEpochMilli() - EPOCH.toEpochMilli()) / 3_600_000d;
+        return Math.log(2) / halfLifeHours * hours;
+    }
+
+    /**
+     * ln(e^a + e^b) (오버플로우 없이)
+     */
+    private static double logSumExp(double a, double b) {
+        return Math.max(a, b) + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
 }
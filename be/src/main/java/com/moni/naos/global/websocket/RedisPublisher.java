@@ -4,20 +4,21 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Redis Pub/Sub Publisher
  * - 메시지를 Redis 채널에 발행
  * - 다중 서버 환경에서 동기화용
+ * - ⭐ JSON으로 1회 직렬화 후 UTF-8 그대로 발행 (RedisSubscriber가 변환 없이 브로커에 전달)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisPublisher {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
 
     /** Redis 채널 prefix */
@@ -59,7 +60,8 @@ public class RedisPublisher {
     private void publish(String channel, Object message) {
         try {
             String json = objectMapper.writeValueAsString(message);
-            redisTemplate.convertAndSend(channel, json);
+            // ⭐ String 직렬화 (JSON 값 직렬화 시 문자열이 한 번 더 인코딩됨)
+            stringRedisTemplate.convertAndSend(channel, json);
             log.debug("Redis 발행: channel={}, message={}", channel, json);
         } catch (JsonProcessingException e) {
             log.error("Redis 발행 실패: channel={}", channel, e);
@@ -1,58 +1,92 @@
 package com.moni.naos.global.websocket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Redis Pub/Sub Subscriber
  * - Redis 채널 구독
  * - 메시지 수신 시 WebSocket으로 브로드캐스트
+ *
+ * ⭐ 본문은 RedisPublisher가 직렬화한 UTF-8 JSON 바이트 그대로 브로커에 전달
+ * - 문자열 디코딩/메시지 변환 없음 → 구독자 수와 무관하게 메시지당 1회 준비
+ * - 브로커는 같은 payload 배열을 모든 구독 세션에 공유 (세션별로는 STOMP 프레임 헤더만 작성)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisSubscriber implements MessageListener {
 
+    private static final String PREFIX = "naos:";
+
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String channel = new String(message.getChannel());
-            String body = new String(message.getBody());
-
-            log.debug("Redis 수신: channel={}, body={}", channel, body);
-
-            // 채널에서 정보 추출
-            // 형식: naos:recipe:{recipeId}:comments
-            String[] parts = channel.split(":");
-
-            if (parts.length >= 4) {
-                String type = parts[1];  // recipe 또는 user
-                String id = parts[2];    // recipeId 또는 userId
-                String event = parts[3]; // comments, likes, notifications
-
-                if ("recipe".equals(type)) {
-                    // 레시피 관련 이벤트
-                    String destination = "/topic/recipes/" + id + "/" + event;
-                    messagingTemplate.convertAndSend(destination, body);
-                    log.debug("WebSocket 전송: destination={}", destination);
-                } else if ("user".equals(type)) {
-                    // 특정 유저에게 알림
-                    String destination = "/user/" + id + "/notifications";
-                    messagingTemplate.convertAndSend(destination, body);
-                    log.debug("WebSocket 전송: destination={}", destination);
-                }
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String destination = toDestination(channel);
+            if (destination == null) {
+                return;
             }
 
+            messagingTemplate.send(destination, MessageBuilder.createMessage(message.getBody(), jsonHeaders()));
+            log.debug("WebSocket 전송: destination={}, bytes={}", destination, message.getBody().length);
+
         } catch (Exception e) {
             log.error("Redis 메시지 처리 실패", e);
         }
     }
+
+    /**
+     * 채널 → STOMP 목적지
+     * - naos:recipe:{recipeId}:{event} → /topic/recipes/{recipeId}/{event}
+     * - naos:user:{userId}:{event}     → /user/{userId}/queue/{event}
+     *   → UserDestinationMessageHandler가 /queue/{event}-user{sessionId}로 변환 (simple broker의 /queue prefix)
+     *   → 클라이언트는 /user/queue/{event} 구독
+     */
+    static String toDestination(String channel) {
+        if (!channel.startsWith(PREFIX)) {
+            return null;
+        }
+        int typeEnd = channel.indexOf(':', PREFIX.length());
+        int idEnd = typeEnd < 0 ? -1 : channel.indexOf(':', typeEnd + 1);
+        if (idEnd < 0) {
+            return null;
+        }
+
+        String type = channel.substring(PREFIX.length(), typeEnd);  // recipe 또는 user
+        String idAndEvent = channel.substring(typeEnd + 1).replace(':', '/');  // {id}/{event}
+
+        if ("recipe".equals(type)) {
+            // 레시피 관련 이벤트
+            return "/topic/recipes/" + idAndEvent;
+        }
+        if ("user".equals(type)) {
+            // 특정 유저에게 알림
+            int slash = idAndEvent.indexOf('/');
+            return "/user/" + idAndEvent.substring(0, slash) + "/queue" + idAndEvent.substring(slash);
+        }
+        return null;
+    }
+
+    /**
+     * 메시지마다 새 헤더 (send가 destination을 설정하므로 mutable 유지)
+     */
+    private static MessageHeaders jsonHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
 }
@@ -1,16 +1,37 @@
 package com.moni.naos.global.websocket;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Redis 채널 구독 관리 서비스
- * - 패턴 기반 구독으로 모든 레시피/유저 채널 수신
+ *
+ * ⭐ 관심 기반 라우팅 (custom.websocket.interest-routing, 기본 true)
+ * - 유저 알림: 패턴 구독 유지 (/user 목적지는 세션 소유 서버에서만 전달됨)
+ * - 레시피 채널: 이 서버에 구독 세션이 있는 레시피만 naos:recipe:{id}:comments / :likes 구독
+ *   → StompChannelInterceptor가 SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 시 acquire/release
+ *   → 참조 수 0 → 1: 구독, 1 → 0: 구독 해제
+ * - 서버당 브로드캐스트 비용이 전체 트래픽이 아닌 로컬 구독자 수에 비례
+ * - ⭐ 레시피별 구독은 채널(SUBSCRIBE) 구독 - 패턴(PSUBSCRIBE)은 PUBLISH마다 전체 패턴 수만큼 매칭 비용
+ * - ⭐ Redis 구독/해제(블로킹 왕복)는 전용 단일 스레드에서 처리 (STOMP inbound 스레드 점유 없음)
+ *   → 작업마다 현재 참조 수 기준으로 맞추므로 acquire/release가 엇갈려도 최종 상태 일치
+ *
+ * false면 기존처럼 모든 레시피 채널 패턴 구독
  */
 @Slf4j
 @Service
@@ -20,18 +41,104 @@ public class RedisSubscriptionService {
     private final RedisMessageListenerContainer listenerContainer;
     private final RedisSubscriber redisSubscriber;
 
+    /** 레시피 ID → 로컬 STOMP 구독 수 */
+    private final Map<Long, Integer> recipeRefCounts = new ConcurrentHashMap<>();
+
+    /** 실제 Redis에 구독된 레시피 ID (구독 스레드에서만 변경) */
+    private final Set<Long> subscribedRecipes = ConcurrentHashMap.newKeySet();
+
+    /** Redis 구독/해제 전용 (순서 보장을 위해 단일 스레드) */
+    private Executor subscriptionExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "redis-subscription");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${custom.websocket.interest-routing:true}")
+    private boolean interestRouting;
+
     @PostConstruct
     public void init() {
-        // 패턴 구독: 모든 레시피 댓글
-        subscribePattern("naos:recipe:*:comments");
+        if (!interestRouting) {
+            // 패턴 구독: 모든 레시피 댓글
+            subscribePattern("naos:recipe:*:comments");
 
-        // 패턴 구독: 모든 레시피 좋아요
-        subscribePattern("naos:recipe:*:likes");
+            // 패턴 구독: 모든 레시피 좋아요
+            subscribePattern("naos:recipe:*:likes");
+        }
 
         // 패턴 구독: 모든 유저 알림
         subscribePattern("naos:user:*:notifications");
 
-        log.info("Redis Pub/Sub 구독 시작");
+        log.info("Redis Pub/Sub 구독 시작: interestRouting={}", interestRouting);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (subscriptionExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 레시피 채널 관심 등록 (로컬 구독 1건 추가)
+     * - 첫 구독이면 레시피 채널 구독 (비동기)
+     */
+    public void acquireRecipe(Long recipeId) {
+        if (!interestRouting) {
+            return;
+        }
+        if (recipeRefCounts.merge(recipeId, 1, Integer::sum) == 1) {
+            subscriptionExecutor.execute(() -> syncRecipe(recipeId));
+        }
+    }
+
+    /**
+     * 레시피 채널 관심 해제 (로컬 구독 1건 제거)
+     * - 마지막 구독이면 구독 해제 (비동기)
+     */
+    public void releaseRecipe(Long recipeId) {
+        if (!interestRouting) {
+            return;
+        }
+        boolean[] last = {false};
+        recipeRefCounts.computeIfPresent(recipeId, (id, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            last[0] = true;
+            return null;
+        });
+        if (last[0]) {
+            subscriptionExecutor.execute(() -> syncRecipe(recipeId));
+        }
+    }
+
+    /**
+     * 참조 수 기준으로 Redis 구독 상태 맞춤 (구독 스레드에서만 호출)
+     */
+    private void syncRecipe(Long recipeId) {
+        boolean wanted = recipeRefCounts.containsKey(recipeId);
+        try {
+            if (wanted && subscribedRecipes.add(recipeId)) {
+                recipeChannels(recipeId).forEach(this::subscribe);
+            } else if (!wanted && subscribedRecipes.remove(recipeId)) {
+                recipeChannels(recipeId).forEach(this::unsubscribe);
+            }
+        } catch (Exception e) {
+            // 구독 실패 시 다음 acquire에서 다시 시도
+            if (wanted) {
+                subscribedRecipes.remove(recipeId);
+            }
+            log.warn("Redis 레시피 채널 구독 변경 실패: recipeId={}, error={}", recipeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 구독 중인 레시피 채널 수
+     */
+    public int getSubscribedRecipeCount() {
+        return recipeRefCounts.size();
     }
 
     /**
@@ -42,6 +149,14 @@ public class RedisSubscriptionService {
         log.debug("Redis 패턴 구독: {}", pattern);
     }
 
+    /**
+     * 패턴 구독 해제
+     */
+    public void unsubscribePattern(String pattern) {
+        listenerContainer.removeMessageListener(redisSubscriber, new PatternTopic(pattern));
+        log.debug("Redis 패턴 구독 해제: {}", pattern);
+    }
+
     /**
      * 특정 채널 구독
      */
@@ -57,4 +172,8 @@ public class RedisSubscriptionService {
         listenerContainer.removeMessageListener(redisSubscriber, new ChannelTopic(channel));
         log.debug("Redis 채널 구독 해제: {}", channel);
     }
+
+    private static List<String> recipeChannels(Long recipeId) {
+        return List.of("naos:recipe:" + recipeId + ":comments", "naos:recipe:" + recipeId + ":likes");
+    }
 }
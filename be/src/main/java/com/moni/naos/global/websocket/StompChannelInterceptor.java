@@ -1,26 +1,68 @@
 package com.moni.naos.global.websocket;
 
-import lombok.RequiredArgsConstructor;
+import com.moni.naos.global.security.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * STOMP 메시지 인터셉터
- * - 연결 시 JWT 인증 (선택)
+ * - ⭐ CONNECT 시 JWT 인증 (Authorization: Bearer {token} 네이티브 헤더)
+ *   → 인증 정보는 세션에 저장되어 이후 프레임에 자동으로 실림 (프레임마다 토큰 파싱 없음)
+ *   → 토큰 없이 연결하면 익명 (공개 토픽 구독만 가능), 잘못된 토큰은 연결 거부
+ * - ⭐ 권한 검사는 SUBSCRIBE 시점에만
+ *   → /user/** 는 인증 필요 (principal 이름 = userId, 예: /user/queue/notifications 구독)
+ *     UserDestinationMessageHandler가 세션별 /queue/notifications-user{sessionId}로 변환
+ *   → /queue/** 직접 구독 금지 (다른 세션의 사용자 큐 접근 차단)
+ * - ⭐ SEND는 인증된 세션만 (principal 유무만 확인)
  * - 로깅
+ * - ⭐ 레시피 토픽 구독 참조 카운팅 → RedisSubscriptionService 관심 기반 구독
+ *   (세션 ID → 구독 ID → 레시피 ID 로 추적: UNSUBSCRIBE 프레임에는 구독 ID만 있음)
+ *   → 세션당 레시피 토픽 구독 수 제한 (익명 세션이 레시피 채널 Redis 구독을 무제한 늘리지 못하게)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class StompChannelInterceptor implements ChannelInterceptor {
 
-    // private final JwtTokenProvider jwtTokenProvider;  // 필요 시 주입
+    /** /topic/recipes/{recipeId}/comments, /topic/recipes/{recipeId}/likes */
+    private static final Pattern RECIPE_TOPIC = Pattern.compile("^/topic/recipes/(\\d+)/");
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RedisSubscriptionService redisSubscriptionService;
+
+    /** 세션 ID → (구독 ID → 레시피 ID) */
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    /** 세션당 레시피 토픽 구독 수 상한 */
+    @Value("${custom.websocket.max-recipe-subscriptions:20}")
+    private int maxRecipeSubscriptions = 20;
+
+    /**
+     * @param redisSubscriptionService 지연 주입 (WebSocket 설정 → 인터셉터 → 구독 서비스 → 메시징 템플릿 순환 방지)
+     */
+    public StompChannelInterceptor(JwtTokenProvider jwtTokenProvider,
+                                   @Lazy RedisSubscriptionService redisSubscriptionService) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.redisSubscriptionService = redisSubscriptionService;
+    }
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -32,28 +74,124 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             if (StompCommand.CONNECT.equals(command)) {
                 // 연결 시 처리
                 String sessionId = accessor.getSessionId();
-                log.info("WebSocket 연결: sessionId={}", sessionId);
-
-                // JWT 인증 (선택 - 주석 해제하여 사용)
-                // String token = accessor.getFirstNativeHeader("Authorization");
-                // if (token != null && token.startsWith("Bearer ")) {
-                //     String jwt = token.substring(7);
-                //     Long userId = jwtTokenProvider.getUserId(jwt);
-                //     accessor.setUser(new StompPrincipal(userId));
-                // }
+                authenticate(accessor);
+                log.info("WebSocket 연결: sessionId={}, user={}", sessionId,
+                        accessor.getUser() != null ? accessor.getUser().getName() : "anonymous");
+            }
+
+            if (StompCommand.SEND.equals(command) && accessor.getUser() == null) {
+                throw new AccessDeniedException("로그인이 필요합니다.");
             }
 
             if (StompCommand.SUBSCRIBE.equals(command)) {
                 String destination = accessor.getDestination();
                 log.debug("WebSocket 구독: destination={}", destination);
+                authorizeSubscribe(accessor.getUser(), destination);
+                onSubscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination);
+            }
+
+            if (StompCommand.UNSUBSCRIBE.equals(command)) {
+                onUnsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
             }
 
             if (StompCommand.DISCONNECT.equals(command)) {
                 String sessionId = accessor.getSessionId();
                 log.info("WebSocket 연결 해제: sessionId={}", sessionId);
+                onDisconnect(sessionId);
             }
         }
 
         return message;
     }
+
+    // ==================== 인증 / 권한 ====================
+
+    /**
+     * CONNECT 프레임의 토큰으로 인증 (세션당 1회)
+     * - setUser → StompSubProtocolHandler가 세션에 저장, 이후 모든 프레임에 동일 principal
+     */
+    private void authenticate(StompHeaderAccessor accessor) {
+        String jwt = jwtTokenProvider.resolveToken(accessor.getFirstNativeHeader("Authorization"));
+        if (jwt == null) {
+            return;
+        }
+
+        try {
+            Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            accessor.setUser(new UsernamePasswordAuthenticationToken(
+                    userId,
+                    null,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("WebSocket 인증 실패: sessionId={}, error={}", accessor.getSessionId(), e.getMessage());
+            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+        }
+    }
+
+    private void authorizeSubscribe(Principal user, String destination) {
+        if (destination == null) {
+            return;
+        }
+        if (destination.startsWith("/user/") && user == null) {
+            throw new AccessDeniedException("로그인이 필요합니다.");
+        }
+        if (destination.startsWith("/queue/")) {
+            throw new AccessDeniedException("구독할 수 없는 경로입니다.");
+        }
+    }
+
+    // ==================== 레시피 구독 참조 카운팅 ====================
+
+    private void onSubscribe(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+        Matcher matcher = RECIPE_TOPIC.matcher(destination);
+        if (!matcher.find()) {
+            return;
+        }
+
+        Long recipeId = Long.valueOf(matcher.group(1));
+        Map<String, Long> subscriptions = sessionSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>());
+        if (!subscriptions.containsKey(subscriptionId) && subscriptions.size() >= maxRecipeSubscriptions) {
+            log.warn("레시피 토픽 구독 수 초과: sessionId={}, destination={}", sessionId, destination);
+            throw new AccessDeniedException("구독할 수 있는 레시피 토픽 수를 초과했습니다.");
+        }
+        Long previous = subscriptions.put(subscriptionId, recipeId);
+
+        // 같은 구독 ID 재사용 시 이전 구독 대체
+        redisSubscriptionService.acquireRecipe(recipeId);
+        if (previous != null) {
+            redisSubscriptionService.releaseRecipe(previous);
+        }
+    }
+
+    private void onUnsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long recipeId = subscriptions.remove(subscriptionId);
+        if (recipeId != null) {
+            redisSubscriptionService.releaseRecipe(recipeId);
+        }
+    }
+
+    /**
+     * 연결 해제 시 남은 구독 일괄 해제
+     * - 클라이언트 DISCONNECT 프레임 + 세션 종료 시 두 번 올 수 있음 → remove로 1회만 처리
+     */
+    private void onDisconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(redisSubscriptionService::releaseRecipe);
+        }
+    }
 }
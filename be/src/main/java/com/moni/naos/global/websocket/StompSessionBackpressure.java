@@ -0,0 +1,203 @@
+package com.moni.naos.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StompSessionBackpressure - 세션별 송신 대기량 추적 + 병합 가능 이벤트 보류
+ *
+ * 하드 한도 (WebSocketConfig.configureWebSocketTransport)
+ * - send-time-limit / send-buffer-size-limit 초과 시 Spring이 세션 종료 (느린 클라이언트 제거)
+ *
+ * 소프트 한도 (이 클래스)
+ * - clientOutboundChannel 인터셉터: 세션별 대기 바이트 = 큐에 넣은 프레임 - 실제 전송한 프레임
+ * - 대기량이 coalesce-threshold 초과 시 병합 가능 이벤트(/topic/recipes/{id}/likes, 최신 카운트)는
+ *   바로 보내지 않고 목적지당 최신 1건만 보류 (이전 보류분은 버림 = drop-oldest)
+ * - 대기량이 임계치 절반 이하로 내려가면 보류분 전송
+ * - 보류 중에 같은 목적지 이벤트가 바로 전송되면 보류분은 이전 값이므로 버림
+ * - 댓글 등 나머지 이벤트는 그대로 큐에 쌓이고, 하드 한도 초과 시 세션 종료
+ *
+ * 대기 바이트는 세션별 FIFO(sizes)로 차감 → 큐 적재 순서 = 실제 전송 순서여야 함
+ * - WebSocketConfig에서 setPreservePublishOrder(true) (clientOutboundChannel 스레드 풀이 세션 내 순서를 바꾸지 않도록)
+ * - 보류분 재전송만 순서 보장 경로 밖 → 동시에 나가는 프레임과 크기가 뒤바뀔 수 있으나 프레임 1건 이내 오차, 전송 완료 시 0으로 수렴
+ *
+ * 지표
+ * - naos.websocket.session.queued.bytes (세션별 대기 바이트 분포, 큐 적재 시 기록)
+ * - naos.websocket.queued.bytes.max / naos.websocket.queued.bytes.total
+ * - naos.websocket.coalesced.dropped (보류 중 대체되어 버려진 이벤트 수)
+ */
+@Slf4j
+@Component
+public class StompSessionBackpressure implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    /** STOMP MESSAGE 프레임 헤더 크기 추정 (destination, subscription, message-id, content-type 등) */
+    private static final int FRAME_OVERHEAD = 160;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final DistributionSummary queuedBytes;
+    private final Counter droppedCount;
+
+    @Value("${custom.websocket.coalesce-threshold-bytes:65536}")
+    private long coalesceThreshold;
+
+    /** preSend로 전달되는 clientOutboundChannel (보류분 재전송용) */
+    private volatile MessageChannel outboundChannel;
+
+    public StompSessionBackpressure(MeterRegistry meterRegistry) {
+        this.queuedBytes = DistributionSummary.builder("naos.websocket.session.queued.bytes")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCount = Counter.builder("naos.websocket.coalesced.dropped")
+                .register(meterRegistry);
+
+        Gauge.builder("naos.websocket.queued.bytes.max", sessions,
+                        map -> map.values().stream().mapToLong(s -> s.queued.get()).max().orElse(0))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("naos.websocket.queued.bytes.total", sessions,
+                        map -> map.values().stream().mapToLong(s -> s.queued.get()).sum())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // ==================== clientOutboundChannel ====================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        outboundChannel = channel;
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state == null) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (isCoalescible(destination) && state.queued.get() > coalesceThreshold) {
+            // 목적지당 최신 1건만 보류 (이전 보류분 대체)
+            if (state.parked.put(destination, message) != null) {
+                droppedCount.increment();
+            }
+            return null;
+        }
+
+        // 최신 값이 바로 나가므로 보류 중인 이전 값은 버림 (나중에 재전송되면 최신 값을 덮어씀)
+        if (isCoalescible(destination) && state.parked.remove(destination) != null) {
+            droppedCount.increment();
+        }
+
+        int size = estimateSize(message, destination);
+        state.sizes.add(size);
+        queuedBytes.record(state.queued.addAndGet(size));
+        return message;
+    }
+
+    /**
+     * 병합 가능 이벤트 - 최신 카운트만 의미 있는 좋아요/북마크 수 (RecipeCountBroadcaster)
+     */
+    private static boolean isCoalescible(String destination) {
+        return destination != null && destination.startsWith("/topic/recipes/") && destination.endsWith("/likes");
+    }
+
+    private static int estimateSize(Message<?> message, String destination) {
+        int payload = message.getPayload() instanceof byte[] bytes ? bytes.length : 0;
+        return payload + FRAME_OVERHEAD + (destination != null ? destination.length() : 0);
+    }
+
+    /**
+     * 프레임 1건 전송 완료 (성공/실패 무관) → 대기량 차감, 여유가 생기면 보류분 전송
+     */
+    private void onSent(SessionState state) {
+        Integer size = state.sizes.poll();
+        if (size != null) {
+            state.queued.addAndGet(-size);
+        }
+
+        MessageChannel channel = outboundChannel;
+        if (channel == null || state.parked.isEmpty() || state.queued.get() > coalesceThreshold / 2) {
+            return;
+        }
+        Iterator<Message<?>> it = state.parked.values().iterator();
+        while (it.hasNext()) {
+            Message<?> parked = it.next();
+            it.remove();
+            channel.send(parked);
+        }
+    }
+
+    // ==================== WebSocket 세션 ====================
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState();
+                sessions.put(session.getId(), state);
+                // Spring의 버퍼링 데코레이터 안쪽에서 실제 전송을 관찰
+                super.afterConnectionEstablished(new TrackingSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                if (state != null && state.queued.get() > coalesceThreshold) {
+                    log.info("WebSocket 세션 종료 (송신 대기 {}B): sessionId={}, status={}",
+                            state.queued.get(), session.getId(), closeStatus);
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private final class TrackingSession extends WebSocketSessionDecorator {
+
+        private final SessionState state;
+
+        TrackingSession(WebSocketSession session, SessionState state) {
+            super(session);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                onSent(state);
+            }
+        }
+    }
+
+    private static final class SessionState {
+        private final AtomicLong queued = new AtomicLong();
+        private final Queue<Integer> sizes = new ConcurrentLinkedQueue<>();
+        private final Map<String, Message<?>> parked = new ConcurrentHashMap<>();
+    }
+}
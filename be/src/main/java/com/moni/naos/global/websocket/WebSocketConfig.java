@@ -1,12 +1,14 @@
 package com.moni.naos.global.websocket;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket + STOMP 설정
@@ -15,19 +17,38 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * - 엔드포인트: /ws
  * - 구독: /topic/recipes/{recipeId}/comments
  * - 발행: /app/recipes/{recipeId}/comments
+ * - 유저 알림: /user/queue/notifications (서버는 /user/{userId}/queue/notifications로 전송)
+ *
+ * ⭐ 세션별 송신 한도 (느린 클라이언트 보호)
+ * - send-time-limit / send-buffer-size-limit 초과 시 세션 종료
+ * - 그 전 단계에서 좋아요 수 이벤트는 StompSessionBackpressure가 최신 1건만 보류
  */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /** simple broker가 처리하는 prefix (유저 목적지는 /queue/...-user{sessionId}로 변환되어 전달) */
+    static final String[] BROKER_PREFIXES = {"/topic", "/queue"};
+
     private final StompChannelInterceptor stompChannelInterceptor;
+    private final StompSessionBackpressure stompSessionBackpressure;
+
+    @Value("${custom.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${custom.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${custom.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트가 구독하는 prefix
         // /topic/recipes/123/comments 형태로 구독
-        registry.enableSimpleBroker("/topic", "/queue");
+        // ⭐ 로컬 브로커 - 서버 간 전파는 Redis Pub/Sub (로컬 구독이 있는 레시피만, RedisSubscriptionService)
+        registry.enableSimpleBroker(BROKER_PREFIXES);
 
         // 클라이언트가 메시지 보내는 prefix
         // /app/recipes/123/comments 형태로 발행
@@ -35,6 +56,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 특정 사용자에게 메시지 보낼 때 prefix
         registry.setUserDestinationPrefix("/user");
+
+        // ⭐ 세션별 발행 순서 유지 (StompSessionBackpressure의 대기 바이트 FIFO 차감이 실제 전송 순서와 일치하도록)
+        registry.setPreservePublishOrder(true);
     }
 
     @Override
@@ -50,4 +74,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // JWT 인증 인터셉터 등록
         registration.interceptors(stompChannelInterceptor);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // ⭐ 세션별 송신 대기량 추적 + 병합 가능 이벤트 보류
+        registration.interceptors(stompSessionBackpressure);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(sendTimeLimitMs)          // 프레임 1건 전송이 이 시간 이상 걸리면 종료
+                .setSendBufferSizeLimit(sendBufferSizeLimit) // 전송 대기 버퍼 초과 시 종료
+                .setMessageSizeLimit(messageSizeLimit)      // 수신 메시지 최대 크기
+                .addDecoratorFactory(stompSessionBackpressure);
+    }
 }
@@ -1,58 +1,62 @@
 package com.moni.naos.global.websocket;
 
+import com.moni.naos.domain.interaction.comment.dto.CommentCreateRequest;
 import com.moni.naos.domain.interaction.comment.dto.CommentMessage;
+import com.moni.naos.domain.interaction.comment.service.CommentService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+
 /**
  * WebSocket STOMP 메시지 컨트롤러
  * 
  * 클라이언트 사용법:
  * 1. 연결: new SockJS('/ws')
  * 2. 구독: stompClient.subscribe('/topic/recipes/123/comments', callback)
- * 3. 발행: stompClient.send('/app/recipes/123/comments', {}, JSON.stringify(message))
+ * 3. 발행: stompClient.send('/app/recipes/123/comments', {}, JSON.stringify({content, parentId}))
+ * 4. 알림: stompClient.subscribe('/user/queue/notifications', callback) (로그인 세션만)
+ *
+ * ⭐ 발행은 CONNECT 시 인증된 세션만 가능 (StompChannelInterceptor)
+ * - 작성자는 세션 principal, 브로드캐스트 내용은 저장된 댓글 기준 (REST 댓글 작성과 동일 경로)
+ *
+ * 좋아요/북마크는 REST 토글 API로만 처리
+ * - 카운트 브로드캐스트는 RecipeCountBroadcaster가 레시피당 주기별 1건으로 병합해 발행
  */
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class WebSocketMessageController {
 
+    /** 유저별 알림 목적지 (/user/{userId}/queue/notifications → 세션별 /queue/notifications-user{sessionId}) */
+    public static final String NOTIFICATION_DESTINATION = "/queue/notifications";
+
     private final SimpMessagingTemplate messagingTemplate;
-    private final RedisPublisher redisPublisher;
+    private final CommentService commentService;
 
     /**
-     * 댓글 메시지 수신 → Redis 발행 → 모든 구독자에게 브로드캐스트
-     * 
+     * 댓글 작성 → 저장 → Redis 발행 → 모든 구독자에게 브로드캐스트
+     * - CommentService.create가 저장 후 저장된 댓글로 메시지를 만들어 발행 (집계 반영 포함)
+     *
      * 클라이언트: /app/recipes/{recipeId}/comments 로 발행
      * 구독자: /topic/recipes/{recipeId}/comments 로 수신
      */
     @MessageMapping("/recipes/{recipeId}/comments")
     public void handleComment(
             @DestinationVariable Long recipeId,
-            CommentMessage message
+            @Valid @Payload CommentCreateRequest request,
+            Principal principal
     ) {
-        log.info("댓글 메시지 수신: recipeId={}, message={}", recipeId, message);
+        Long userId = Long.valueOf(principal.getName());
+        log.info("댓글 메시지 수신: recipeId={}, userId={}", recipeId, userId);
 
-        // Redis로 발행 (다중 서버 동기화)
-        redisPublisher.publishComment(recipeId, message);
-    }
-
-    /**
-     * 좋아요 메시지 수신 → Redis 발행
-     */
-    @MessageMapping("/recipes/{recipeId}/likes")
-    public void handleLike(
-            @DestinationVariable Long recipeId,
-            LikeMessage message
-    ) {
-        log.info("좋아요 메시지 수신: recipeId={}, message={}", recipeId, message);
-
-        // Redis로 발행
-        redisPublisher.publishLike(recipeId, message);
+        commentService.create(userId, recipeId, request);
     }
 
     /**
@@ -68,20 +72,6 @@ public class WebSocketMessageController {
      * 특정 유저에게 알림 전송
      */
     public void sendNotification(Long userId, Object notification) {
-        String destination = "/user/" + userId + "/notifications";
-        messagingTemplate.convertAndSend(destination, notification);
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), NOTIFICATION_DESTINATION, notification);
     }
-
-    // ==================== 메시지 DTO ====================
-
-    /**
-     * 좋아요 메시지 DTO
-     */
-    public record LikeMessage(
-            Long recipeId,
-            Long userId,
-            boolean liked,
-            long count,
-            String type  // LIKED, UNLIKED
-    ) {}
 }
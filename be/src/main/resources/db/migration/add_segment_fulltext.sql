@@ -0,0 +1,11 @@
+-- ============================================================
+-- 전사 검색 FULLTEXT 인덱스 추가 (1회성 마이그레이션)
+-- ============================================================
+-- schema.sql 이전에 생성된 DB 전용 - 신규 DB는 schema.sql에 이미 포함
+-- ddl-auto는 FULLTEXT 인덱스를 만들지 않으므로 배포 전 수동으로 1회 실행
+-- - 전체 세그먼트를 색인하므로 트래픽이 적은 시간대에 실행
+-- - 이미 존재하면 Duplicate key name 오류 → 무시
+-- ============================================================
+
+ALTER TABLE recipe_script_segments
+    ADD FULLTEXT INDEX ft_segment_text (text) WITH PARSER ngram;  -- 전사 텍스트 검색
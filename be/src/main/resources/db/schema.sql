@@ -4,10 +4,13 @@
 -- User: 인증만 (email, password, role)
 -- Profile: 인스타 스타일 프로필
 -- Auth: OAuth, RefreshToken, 이메일인증, 비밀번호재설정
--- 총 24개 테이블
+-- 총 27개 테이블
 -- ============================================================
 
 -- Drop tables in reverse order
+DROP TABLE IF EXISTS scored_interactions;
+DROP TABLE IF EXISTS scoring_watermarks;
+DROP TABLE IF EXISTS recipe_stats;
 DROP TABLE IF EXISTS point_history;
 DROP TABLE IF EXISTS user_badges;
 DROP TABLE IF EXISTS reward_policies;
@@ -209,6 +212,7 @@ CREATE TABLE recipes (
     INDEX idx_recipe_author_created (author_id, created_at DESC),
     INDEX idx_recipe_created (created_at DESC),
     INDEX idx_recipe_score_popular (score_popular DESC),
+    INDEX idx_recipe_visibility_popular (visibility, score_popular DESC, id DESC),
     INDEX idx_recipe_score_cost (score_cost DESC)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -239,7 +243,8 @@ CREATE TABLE recipe_script_segments (
     end_sec DOUBLE,
     
     CONSTRAINT fk_segment_recipe FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE,
-    CONSTRAINT uq_recipe_seg UNIQUE (recipe_id, idx_ord)
+    CONSTRAINT uq_recipe_seg UNIQUE (recipe_id, idx_ord),
+    FULLTEXT INDEX ft_segment_text (text) WITH PARSER ngram  -- 전사 텍스트 검색
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ============================================================
@@ -337,7 +342,8 @@ CREATE TABLE cooking_session (
     CONSTRAINT fk_cooking_recipe FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE,
     CONSTRAINT uq_cooking_user_recipe UNIQUE (user_id, recipe_id),
     
-    INDEX idx_cooking_user_started (user_id, started_at)
+    INDEX idx_cooking_user_started (user_id, started_at),
+    INDEX idx_cooking_ended (ended_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ============================================================
@@ -372,11 +378,17 @@ CREATE TABLE ai_jobs (
     payload_json TEXT NOT NULL,
     result_ref VARCHAR(255),
     requested_by BIGINT NOT NULL,
+    target_id BIGINT,
+    attempts INT NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    locked_at TIMESTAMP(6) NULL,
+    last_error VARCHAR(1000),
     created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     
     CONSTRAINT fk_aijob_user FOREIGN KEY (requested_by) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_aijob_status_created (status, created_at)
+    INDEX idx_aijob_status_created (status, created_at),
+    INDEX idx_aijob_status_next (status, next_run_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ============================================================
@@ -455,5 +467,39 @@ CREATE TABLE point_history (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ============================================================
--- Schema Creation Complete (24 tables)
+-- 25. recipe_stats - 레시피 집계 카운터 (좋아요/북마크/댓글/요리 완료)
+-- ============================================================
+CREATE TABLE recipe_stats (
+    recipe_id BIGINT PRIMARY KEY,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    bookmark_count BIGINT NOT NULL DEFAULT 0,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    cook_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+
+    CONSTRAINT fk_stats_recipe FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ============================================================
+-- 26. scoring_watermarks - 인기 점수 배치 처리 위치 (점수 UPDATE와 같은 트랜잭션)
+-- ============================================================
+CREATE TABLE scoring_watermarks (
+    source VARCHAR(32) PRIMARY KEY,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    last_at TIMESTAMP(6) NULL,
+    version BIGINT NOT NULL DEFAULT 0
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ============================================================
+-- 27. scored_interactions - 점수에 반영된 (소스, 유저, 레시피) (토글 반복 중복 반영 방지)
+-- ============================================================
+CREATE TABLE scored_interactions (
+    source VARCHAR(32) NOT NULL,
+    user_id BIGINT NOT NULL,
+    recipe_id BIGINT NOT NULL,
+    PRIMARY KEY (source, user_id, recipe_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ============================================================
+-- Schema Creation Complete (27 tables)
 -- ============================================================
@@ -0,0 +1,49 @@
+package com.moni.naos.domain.ai.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiResilienceTest {
+
+    private final AiResilience aiResilience = new AiResilience(new MockEnvironment()
+            .withProperty("ai.server.timeout", "1000")
+            .withProperty("ai.server.resilience.whisper.min-timeout-ms", "50")
+            .withProperty("ai.server.resilience.whisper.max-timeout-ms", "5000")
+            .withProperty("ai.server.resilience.llm.min-timeout-ms", "50")
+            .withProperty("ai.server.resilience.llm.max-timeout-ms", "5000"),
+            new SimpleMeterRegistry());
+
+    @Test
+    void 짧은_전사가_이어져도_긴_전사는_고정_타임아웃으로_허용() {
+        warmUp(AiResilience.Endpoint.WHISPER);
+
+        String result = aiResilience.guard(AiResilience.Endpoint.WHISPER,
+                () -> Mono.delay(Duration.ofMillis(300)).thenReturn("long")).block();
+
+        assertThat(result).isEqualTo("long");
+    }
+
+    @Test
+    void LLM은_최근_지연_기준_적응형_타임아웃() {
+        warmUp(AiResilience.Endpoint.LLM);
+
+        assertThatThrownBy(() -> aiResilience.guard(AiResilience.Endpoint.LLM,
+                () -> Mono.delay(Duration.ofMillis(300)).thenReturn("slow")).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    /** 지연이 거의 없는 성공 표본 20건 */
+    private void warmUp(AiResilience.Endpoint endpoint) {
+        for (int i = 0; i < 20; i++) {
+            aiResilience.guard(endpoint, () -> Mono.just("ok")).block();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.moni.naos.domain.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.dto.CostAnalysisRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiResilience.guard를 대체해 배치별 응답 시점을 테스트가 제어 (WebClient 호출 없음)
+ */
+class CostAnalysisBatcherTest {
+
+    private static final int MAX_SIZE = 2;
+    private static final int CONCURRENCY = 2;
+
+    private final AiResilience aiResilience = mock(AiResilience.class);
+
+    /** guard 호출(= 전송된 배치)마다 응답 sink */
+    private final List<Sinks.One<List<String>>> batches = new CopyOnWriteArrayList<>();
+
+    private CostAnalysisBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new CostAnalysisBatcher(mock(WebClient.class), new ObjectMapper(), aiResilience);
+        ReflectionTestUtils.setField(batcher, "maxSize", MAX_SIZE);
+        ReflectionTestUtils.setField(batcher, "maxWaitMs", 200L);
+        ReflectionTestUtils.setField(batcher, "concurrency", CONCURRENCY);
+
+        when(aiResilience.guard(any(), any())).thenAnswer(inv -> {
+            Sinks.One<List<String>> response = Sinks.one();
+            batches.add(response);
+            return response.asMono();
+        });
+        batcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.stop();
+    }
+
+    @Test
+    void 동시_배치가_가득_차면_나머지는_큐에서_대기() throws Exception {
+        List<CompletableFuture<String>> results = submit(6);
+
+        await(() -> batches.size() == CONCURRENCY);
+        Thread.sleep(100);
+        assertThat(batches).hasSize(CONCURRENCY);
+        assertThat(results).noneMatch(CompletableFuture::isDone);
+
+        respond(0, "a", "b");
+        assertThat(results.get(0).get(1, TimeUnit.SECONDS)).isEqualTo(item("a"));
+        assertThat(results.get(1).get(1, TimeUnit.SECONDS)).isEqualTo(item("b"));
+
+        // 슬롯 1개가 비었으므로 다음 배치 1건만 전송
+        await(() -> batches.size() == CONCURRENCY + 1);
+        Thread.sleep(50);
+        assertThat(batches).hasSize(CONCURRENCY + 1);
+
+        respond(1, "c", "d");
+        respond(2, "e", "f");
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isNotNull();
+        }
+    }
+
+    @Test
+    void 배치_실패는_해당_배치_호출자만_실패하고_이후_요청은_정상_처리() throws Exception {
+        List<CompletableFuture<String>> first = submit(2);
+        await(() -> batches.size() == 1);
+        batches.get(0).tryEmitError(new IllegalStateException("llm down"));
+
+        assertThatThrownBy(() -> first.get(0).get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThatThrownBy(() -> first.get(1).get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        List<CompletableFuture<String>> second = submit(2);
+        await(() -> batches.size() == 2);
+        respond(1, "x", "y");
+        assertThat(second.get(0).get(1, TimeUnit.SECONDS)).isEqualTo(item("x"));
+    }
+
+    @Test
+    void 응답_항목이_부족하면_누락된_호출자만_실패() throws Exception {
+        List<CompletableFuture<String>> results = submit(2);
+        await(() -> batches.size() == 1);
+        respond(0, "only");
+
+        assertThat(results.get(0).get(1, TimeUnit.SECONDS)).isEqualTo(item("only"));
+        assertThatThrownBy(() -> results.get(1).get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+    }
+
+    @Test
+    void 파이프라인이_중단되면_대기_중인_호출자를_실패시키고_재시작() throws Exception {
+        doThrow(new IllegalStateException("unexpected"))
+                .doAnswer(inv -> {
+                    Sinks.One<List<String>> response = Sinks.one();
+                    batches.add(response);
+                    return response.asMono();
+                })
+                .when(aiResilience).guard(any(), any());
+
+        List<CompletableFuture<String>> broken = submit(2);
+        assertThatThrownBy(() -> broken.get(0).get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThatThrownBy(() -> broken.get(1).get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        List<CompletableFuture<String>> next = submit(1);
+        await(() -> batches.size() == 1);
+        respond(0, "ok");
+        assertThat(next.get(0).get(1, TimeUnit.SECONDS)).isEqualTo(item("ok"));
+    }
+
+    @Test
+    void 종료_시_응답을_기다리던_호출자는_실패() {
+        List<CompletableFuture<String>> results = submit(3);
+        await(() -> batches.size() == CONCURRENCY);
+
+        batcher.stop();
+
+        for (CompletableFuture<String> result : results) {
+            assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        }
+    }
+
+    // ==================== Helper ====================
+
+    private List<CompletableFuture<String>> submit(int count) {
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CostAnalysisRequest request = CostAnalysisRequest.builder().recipeId((long) i).title("r" + i).build();
+            results.add(batcher.submit(request).toFuture());
+        }
+        return results;
+    }
+
+    private void respond(int batch, String... ids) {
+        List<String> items = new ArrayList<>();
+        for (String id : ids) {
+            items.add(item(id));
+        }
+        batches.get(batch).tryEmitValue(items);
+    }
+
+    private static String item(String id) {
+        return "{\"id\":\"" + id + "\"}";
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.moni.naos.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.dto.AiJobRequest;
+import com.moni.naos.domain.ai.dto.AiJobResponse;
+import com.moni.naos.domain.ai.entity.AiJob;
+import com.moni.naos.domain.ai.repository.AiJobRepository;
+import com.moni.naos.domain.ai.repository.AiResultRepository;
+import com.moni.naos.domain.recipe.entity.Recipe;
+import com.moni.naos.domain.recipe.entity.RecipeAsset;
+import com.moni.naos.domain.recipe.repository.RecipeAssetRepository;
+import com.moni.naos.domain.recipe.repository.RecipeRepository;
+import com.moni.naos.domain.user.entity.User;
+import com.moni.naos.domain.user.repository.UserRepository;
+import com.moni.naos.global.websocket.RedisPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiJobServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long RECIPE_ID = 10L;
+
+    private final AiJobRepository aiJobRepository = mock(AiJobRepository.class);
+    private final RecipeRepository recipeRepository = mock(RecipeRepository.class);
+    private final RecipeAssetRepository recipeAssetRepository = mock(RecipeAssetRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final AiJobService aiJobService = new AiJobService(aiJobRepository, mock(AiResultRepository.class),
+            userRepository, recipeRepository, recipeAssetRepository, mock(RedisPublisher.class), new ObjectMapper());
+
+    private Recipe recipe;
+
+    @BeforeEach
+    void setUp() {
+        recipe = Recipe.builder().id(RECIPE_ID).author(User.builder().id(OWNER_ID).build()).build();
+        when(recipeRepository.findByIdForUpdate(RECIPE_ID)).thenReturn(Optional.of(recipe));
+        when(aiJobRepository.findFirstByKindAndTargetIdAndStatusInOrderByIdAsc(any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(aiJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void 전사_작업은_요청_URL이_아닌_저장된_영상_URL을_사용() throws Exception {
+        when(recipeAssetRepository.findFirstByRecipeAndType(recipe, RecipeAsset.Type.VIDEO))
+                .thenReturn(Optional.of(RecipeAsset.builder().type(RecipeAsset.Type.VIDEO).url("https://s3/video.mp4").build()));
+
+        aiJobService.enqueue(OWNER_ID, request("SCRIPT", "{\"videoUrl\":\"https://evil/other.mp4\"}"));
+
+        ArgumentCaptor<AiJob> captor = ArgumentCaptor.forClass(AiJob.class);
+        verify(aiJobRepository).save(captor.capture());
+        assertThat(new ObjectMapper().readTree(captor.getValue().getPayloadJson()).path("videoUrl").asText())
+                .isEqualTo("https://s3/video.mp4");
+    }
+
+    @Test
+    void 본인_레시피가_아니면_등록_거부() {
+        assertThatThrownBy(() -> aiJobService.enqueue(2L, request("NUTRITION", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(aiJobRepository, never()).save(any());
+    }
+
+    @Test
+    void 진행_중인_같은_작업이_있으면_새로_만들지_않고_반환() {
+        AiJob active = AiJob.builder().id(77L).kind(AiJob.Kind.NUTRITION).targetId(RECIPE_ID)
+                .status(AiJob.Status.RUNNING).build();
+        when(aiJobRepository.findFirstByKindAndTargetIdAndStatusInOrderByIdAsc(eq(AiJob.Kind.NUTRITION), eq(RECIPE_ID), any()))
+                .thenReturn(Optional.of(active));
+
+        AiJobResponse response = aiJobService.enqueue(OWNER_ID, request("NUTRITION", null));
+
+        assertThat(response.getJobId()).isEqualTo(77L);
+        verify(aiJobRepository, never()).save(any());
+    }
+
+    private static AiJobRequest request(String kind, String payload) {
+        return AiJobRequest.builder().kind(kind).targetId(RECIPE_ID).payload(payload).build();
+    }
+}
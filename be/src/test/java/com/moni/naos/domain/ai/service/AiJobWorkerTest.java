@@ -0,0 +1,160 @@
+package com.moni.naos.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moni.naos.domain.ai.client.AiResilience;
+import com.moni.naos.domain.ai.client.AsrClient;
+import com.moni.naos.domain.ai.dto.CostAnalysisResult;
+import com.moni.naos.domain.ai.entity.AiJob;
+import com.moni.naos.domain.recipe.service.TranscriptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiJobWorkerTest {
+
+    private static final int WORKERS = 2;
+
+    private final AiJobService aiJobService = mock(AiJobService.class);
+    private final AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+    private final AiResilience aiResilience = mock(AiResilience.class);
+
+    /** claim에 전달된 limit 기록 */
+    private final List<Integer> claimLimits = new CopyOnWriteArrayList<>();
+    /** jobId(=recipeId) → 분석 결과 (테스트가 완료 시점 제어) */
+    private final Map<Long, CompletableFuture<CostAnalysisResult>> analyses = new ConcurrentHashMap<>();
+    private final AtomicLong jobIds = new AtomicLong();
+
+    private AiJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new AiJobWorker(aiJobService, mock(AsrClient.class), aiAnalysisService,
+                mock(TranscriptService.class), mock(AiSingleFlight.class), aiResilience,
+                mock(TranscriptStreamIngestor.class), new ObjectMapper());
+        ReflectionTestUtils.setField(worker, "workers", WORKERS);
+        worker.init();
+
+        when(aiResilience.isAvailable(any())).thenReturn(true);
+        when(aiJobService.claim(anyInt())).thenAnswer(inv -> {
+            int limit = inv.getArgument(0);
+            claimLimits.add(limit);
+            List<AiJob> jobs = new ArrayList<>();
+            for (int i = 0; i < limit; i++) {
+                jobs.add(nutritionJob(jobIds.incrementAndGet()));
+            }
+            return jobs;
+        });
+        when(aiAnalysisService.analyzeAndSaveCostScoreAsync(anyLong(), any()))
+                .thenAnswer(inv -> analyses.computeIfAbsent(inv.getArgument(0), id -> new CompletableFuture<>()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        analyses.values().forEach(f -> f.complete(new CostAnalysisResult()));
+        worker.shutdown();
+    }
+
+    @Test
+    void 슬롯이_모두_차면_claim하지_않고_작업이_끝난_만큼만_다시_claim() {
+        worker.poll();
+        worker.poll();
+        assertThat(claimLimits).containsExactly(WORKERS);
+
+        analyses.computeIfAbsent(1L, id -> new CompletableFuture<>()).complete(new CostAnalysisResult());
+        verify(aiJobService, timeout(1000)).complete(eq(1L), anyString());
+
+        // 완료 기록 → 슬롯 반납 사이의 짧은 간격 동안은 claim하지 않음
+        long deadline = System.currentTimeMillis() + 1000;
+        while (claimLimits.size() < 2 && System.currentTimeMillis() < deadline) {
+            worker.poll();
+            Thread.onSpinWait();
+        }
+        assertThat(claimLimits).containsExactly(WORKERS, 1);
+
+        worker.poll();
+        assertThat(claimLimits).containsExactly(WORKERS, 1);
+    }
+
+    @Test
+    void 풀이_거부한_작업은_즉시_반환하고_슬롯도_복구() throws InterruptedException {
+        worker.shutdown();
+
+        worker.poll();
+        verify(aiJobService).release(List.of(1L, 2L));
+
+        worker.poll();
+        assertThat(claimLimits).containsExactly(WORKERS, WORKERS);
+    }
+
+    @Test
+    void claim_실패_시_슬롯_복구() {
+        when(aiJobService.claim(anyInt()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenAnswer(inv -> {
+                    claimLimits.add(inv.getArgument(0));
+                    return List.of();
+                });
+
+        worker.poll();
+        worker.poll();
+
+        assertThat(claimLimits).containsExactly(WORKERS);
+    }
+
+    @Test
+    void 실행_중인_작업만_heartbeat() {
+        List<List<Long>> beats = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            beats.add(List.copyOf(inv.<Collection<Long>>getArgument(0)));
+            return null;
+        }).when(aiJobService).heartbeat(any());
+
+        worker.poll();
+        verify(aiAnalysisService, timeout(1000).times(WORKERS)).analyzeAndSaveCostScoreAsync(anyLong(), any());
+        worker.heartbeat();
+        assertThat(beats.get(0)).containsExactlyInAnyOrder(1L, 2L);
+
+        // 끝난 작업은 heartbeat 대상에서 제외
+        analyses.get(1L).complete(new CostAnalysisResult());
+        verify(aiJobService, timeout(1000)).complete(eq(1L), anyString());
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!beats.get(beats.size() - 1).equals(List.of(2L)) && System.currentTimeMillis() < deadline) {
+            worker.heartbeat();
+            Thread.onSpinWait();
+        }
+        assertThat(beats.get(beats.size() - 1)).containsExactly(2L);
+    }
+
+    private static AiJob nutritionJob(Long id) {
+        return AiJob.builder()
+                .id(id)
+                .kind(AiJob.Kind.NUTRITION)
+                .status(AiJob.Status.RUNNING)
+                .targetId(id)
+                .payloadJson("[]")
+                .attempts(1)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.moni.naos.domain.ai.service;
+
+import com.moni.naos.domain.ai.dto.CostAnalysisRequest;
+import com.moni.naos.domain.ai.dto.CostAnalysisRequest.Ingredient;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CostAnalysisCacheTest {
+
+    @Test
+    void 재료_순서와_표기_차이는_무시() {
+        String a = CostAnalysisCache.fingerprint(request("다이어트 도시락", 20, "EASY", List.of(
+                ingredient("닭가슴살", "150", "g", 3000),
+                ingredient("브로콜리", "100", "g", null))));
+        String b = CostAnalysisCache.fingerprint(request("다른 제목", 20, "EASY", List.of(
+                ingredient(" 브로 콜리 ", "100", "G", null),
+                ingredient("닭가슴살", "１５０", "g", 3000))));
+
+        assertThat(a).isNotNull().hasSize(64).isEqualTo(b);
+    }
+
+    @Test
+    void 재료_수량_가격_조리시간_난이도가_다르면_다른_fingerprint() {
+        List<Ingredient> base = List.of(ingredient("두부", "1", "모", 2000));
+        String fingerprint = CostAnalysisCache.fingerprint(request("두부", 10, "EASY", base));
+
+        assertThat(CostAnalysisCache.fingerprint(request("두부", 10, "EASY",
+                List.of(ingredient("두부", "2", "모", 2000))))).isNotEqualTo(fingerprint);
+        assertThat(CostAnalysisCache.fingerprint(request("두부", 10, "EASY",
+                List.of(ingredient("두부", "1", "모", 2500))))).isNotEqualTo(fingerprint);
+        assertThat(CostAnalysisCache.fingerprint(request("두부", 15, "EASY", base))).isNotEqualTo(fingerprint);
+        assertThat(CostAnalysisCache.fingerprint(request("두부", 10, "HARD", base))).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void 재료가_없으면_캐시하지_않음() {
+        List<Ingredient> blankOnly = new ArrayList<>();
+        blankOnly.add(null);
+        blankOnly.add(ingredient("  ", "1", "개", null));
+
+        assertThat(CostAnalysisCache.fingerprint(request("제목만", 10, "EASY", null))).isNull();
+        assertThat(CostAnalysisCache.fingerprint(request("제목만", 10, "EASY", List.of()))).isNull();
+        assertThat(CostAnalysisCache.fingerprint(request("제목만", 10, "EASY", blankOnly))).isNull();
+    }
+
+    private static CostAnalysisRequest request(String title, Integer cookingTime, String difficulty,
+                                               List<Ingredient> ingredients) {
+        return CostAnalysisRequest.builder()
+                .recipeId(1L)
+                .title(title)
+                .cookingTimeMinutes(cookingTime)
+                .difficulty(difficulty)
+                .ingredients(ingredients)
+                .build();
+    }
+
+    private static Ingredient ingredient(String name, String quantity, String unit, Integer price) {
+        return Ingredient.builder()
+                .name(name)
+                .quantity(quantity)
+                .unit(unit)
+                .estimatedPrice(price)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.moni.naos.domain.recipe.dto;
+
+import com.moni.naos.domain.recipe.entity.RecipeClipSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptIndexTest {
+
+    @Test
+    void 경계만_닿는_세그먼트는_제외() {
+        TranscriptIndex index = TranscriptIndex.of(List.of(
+                segment(1L, 0, 0.0, 10.0),
+                segment(2L, 1, 10.0, 20.0),
+                segment(3L, 2, 20.0, 30.0)));
+
+        assertThat(ids(index.overlapping(10.0, 20.0))).containsExactly(2L);
+    }
+
+    @Test
+    void 앞에서_시작해_길게_이어지는_세그먼트도_포함() {
+        // 1번은 가장 먼저 시작하지만 가장 늦게 끝남 → maxEnds로 탐색 시작 위치가 당겨져야 함
+        TranscriptIndex index = TranscriptIndex.of(List.of(
+                segment(1L, 0, 0.0, 100.0),
+                segment(2L, 1, 5.0, 10.0),
+                segment(3L, 2, 50.0, 60.0)));
+
+        assertThat(ids(index.overlapping(20.0, 30.0))).containsExactly(1L);
+        assertThat(ids(index.overlapping(55.0, 70.0))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 시작_시간순으로_정렬되고_시간이_없는_세그먼트는_제외() {
+        TranscriptIndex index = TranscriptIndex.of(List.of(
+                segment(3L, 2, 20.0, 30.0),
+                segment(1L, 0, 0.0, 10.0),
+                segment(9L, 3, null, 40.0),
+                segment(2L, 1, 10.0, 20.0)));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(ids(index.overlapping(0.0, 100.0))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void 구간이_없거나_빈_인덱스면_빈_결과() {
+        TranscriptIndex index = TranscriptIndex.of(List.of(segment(1L, 0, 0.0, 10.0)));
+
+        assertThat(index.overlapping(null, 10.0)).isEmpty();
+        assertThat(index.overlapping(0.0, null)).isEmpty();
+        assertThat(TranscriptIndex.EMPTY.overlapping(0.0, 10.0)).isEmpty();
+        assertThat(index.overlapping(10.0, 20.0)).isEmpty();
+    }
+
+    @Test
+    void 전체_탐색과_결과가_같음() {
+        Random random = new Random(42);
+        List<RecipeClipSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double start = random.nextInt(3000) / 10.0;
+            double length = random.nextInt(20) == 0 ? random.nextInt(600) / 10.0 : random.nextInt(80) / 10.0;
+            segments.add(segment((long) i, i, start, start + length));
+        }
+        TranscriptIndex index = TranscriptIndex.of(segments);
+
+        for (int q = 0; q < 200; q++) {
+            double start = random.nextInt(3000) / 10.0;
+            double end = start + random.nextInt(300) / 10.0;
+
+            List<Long> expected = segments.stream()
+                    .filter(s -> s.getEndSec() > start && s.getStartSec() < end)
+                    .sorted((a, b) -> a.getStartSec().equals(b.getStartSec())
+                            ? Integer.compare(a.getIndexOrd(), b.getIndexOrd())
+                            : Double.compare(a.getStartSec(), b.getStartSec()))
+                    .map(RecipeClipSegment::getId)
+                    .toList();
+
+            assertThat(ids(index.overlapping(start, end))).as("[%s, %s)", start, end).isEqualTo(expected);
+        }
+    }
+
+    private static RecipeClipSegment segment(Long id, int indexOrd, Double startSec, Double endSec) {
+        return RecipeClipSegment.builder()
+                .id(id)
+                .indexOrd(indexOrd)
+                .text("segment " + id)
+                .startSec(startSec)
+                .endSec(endSec)
+                .build();
+    }
+
+    private static List<Long> ids(List<TranscriptSegmentDto> segments) {
+        return segments.stream().map(TranscriptSegmentDto::getId).toList();
+    }
+}
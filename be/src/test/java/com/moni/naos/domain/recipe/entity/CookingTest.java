@@ -0,0 +1,22 @@
+package com.moni.naos.domain.recipe.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CookingTest {
+
+    @Test
+    void 이미_종료된_세션은_종료_시각을_바꾸지_않음() {
+        Cooking cooking = Cooking.builder().build();
+
+        assertThat(cooking.endCooking()).isTrue();
+        Instant endedAt = cooking.getEndedAt();
+
+        assertThat(cooking.endCooking()).isFalse();
+        assertThat(cooking.getEndedAt()).isEqualTo(endedAt);
+        assertThat(cooking.isActive()).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package com.moni.naos.global.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.simp.user.UserDestinationResult;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RedisSubscriberTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RedisSubscriber subscriber = new RedisSubscriber(messagingTemplate);
+
+    @Test
+    void 레시피_채널은_토픽으로() {
+        assertThat(RedisSubscriber.toDestination("naos:recipe:12:comments")).isEqualTo("/topic/recipes/12/comments");
+        assertThat(RedisSubscriber.toDestination("naos:recipe:12:likes")).isEqualTo("/topic/recipes/12/likes");
+    }
+
+    @Test
+    void 유저_채널은_유저_목적지로() {
+        assertThat(RedisSubscriber.toDestination("naos:user:3:notifications")).isEqualTo("/user/3/queue/notifications");
+    }
+
+    @Test
+    void 유저_목적지는_세션별_브로커_큐로_변환() {
+        SimpSession session = mock(SimpSession.class);
+        when(session.getId()).thenReturn("s1");
+        SimpUser user = mock(SimpUser.class);
+        when(user.getSessions()).thenReturn(Set.of(session));
+        SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+        when(userRegistry.getUser("3")).thenReturn(user);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(RedisSubscriber.toDestination("naos:user:3:notifications"));
+        UserDestinationResult result = new DefaultUserDestinationResolver(userRegistry)
+                .resolveDestination(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+        // 클라이언트 구독(/user/queue/notifications)과 같은 목적지 + simple broker가 처리하는 prefix
+        assertThat(result).isNotNull();
+        assertThat(result.getSubscribeDestination()).isEqualTo("/user/queue/notifications");
+        assertThat(result.getTargetDestinations()).containsExactly("/queue/notifications-users1");
+        assertThat(result.getTargetDestinations())
+                .allMatch(target -> Set.of(WebSocketConfig.BROKER_PREFIXES).stream().anyMatch(target::startsWith));
+    }
+
+    @Test
+    void 알_수_없는_채널은_무시() {
+        assertThat(RedisSubscriber.toDestination("other:recipe:12:comments")).isNull();
+        assertThat(RedisSubscriber.toDestination("naos:recipe")).isNull();
+        assertThat(RedisSubscriber.toDestination("naos:recipe:12")).isNull();
+        assertThat(RedisSubscriber.toDestination("naos:cache:12:evict")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 본문_바이트를_그대로_JSON으로_전달() {
+        byte[] body = "{\"recipeId\":12}".getBytes(StandardCharsets.UTF_8);
+
+        subscriber.onMessage(new DefaultMessage("naos:recipe:12:comments".getBytes(StandardCharsets.UTF_8), body), null);
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/recipes/12/comments"), captor.capture());
+        assertThat(captor.getValue().getPayload()).isSameAs(body);
+        assertThat(captor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE))
+                .hasToString(MimeTypeUtils.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    void 목적지가_없는_채널은_전송하지_않음() {
+        subscriber.onMessage(new DefaultMessage("naos:cache:1:evict".getBytes(StandardCharsets.UTF_8), new byte[0]), null);
+
+        verifyNoInteractions(messagingTemplate);
+    }
+}
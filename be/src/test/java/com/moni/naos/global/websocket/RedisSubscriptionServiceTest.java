@@ -0,0 +1,74 @@
+package com.moni.naos.global.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RedisSubscriptionServiceTest {
+
+    private final RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+    private final RedisSubscriber subscriber = mock(RedisSubscriber.class);
+    private final RedisSubscriptionService service = new RedisSubscriptionService(container, subscriber);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "interestRouting", true);
+        // 구독 스레드 대신 호출 스레드에서 바로 실행
+        ReflectionTestUtils.setField(service, "subscriptionExecutor", (Executor) Runnable::run);
+    }
+
+    @Test
+    void 첫_구독에만_채널_구독하고_마지막_해제에만_구독_해제() {
+        ChannelTopic comments = new ChannelTopic("naos:recipe:7:comments");
+        ChannelTopic likes = new ChannelTopic("naos:recipe:7:likes");
+
+        service.acquireRecipe(7L);
+        service.acquireRecipe(7L);
+        verify(container, times(1)).addMessageListener(subscriber, comments);
+        verify(container, times(1)).addMessageListener(subscriber, likes);
+
+        service.releaseRecipe(7L);
+        verify(container, never()).removeMessageListener(eq(subscriber), any(ChannelTopic.class));
+        assertThat(service.getSubscribedRecipeCount()).isEqualTo(1);
+
+        service.releaseRecipe(7L);
+        verify(container, times(1)).removeMessageListener(subscriber, comments);
+        verify(container, times(1)).removeMessageListener(subscriber, likes);
+        assertThat(service.getSubscribedRecipeCount()).isZero();
+
+        // 이미 해제된 레시피 - 추가 해제 없음
+        service.releaseRecipe(7L);
+        verify(container, times(1)).removeMessageListener(subscriber, comments);
+    }
+
+    @Test
+    void 레시피별_구독은_패턴이_아닌_채널_구독() {
+        service.acquireRecipe(7L);
+
+        verify(container, never()).addMessageListener(eq(subscriber), any(PatternTopic.class));
+    }
+
+    @Test
+    void 관심_기반_라우팅을_끄면_레시피별_구독_없음() {
+        ReflectionTestUtils.setField(service, "interestRouting", false);
+
+        service.acquireRecipe(7L);
+        service.releaseRecipe(7L);
+
+        verify(container, never()).addMessageListener(eq(subscriber), any(ChannelTopic.class));
+        assertThat(service.getSubscribedRecipeCount()).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package com.moni.naos.global.websocket;
+
+import com.moni.naos.global.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class StompChannelInterceptorTest {
+
+    private final RedisSubscriptionService redisSubscriptionService = mock(RedisSubscriptionService.class);
+    private final StompChannelInterceptor interceptor =
+            new StompChannelInterceptor(mock(JwtTokenProvider.class), redisSubscriptionService);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void 세션별_구독과_해제가_레시피_참조수에_반영() {
+        subscribe("s1", "sub-1", "/topic/recipes/7/comments");
+        subscribe("s2", "sub-1", "/topic/recipes/7/likes");
+        verify(redisSubscriptionService, times(2)).acquireRecipe(7L);
+
+        unsubscribe("s1", "sub-1");
+        verify(redisSubscriptionService, times(1)).releaseRecipe(7L);
+
+        disconnect("s2");
+        verify(redisSubscriptionService, times(2)).releaseRecipe(7L);
+        verifyNoMoreInteractions(redisSubscriptionService);
+    }
+
+    @Test
+    void 연결_해제가_두_번_와도_한_번만_해제() {
+        subscribe("s1", "sub-1", "/topic/recipes/7/comments");
+        subscribe("s1", "sub-2", "/topic/recipes/8/comments");
+
+        disconnect("s1");
+        disconnect("s1");
+
+        verify(redisSubscriptionService).releaseRecipe(7L);
+        verify(redisSubscriptionService).releaseRecipe(8L);
+    }
+
+    @Test
+    void 같은_구독_ID로_다시_구독하면_이전_레시피_해제() {
+        subscribe("s1", "sub-1", "/topic/recipes/7/comments");
+        subscribe("s1", "sub-1", "/topic/recipes/8/comments");
+
+        verify(redisSubscriptionService).acquireRecipe(7L);
+        verify(redisSubscriptionService).acquireRecipe(8L);
+        verify(redisSubscriptionService).releaseRecipe(7L);
+
+        unsubscribe("s1", "sub-1");
+        verify(redisSubscriptionService).releaseRecipe(8L);
+    }
+
+    @Test
+    void 알_수_없는_구독_해제와_레시피가_아닌_목적지는_무시() {
+        subscribe("s1", "sub-1", "/topic/feed");
+        subscribe("s1", "sub-2", "/topic/recipes/abc/comments");
+        unsubscribe("s1", "sub-9");
+        unsubscribe("s2", "sub-1");
+        disconnect("s3");
+
+        verifyNoInteractions(redisSubscriptionService);
+    }
+
+    @Test
+    void 세션당_레시피_토픽_구독_수를_넘으면_거부() {
+        ReflectionTestUtils.setField(interceptor, "maxRecipeSubscriptions", 2);
+        subscribe("s1", "sub-1", "/topic/recipes/1/comments");
+        subscribe("s1", "sub-2", "/topic/recipes/2/comments");
+
+        assertThatThrownBy(() -> subscribe("s1", "sub-3", "/topic/recipes/3/comments"))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(redisSubscriptionService, times(0)).acquireRecipe(3L);
+
+        // 기존 구독 ID 재사용(대체)과 다른 세션은 허용
+        subscribe("s1", "sub-2", "/topic/recipes/4/comments");
+        subscribe("s2", "sub-1", "/topic/recipes/3/comments");
+        verify(redisSubscriptionService).acquireRecipe(4L);
+        verify(redisSubscriptionService).acquireRecipe(3L);
+    }
+
+    // ==================== Helper ====================
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = accessor(StompCommand.SUBSCRIBE, sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        interceptor.preSend(message(accessor), channel);
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = accessor(StompCommand.UNSUBSCRIBE, sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        interceptor.preSend(message(accessor), channel);
+    }
+
+    private void disconnect(String sessionId) {
+        interceptor.preSend(message(accessor(StompCommand.DISCONNECT, sessionId)), channel);
+    }
+
+    private static StompHeaderAccessor accessor(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
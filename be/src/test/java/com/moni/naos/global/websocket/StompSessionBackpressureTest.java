@@ -0,0 +1,102 @@
+package com.moni.naos.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StompSessionBackpressureTest {
+
+    private static final String SESSION_ID = "s1";
+    private static final String COMMENTS = "/topic/recipes/1/comments";
+    private static final String LIKES = "/topic/recipes/1/likes";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StompSessionBackpressure backpressure = new StompSessionBackpressure(meterRegistry);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    /** 실제 전송을 관찰하는 세션 (decorate가 다음 핸들러에 넘긴 세션) */
+    private WebSocketSession tracking;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(backpressure, "coalesceThreshold", 1000L);
+
+        WebSocketHandler delegate = mock(WebSocketHandler.class);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+
+        backpressure.decorate(delegate).afterConnectionEstablished(session);
+
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(captor.capture());
+        tracking = captor.getValue();
+    }
+
+    @Test
+    void 대기량이_임계치를_넘으면_좋아요_이벤트는_최신_1건만_보류_후_전송() throws Exception {
+        assertThat(backpressure.preSend(message(COMMENTS, 1200), channel)).isNotNull();
+
+        Message<?> older = message(LIKES, 10);
+        Message<?> newer = message(LIKES, 10);
+        assertThat(backpressure.preSend(older, channel)).isNull();
+        assertThat(backpressure.preSend(newer, channel)).isNull();
+        assertThat(meterRegistry.counter("naos.websocket.coalesced.dropped").count()).isEqualTo(1);
+
+        // 댓글 전송 완료 → 대기량 0 → 보류분(최신) 전송
+        tracking.sendMessage(new TextMessage("frame"));
+        verify(channel).send(newer);
+        verify(channel, never()).send(older);
+    }
+
+    @Test
+    void 바로_전송된_좋아요_이벤트는_보류_중인_이전_값을_버림() throws Exception {
+        backpressure.preSend(message(COMMENTS, 600), channel);
+        backpressure.preSend(message(COMMENTS, 600), channel);
+
+        Message<?> stale = message(LIKES, 10);
+        assertThat(backpressure.preSend(stale, channel)).isNull();
+
+        // 첫 댓글 전송 → 대기량이 임계치 이하(절반 초과)로 → 새 좋아요 이벤트는 바로 전송
+        tracking.sendMessage(new TextMessage("frame"));
+        Message<?> fresh = message(LIKES, 10);
+        assertThat(backpressure.preSend(fresh, channel)).isSameAs(fresh);
+
+        // 나머지 전송 완료 → 버려진 이전 값은 재전송되지 않음
+        tracking.sendMessage(new TextMessage("frame"));
+        tracking.sendMessage(new TextMessage("frame"));
+        verify(channel, never()).send(any());
+        assertThat(meterRegistry.counter("naos.websocket.coalesced.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 좋아요가_아닌_이벤트는_대기량과_무관하게_전송() {
+        backpressure.preSend(message(COMMENTS, 2000), channel);
+
+        Message<?> comment = message(COMMENTS, 10);
+        assertThat(backpressure.preSend(comment, channel)).isSameAs(comment);
+    }
+
+    private static Message<byte[]> message(String destination, int payloadSize) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[payloadSize], accessor.getMessageHeaders());
+    }
+}
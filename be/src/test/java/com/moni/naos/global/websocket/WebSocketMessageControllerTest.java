@@ -0,0 +1,41 @@
+package com.moni.naos.global.websocket;
+
+import com.moni.naos.domain.interaction.comment.dto.CommentCreateRequest;
+import com.moni.naos.domain.interaction.comment.service.CommentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WebSocketMessageControllerTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final CommentService commentService = mock(CommentService.class);
+    private final WebSocketMessageController controller = new WebSocketMessageController(messagingTemplate, commentService);
+
+    @Test
+    void 댓글_발행은_세션_사용자로_저장_경로를_거침() {
+        CommentCreateRequest request = CommentCreateRequest.builder().content("맛있어요").build();
+
+        controller.handleComment(12L, request, new UsernamePasswordAuthenticationToken("3", null, List.of()));
+
+        // 저장 후 브로드캐스트는 CommentService가 담당 - 컨트롤러가 직접 발행하지 않음
+        verify(commentService).create(3L, 12L, request);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void 알림은_유저_큐_목적지로_전송() {
+        Map<String, String> notification = Map.of("type", "COMMENT");
+
+        controller.sendNotification(3L, notification);
+
+        verify(messagingTemplate).convertAndSendToUser("3", "/queue/notifications", notification);
+    }
+}
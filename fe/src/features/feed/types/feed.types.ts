@@ -76,7 +76,7 @@ export interface ClipInfo {
 // 커서 페이지 응답
 export interface CursorPage<T> {
   content: T[];
-  nextCursor: number | null;
+  nextCursor: string | null;
   hasNext: boolean;
 }
 
@@ -87,7 +87,7 @@ export interface FeedFilterRequest {
   category?: string;
   difficulty?: 'EASY' | 'MEDIUM' | 'HARD';
   sortBy?: 'RECENT' | 'COST_EFFICIENCY';
-  cursor?: number;
+  cursor?: string;
   size?: number;
 }
 